@@ -0,0 +1,45 @@
+// Prueba de carga para comparar hilos de plataforma y hilos virtuales.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e CONEXIONES=2000 carga-hilos.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CONEXIONES = parseInt(__ENV.CONEXIONES || '2000', 10);
+
+export const options = {
+    scenarios: {
+        lecturas: {
+            executor: 'constant-vus',
+            vus: CONEXIONES,
+            duration: __ENV.DURACION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const respuesta = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ usernameOrEmail: __ENV.USUARIO || 'admin', password: __ENV.PASSWORD || 'admin123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(respuesta, { 'login correcto': (r) => r.status === 200 });
+    return { token: respuesta.json('accessToken') };
+}
+
+const RUTAS = [
+    '/api/v1/vehiculos?page=0&size=20',
+    '/api/v1/pedidos?page=0&size=20',
+    '/api/v1/vehiculos/libres',
+    '/api/v1/estadisticas/generales',
+];
+
+export default function (datos) {
+    const ruta = RUTAS[Math.floor(Math.random() * RUTAS.length)];
+    const respuesta = http.get(`${BASE_URL}${ruta}`, {
+        headers: { Authorization: `Bearer ${datos.token}` },
+        tags: { ruta: ruta.split('?')[0] },
+    });
+    check(respuesta, {
+        'respuesta 200': (r) => r.status === 200,
+        'sin saturación (503)': (r) => r.status !== 503,
+    });
+}
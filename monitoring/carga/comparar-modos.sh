@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Ejecuta la prueba de carga con hilos de plataforma y con hilos virtuales
+# y guarda el resumen de k6 junto con el uso de memoria e hilos de la JVM.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+CONEXIONES=${CONEXIONES:-2000}
+DURACION=${DURACION:-2m}
+DIRECTORIO=$(cd "$(dirname "$0")" && pwd)
+RESULTADOS="$DIRECTORIO/resultados"
+mkdir -p "$RESULTADOS"
+
+metrica() {
+    curl -s "$BASE_URL/actuator/metrics/$1" | sed -n 's/.*"value":\([0-9.E+]*\).*/\1/p'
+}
+
+for modo in false true; do
+    echo "== HILOS_VIRTUALES=$modo =="
+    HILOS_VIRTUALES=$modo docker-compose up -d --force-recreate transporte-app
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 2; done
+
+    k6 run -e BASE_URL="$BASE_URL" -e CONEXIONES="$CONEXIONES" -e DURACION="$DURACION" \
+        --summary-export "$RESULTADOS/k6-virtuales-$modo.json" "$DIRECTORIO/carga-hilos.js"
+
+    {
+        echo "modo_virtual=$modo"
+        echo "jvm_memoria_heap_bytes=$(metrica 'jvm.memory.used?tag=area:heap')"
+        echo "jvm_memoria_nonheap_bytes=$(metrica 'jvm.memory.used?tag=area:nonheap')"
+        echo "jvm_hilos_vivos=$(metrica jvm.threads.live)"
+        echo "jvm_hilos_pico=$(metrica jvm.threads.peak)"
+        echo "hikari_pendientes=$(metrica hikaricp.connections.pending)"
+    } > "$RESULTADOS/jvm-virtuales-$modo.txt"
+done
+
+echo "Resultados en $RESULTADOS"
@@ -0,0 +1,98 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.domain.model.RegistroAuditoria;
+import org.gersystem.transporte.domain.repository.RegistroAuditoriaRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RegistroAuditoriaDTO;
+import org.gersystem.transporte.infrastructure.auditoria.EscritorAuditoria;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Historial de quién cambió el estado de cada pedido y el conductor de cada vehículo.
+ *
+ * Los registros se toman de los cambios confirmados, en el hilo de la solicitud para conocer
+ * al usuario autenticado, y se escriben en segundo plano con {@link EscritorAuditoria}.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditoriaService {
+
+    private static final Duration RANGO_MAXIMO = Duration.ofDays(92);
+
+    private final AuditorAware<String> auditorAware;
+    private final EscritorAuditoria escritorAuditoria;
+    private final RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void pedidoModificado(PedidoModificadoEvent evento) {
+        if (evento.getEstado() != evento.getEstadoAnterior()) {
+            registrar(RegistroAuditoria.Entidad.PEDIDO, evento.getId(), "estado",
+                    Objects.toString(evento.getEstadoAnterior(), null), evento.getEstado().name());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void vehiculoModificado(VehiculoModificadoEvent evento) {
+        if (!Objects.equals(evento.getConductorIdAnterior(), evento.getConductorId())) {
+            registrar(RegistroAuditoria.Entidad.VEHICULO, evento.getId(), "conductorId",
+                    Objects.toString(evento.getConductorIdAnterior(), null), Objects.toString(evento.getConductorId(), null));
+        }
+    }
+
+    /**
+     * Registros entre {@code desde} (inclusive) y {@code hasta} (exclusive), del más reciente al
+     * más antiguo. El rango es obligatorio para que la consulta solo lea las particiones necesarias.
+     */
+    @Transactional(readOnly = true)
+    public Page<RegistroAuditoriaDTO> consultar(LocalDateTime desde, LocalDateTime hasta,
+                                                RegistroAuditoria.Entidad entidad, Long entidadId,
+                                                String usuario, Pageable pageable) {
+        if (!desde.isBefore(hasta)) {
+            throw new ValidationException("La fecha desde debe ser anterior a la fecha hasta");
+        }
+        if (Duration.between(desde, hasta).compareTo(RANGO_MAXIMO) > 0) {
+            throw new ValidationException("El rango de fechas no puede superar " + RANGO_MAXIMO.toDays() + " días");
+        }
+
+        Specification<RegistroAuditoria> spec = (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("fecha"), desde),
+                cb.lessThan(root.get("fecha"), hasta));
+        if (entidad != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("entidad"), entidad));
+        }
+        if (entidadId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("entidadId"), entidadId));
+        }
+        if (usuario != null && !usuario.isBlank()) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("usuario"), usuario));
+        }
+
+        Pageable orden = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "fecha", "id"));
+        return registroAuditoriaRepository.findAll(spec, orden).map(registro -> new RegistroAuditoriaDTO(
+                registro.getId(), registro.getFecha(), registro.getUsuario(), registro.getEntidad(),
+                registro.getEntidadId(), registro.getCampo(), registro.getValorAnterior(), registro.getValorNuevo()));
+    }
+
+    private void registrar(RegistroAuditoria.Entidad entidad, Long entidadId, String campo,
+                           String valorAnterior, String valorNuevo) {
+        String usuario = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+        escritorAuditoria.registrar(new RegistroAuditoria(null, LocalDateTime.now(), usuario,
+                entidad, entidadId, campo, valorAnterior, valorNuevo));
+    }
+}
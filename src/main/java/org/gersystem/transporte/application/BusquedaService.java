@@ -0,0 +1,103 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.ConductorModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ResultadoBusquedaDTO;
+import org.gersystem.transporte.infrastructure.search.IndiceBusqueda;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Búsqueda type-ahead de conductores por nombre y de vehículos por placa.
+ * Los índices se cargan al arrancar con los registros activos y se mantienen
+ * sincronizados con cada alta o modificación confirmada.
+ */
+@Service
+@RequiredArgsConstructor
+public class BusquedaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusquedaService.class);
+    private static final int TAMANO_LOTE_CARGA = 500;
+    private static final int LIMITE_MAXIMO = 50;
+
+    private final ConductorRepository conductorRepository;
+    private final VehiculoRepository vehiculoRepository;
+
+    private final IndiceBusqueda<ResultadoBusquedaDTO> indiceConductores = new IndiceBusqueda<>();
+    private final IndiceBusqueda<ResultadoBusquedaDTO> indiceVehiculos = new IndiceBusqueda<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarIndices() {
+        Page<Conductor> conductores;
+        int pagina = 0;
+        do {
+            conductores = conductorRepository.findByActivo(true, PageRequest.of(pagina++, TAMANO_LOTE_CARGA, Sort.by("id")));
+            conductores.forEach(conductor -> indexarConductor(ConductorModificadoEvent.desde(conductor)));
+        } while (conductores.hasNext());
+
+        Page<Vehiculo> vehiculos;
+        pagina = 0;
+        do {
+            vehiculos = vehiculoRepository.findByActivo(true, PageRequest.of(pagina++, TAMANO_LOTE_CARGA, Sort.by("id")));
+            vehiculos.forEach(vehiculo -> indexarVehiculo(VehiculoModificadoEvent.desde(vehiculo)));
+        } while (vehiculos.hasNext());
+
+        logger.info("Índices de búsqueda cargados: {} conductores, {} vehículos",
+                indiceConductores.tamano(), indiceVehiculos.tamano());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void indexarConductor(ConductorModificadoEvent evento) {
+        if (evento.isActivo()) {
+            indiceConductores.indexar(evento.getId(), evento.getNombre(),
+                    new ResultadoBusquedaDTO(evento.getId(), evento.getNombre(), evento.getLicencia()));
+        } else {
+            indiceConductores.eliminar(evento.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void indexarVehiculo(VehiculoModificadoEvent evento) {
+        if (evento.isActivo()) {
+            String capacidad = evento.getCapacidad() != null ? evento.getCapacidad().toPlainString() + " kg" : null;
+            indiceVehiculos.indexar(evento.getId(), evento.getPlaca(),
+                    new ResultadoBusquedaDTO(evento.getId(), evento.getPlaca(), capacidad));
+        } else {
+            indiceVehiculos.eliminar(evento.getId());
+        }
+    }
+
+    public List<ResultadoBusquedaDTO> buscarConductores(String consulta, int limite) {
+        validarConsulta(consulta, limite);
+        return indiceConductores.buscar(consulta, limite);
+    }
+
+    public List<ResultadoBusquedaDTO> buscarVehiculos(String consulta, int limite) {
+        validarConsulta(consulta, limite);
+        return indiceVehiculos.buscar(consulta, limite);
+    }
+
+    private void validarConsulta(String consulta, int limite) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new ValidationException("El texto de búsqueda es requerido");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.BusinessException;
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.Mantenimiento;
+import org.gersystem.transporte.domain.repository.MantenimientoRepository;
+import org.gersystem.transporte.infrastructure.calendario.CalendarioMantenimiento;
+import org.gersystem.transporte.infrastructure.calendario.DisponibilidadVehiculos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Mantiene el {@link CalendarioMantenimiento} y la {@link DisponibilidadVehiculos} sincronizados
+ * con los mantenimientos vigentes, y resuelve reservas de ventanas y consultas de disponibilidad
+ * sin consultar la base.
+ *
+ * Un vehículo está en mantenimiento mientras tenga uno EN_PROCESO, o durante la ventana de
+ * 24 horas de uno PENDIENTE o PROGRAMADO.
+ *
+ * Una reserva ocupa la ventana de inmediato; si la transacción que la pidió se revierte,
+ * la ventana se libera, y si se confirma, el evento del mantenimiento guardado la consolida.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarioMantenimientoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarioMantenimientoService.class);
+    private static final int TAMANO_LOTE_CARGA = 500;
+    private static final Set<EstadoMantenimiento> ESTADOS_VIGENTES =
+            EnumSet.of(EstadoMantenimiento.PENDIENTE, EstadoMantenimiento.PROGRAMADO, EstadoMantenimiento.EN_PROCESO);
+    private static final Set<EstadoMantenimiento> ESTADOS_PROGRAMADOS =
+            EnumSet.of(EstadoMantenimiento.PENDIENTE, EstadoMantenimiento.PROGRAMADO);
+
+    private final MantenimientoRepository mantenimientoRepository;
+
+    private final CalendarioMantenimiento calendario = new CalendarioMantenimiento();
+    private final DisponibilidadVehiculos disponibilidad = new DisponibilidadVehiculos(
+            LocalDateTime.now().minus(CalendarioMantenimiento.DURACION_VENTANA));
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarCalendario() {
+        LocalDateTime desde = LocalDateTime.now().minus(CalendarioMantenimiento.DURACION_VENTANA);
+        Page<Mantenimiento> mantenimientos;
+        int pagina = 0;
+        do {
+            mantenimientos = mantenimientoRepository.findVigentes(EstadoMantenimiento.EN_PROCESO, ESTADOS_PROGRAMADOS,
+                    desde, PageRequest.of(pagina++, TAMANO_LOTE_CARGA, Sort.by("id")));
+            mantenimientos.forEach(mantenimiento -> actualizar(MantenimientoModificadoEvent.desde(mantenimiento)));
+        } while (mantenimientos.hasNext());
+
+        logger.info("Calendario de mantenimiento cargado: {} ventanas ocupadas", calendario.tamano());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void actualizar(MantenimientoModificadoEvent evento) {
+        if (evento.getVehiculoId() == null || evento.getFechaProgramada() == null) {
+            return;
+        }
+        if (ocupaCalendario(evento.getEstado())) {
+            calendario.registrar(evento.getVehiculoId(), evento.getId(), evento.getFechaProgramada());
+        } else {
+            calendario.eliminar(evento.getVehiculoId(), evento.getId());
+        }
+
+        if (evento.getEstado() == EstadoMantenimiento.EN_PROCESO) {
+            disponibilidad.bloquearSinFin(evento.getVehiculoId(), evento.getId());
+        } else if (ESTADOS_PROGRAMADOS.contains(evento.getEstado())) {
+            disponibilidad.bloquearVentana(evento.getVehiculoId(), evento.getId(), evento.getFechaProgramada(),
+                    CalendarioMantenimiento.DURACION_VENTANA);
+        } else {
+            disponibilidad.desbloquear(evento.getVehiculoId(), evento.getId());
+        }
+    }
+
+    /**
+     * Reserva la ventana de 24 horas que empieza en {@code inicio} o lanza
+     * {@link BusinessException} si se solapa con otro mantenimiento del vehículo.
+     */
+    public void reservar(Long vehiculoId, LocalDateTime inicio) {
+        if (!intentarReservar(vehiculoId, inicio)) {
+            throw new BusinessException("Ya existe un mantenimiento programado para este vehículo en un rango de 24 horas");
+        }
+    }
+
+    /**
+     * Igual que {@link #reservar} pero devuelve {@code false} ante un solapamiento.
+     */
+    public boolean intentarReservar(Long vehiculoId, LocalDateTime inicio) {
+        if (!calendario.reservar(vehiculoId, inicio)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int estado) {
+                    if (estado != STATUS_COMMITTED) {
+                        calendario.liberarReserva(vehiculoId, inicio);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    public boolean enMantenimiento(Long vehiculoId, LocalDateTime instante) {
+        return disponibilidad.enMantenimiento(vehiculoId, instante);
+    }
+
+    public LocalDateTime proximaVentanaLibre(Long vehiculoId, LocalDateTime desde) {
+        return calendario.proximaVentanaLibre(vehiculoId, desde);
+    }
+
+    public static boolean ocupaCalendario(EstadoMantenimiento estado) {
+        return ESTADOS_VIGENTES.contains(estado);
+    }
+}
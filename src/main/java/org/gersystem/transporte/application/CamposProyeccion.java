@@ -0,0 +1,72 @@
+package org.gersystem.transporte.application;
+
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Campos que un listado admite en el parámetro {@code fields=}, con la ruta JPA de cada uno.
+ * Los campos de asociaciones se devuelven aplanados ({@code vehiculoPlaca}) en lugar de anidados.
+ */
+public class CamposProyeccion {
+
+    private final Map<String, String> rutas;
+
+    public CamposProyeccion(Map<String, String> rutas) {
+        this.rutas = Map.copyOf(rutas);
+    }
+
+    /**
+     * Campos pedidos, separados por comas, en el orden en que se pidieron.
+     */
+    public Map<String, String> seleccionar(String fields) {
+        Map<String, String> seleccion = new LinkedHashMap<>();
+        if (fields != null) {
+            for (String campo : fields.split(",")) {
+                String nombre = campo.trim();
+                if (nombre.isEmpty()) {
+                    continue;
+                }
+                String ruta = rutas.get(nombre);
+                if (ruta == null) {
+                    throw new ValidationException(String.format(
+                            "El campo '%s' no es válido. Campos válidos: %s", nombre, String.join(", ", rutas.keySet())));
+                }
+                seleccion.put(nombre, ruta);
+            }
+        }
+        if (seleccion.isEmpty()) {
+            throw new ValidationException("Debe indicar al menos un campo en fields");
+        }
+        return seleccion;
+    }
+
+    /**
+     * Traduce el orden, expresado con nombres de campo o con su ruta, a rutas JPA.
+     */
+    public Pageable ordenar(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return pageable;
+        }
+        List<Sort.Order> orden = new ArrayList<>();
+        for (Sort.Order criterio : pageable.getSort()) {
+            String ruta = rutas.containsKey(criterio.getProperty())
+                    ? rutas.get(criterio.getProperty())
+                    : rutas.containsValue(criterio.getProperty()) ? criterio.getProperty() : null;
+            if (ruta == null) {
+                throw new ValidationException(String.format(
+                        "La propiedad '%s' no es válida para ordenamiento", criterio.getProperty()));
+            }
+            orden.add(criterio.withProperty(ruta));
+        }
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orden))
+                : Pageable.unpaged();
+    }
+}
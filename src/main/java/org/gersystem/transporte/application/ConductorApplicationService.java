@@ -3,6 +3,8 @@ package org.gersystem.transporte.application;
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.repository.ConductorRepository;
 import org.gersystem.transporte.domain.service.ConductorDomainService;
+import org.gersystem.transporte.infrastructure.adapters.repository.ConductorSpecification;
+import org.gersystem.transporte.infrastructure.adapters.repository.ProyeccionRepository;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.*;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.ConductorMapper;
 import org.springframework.data.domain.Page;
@@ -14,15 +16,23 @@ import javax.persistence.EntityNotFoundException;
 import javax.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ConductorApplicationService {
+    private static final CamposProyeccion CAMPOS = new CamposProyeccion(Map.of(
+            "id", "id",
+            "nombre", "nombre",
+            "licencia", "licencia",
+            "activo", "activo"
+    ));
+
     private final ConductorRepository conductorRepository;
     private final ConductorDomainService conductorDomainService;
     private final ConductorMapper conductorMapper;
+    private final ConductorSpecification conductorSpecification;
+    private final ProyeccionRepository proyeccionRepository;
 
     @Transactional(readOnly = true)
     public ConductorDTO obtenerConductorPorId(Long id) {
@@ -42,17 +52,26 @@ public class ConductorApplicationService {
         return new PageDTO<>(conductores.map(conductorMapper::toDto));
     }
 
+    /**
+     * Igual que {@link #obtenerTodosLosConductores}, pero leyendo solo las columnas de los campos pedidos.
+     */
     @Transactional(readOnly = true)
-    public List<ConductorDTO> obtenerConductoresSinVehiculos() {
-        return conductorRepository.findByVehiculosIsEmpty()
-                .stream()
-                .map(conductorMapper::toDto)
-                .collect(Collectors.toList());
+    public PageDTO<Map<String, Object>> obtenerConductoresProyectados(String fields, String nombre, Boolean activo,
+                                                                     Pageable pageable) {
+        Specification<Conductor> spec = Specification.where(conductorSpecification.nombreContains(nombre))
+                .and(conductorSpecification.esActivo(activo));
+        return new PageDTO<>(proyeccionRepository.buscar(Conductor.class, spec,
+                CAMPOS.seleccionar(fields), CAMPOS.ordenar(pageable)));
+    }
+
+    @Transactional(readOnly = true)
+    public PageDTO<EstadisticasDTO.ConductorSimpleDTO> obtenerConductoresSinVehiculos(Pageable pageable) {
+        return new PageDTO<>(conductorRepository.findConductoresSinVehiculos(pageable));
     }
 
     @Transactional(readOnly = true)
-    public List<ConteoVehiculosDTO> contarVehiculosPorConductor() {
-        return conductorRepository.countVehiculosByConductor();
+    public PageDTO<ConteoVehiculosDTO> contarVehiculosPorConductor(Pageable pageable) {
+        return new PageDTO<>(conductorRepository.countVehiculosByConductor(pageable));
     }
 
     @Transactional
@@ -0,0 +1,79 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EntregaActivaDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EntregasConductorDTO;
+import org.gersystem.transporte.infrastructure.entregas.IndiceEntregas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Entregas pendientes y en proceso de cada conductor, para las aplicaciones móviles que
+ * consultan con frecuencia. Se sirven desde un índice en memoria cargado al arrancar y
+ * mantenido con cada cambio confirmado de un pedido, sin consultar la base.
+ *
+ * Como el resto de los índices en memoria, supone una sola instancia escribiendo.
+ */
+@Service
+@RequiredArgsConstructor
+public class EntregasConductorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntregasConductorService.class);
+    private static final int TAMANO_LOTE_CARGA = 500;
+    private static final int MAX_RETIROS_POR_CONDUCTOR = 200;
+    private static final Set<EstadoPedido> ESTADOS_ACTIVOS = EnumSet.of(EstadoPedido.PENDIENTE, EstadoPedido.EN_PROCESO);
+
+    private final PedidoRepository pedidoRepository;
+
+    private final IndiceEntregas<EntregaActivaDTO> indice = new IndiceEntregas<>(MAX_RETIROS_POR_CONDUCTOR);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarIndice() {
+        Slice<PedidoModificadoEvent> pedidos;
+        int pagina = 0;
+        do {
+            pedidos = pedidoRepository.buscarAsignadosPorEstado(ESTADOS_ACTIVOS,
+                    PageRequest.of(pagina++, TAMANO_LOTE_CARGA, Sort.by("id")));
+            pedidos.forEach(this::actualizarEntrega);
+        } while (pedidos.hasNext());
+
+        logger.info("Índice de entregas activas cargado: {} pedidos", indice.tamano());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void actualizarEntrega(PedidoModificadoEvent evento) {
+        if (evento.getConductorId() != null && ESTADOS_ACTIVOS.contains(evento.getEstado())) {
+            indice.actualizar(evento.getId(), evento.getConductorId(), new EntregaActivaDTO(
+                    evento.getId(), evento.getDescripcion(), evento.getPeso(), evento.getEstado(),
+                    evento.getVehiculoId(), evento.getFechaModificacion()));
+        } else {
+            indice.retirar(evento.getId());
+        }
+    }
+
+    /**
+     * @param since versión devuelta por la consulta anterior; {@code null} para la lista completa
+     */
+    public EntregasConductorDTO obtenerEntregasActivas(Long conductorId, Long since) {
+        if (since != null && since < 0) {
+            throw new ValidationException("El parámetro since no puede ser negativo");
+        }
+        IndiceEntregas.Cambios<EntregaActivaDTO> cambios = indice.cambiosDesde(conductorId, since);
+        return new EntregasConductorDTO(cambios.getVersion(), cambios.isCompleto(),
+                cambios.getVigentes(), cambios.getRetirados());
+    }
+}
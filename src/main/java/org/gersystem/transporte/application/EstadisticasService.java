@@ -1,116 +1,211 @@
 package org.gersystem.transporte.application;
 
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
 import org.gersystem.transporte.domain.model.EstadoPedido;
-import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.CapacidadUtilizada;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
 import org.gersystem.transporte.domain.repository.PedidoRepository;
-import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.domain.service.ArchivoPedidosDomainService;
+import org.gersystem.transporte.domain.service.EstadisticasDomainService;
+import org.gersystem.transporte.domain.service.EstadisticasDomainService.ResumenEstadisticas;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import org.gersystem.transporte.domain.model.Conductor;
 
 @Service
 @RequiredArgsConstructor
 public class EstadisticasService {
 
-    private final ConductorRepository conductorRepository;
-    private final VehiculoRepository vehiculoRepository;
-    private final PedidoRepository pedidoRepository;
+    private static final int LIMITE_MAXIMO_RANKING = 500;
 
-    private EstadisticasDTO.ConductorSimpleDTO mapToConductorSimpleDTO(Conductor conductor) {
-        EstadisticasDTO.ConductorSimpleDTO dto = new EstadisticasDTO.ConductorSimpleDTO();
-        dto.setId(conductor.getId());
-        dto.setNombre(conductor.getNombre());
-        dto.setLicencia(conductor.getLicencia());
-        return dto;
-    }
+    private final EstadisticasDomainService estadisticasDomainService;
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArchivadoRepository pedidoArchivadoRepository;
+    private final ArchivoPedidosDomainService archivoPedidosDomainService;
 
-    @Transactional(readOnly = true)
-    @Cacheable("estadisticas_generales")
+    /**
+     * Estadísticas generales en el formato completo de {@link EstadisticasDTO}.
+     * Se construyen a partir de la misma instantánea cacheada que {@link #obtenerIndicadoresGenerales()}.
+     */
     public EstadisticasDTO obtenerEstadisticasGenerales() {
-        long totalConductores = conductorRepository.count();
-        long conductoresActivos = conductorRepository.countByActivoTrue();
-        long totalVehiculos = vehiculoRepository.count();
-        long vehiculosActivos = vehiculoRepository.countByActivoTrue();
-        long totalPedidos = pedidoRepository.count();
-        long pedidosEnProceso = pedidoRepository.countByEstado(EstadoPedido.EN_PROCESO);
-        long pedidosEntregados = pedidoRepository.countByEstado(EstadoPedido.ENTREGADO);
-        
-        BigDecimal pesoTotalTransportado = pedidoRepository.calcularPesoTotalTransportado();
-        
-        double promedioVehiculosPorConductor = conductoresActivos > 0 
-            ? (double) vehiculosActivos / conductoresActivos 
-            : 0.0;
-
-        double porcentajeConductoresActivos = totalConductores > 0 
-            ? (double) conductoresActivos * 100 / totalConductores 
-            : 0.0;
-
-        double porcentajeVehiculosActivos = totalVehiculos > 0 
-            ? (double) vehiculosActivos * 100 / totalVehiculos 
-            : 0.0;
+        ResumenEstadisticas resumen = estadisticasDomainService.obtenerResumen();
 
-        double porcentajePedidosEntregados = totalPedidos > 0 
-            ? (double) pedidosEntregados * 100 / totalPedidos 
+        double promedioVehiculosPorConductor = resumen.getConductoresActivos() > 0
+            ? (double) resumen.getVehiculosActivos() / resumen.getConductoresActivos()
             : 0.0;
 
-        List<EstadisticasDTO.ConductorSimpleDTO> conductoresSinVehiculos = 
-            conductorRepository.findByVehiculosIsEmpty()
-                .stream()
-                .map(this::mapToConductorSimpleDTO)
-                .collect(Collectors.toList());
-
         return EstadisticasDTO.builder()
-                .totalConductores(totalConductores)
-                .conductoresActivos(conductoresActivos)
-                .totalVehiculos(totalVehiculos)
-                .vehiculosActivos(vehiculosActivos)
-                .totalPedidos(totalPedidos)
-                .pedidosEnProceso(pedidosEnProceso)
-                .pedidosEntregados(pedidosEntregados)
-                .pesoTotalTransportado(pesoTotalTransportado)
-                .promedioVehiculosPorConductor(BigDecimal.valueOf(promedioVehiculosPorConductor)
-                        .setScale(2, RoundingMode.HALF_UP)
-                        .doubleValue())
-                .porcentajeConductoresActivos(BigDecimal.valueOf(porcentajeConductoresActivos)
-                        .setScale(2, RoundingMode.HALF_UP)
-                        .doubleValue())
-                .porcentajeVehiculosActivos(BigDecimal.valueOf(porcentajeVehiculosActivos)
-                        .setScale(2, RoundingMode.HALF_UP)
-                        .doubleValue())
-                .porcentajePedidosEntregados(BigDecimal.valueOf(porcentajePedidosEntregados)
-                        .setScale(2, RoundingMode.HALF_UP)
-                        .doubleValue())
-                .conductoresSinVehiculos(conductoresSinVehiculos)
-                .vehiculosPorConductor(conductorRepository.countVehiculosByConductor())
+                .totalConductores(resumen.getTotalConductores())
+                .conductoresActivos(resumen.getConductoresActivos())
+                .totalVehiculos(resumen.getTotalVehiculos())
+                .vehiculosActivos(resumen.getVehiculosActivos())
+                .totalPedidos(resumen.getTotalPedidos())
+                .pedidosEnProceso(resumen.getPedidosEnProceso())
+                .pedidosEntregados(resumen.getPedidosEntregados())
+                .pesoTotalTransportado(resumen.getPesoTotalTransportado())
+                .promedioVehiculosPorConductor(redondear(promedioVehiculosPorConductor))
+                .porcentajeConductoresActivos(porcentaje(resumen.getConductoresActivos(), resumen.getTotalConductores()))
+                .porcentajeVehiculosActivos(porcentaje(resumen.getVehiculosActivos(), resumen.getTotalVehiculos()))
+                .porcentajePedidosEntregados(porcentaje(resumen.getPedidosEntregados(), resumen.getTotalPedidos()))
+                .totalConductoresSinVehiculos(resumen.getConductoresSinVehiculos())
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "estadisticas_conductor", key = "#conductorId")
+    /**
+     * Indicadores generales en el formato resumido de {@link EstadisticasDomainService.EstadisticasGenerales}.
+     */
+    public EstadisticasDomainService.EstadisticasGenerales obtenerIndicadoresGenerales() {
+        return EstadisticasDomainService.EstadisticasGenerales.desde(estadisticasDomainService.obtenerResumen());
+    }
+
     public EstadisticasConductorDTO obtenerEstadisticasConductor(Long conductorId) {
-        LocalDateTime inicioMes = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0);
-        
+        EstadisticasDomainService.EstadisticasConductor estadisticas =
+                estadisticasDomainService.obtenerEstadisticasConductor(conductorId);
+
         return EstadisticasConductorDTO.builder()
-            .pedidosEntregadosMes(pedidoRepository.countByConductorIdAndEstadoAndCreatedDateAfter(
-                conductorId, EstadoPedido.ENTREGADO, inicioMes))
-            .totalPedidosEntregados(pedidoRepository.countByConductorIdAndEstado(
-                conductorId, EstadoPedido.ENTREGADO))
+            .pedidosEntregadosMes(estadisticas.getPedidosEntregadosMes())
+            .totalPedidosEntregados(estadisticas.getTotalPedidosEntregados())
             .build();
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "promedio_capacidad", key = "#fechaInicio.toString() + #fechaFin.toString()")
     public Double obtenerPromedioCapacidadUtilizada(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
-        return pedidoRepository.calcularPromedioCapacidadUtilizada(fechaInicio, fechaFin);
+        if (!archivoPedidosDomainService.alcanzaArchivo(fechaInicio)) {
+            return pedidoRepository.calcularPromedioCapacidadUtilizada(fechaInicio, fechaFin);
+        }
+        // El promedio conjunto se arma con sumas y cantidades de ambas tablas
+        CapacidadUtilizada vigentes = pedidoRepository.capacidadUtilizada(EstadoPedido.ENTREGADO, fechaInicio, fechaFin);
+        CapacidadUtilizada archivados = pedidoArchivadoRepository.capacidadUtilizada(
+                EstadoPedido.ENTREGADO, fechaInicio, fechaFin);
+        long cantidad = vigentes.getCantidad() + archivados.getCantidad();
+        return cantidad > 0
+                ? vigentes.getSuma().add(archivados.getSuma()).doubleValue() / cantidad
+                : null;
+    }
+
+    /**
+     * Ranking de conductores por peso entregado desde la fecha indicada (por defecto, el inicio del mes).
+     * Se resuelve con una única consulta agrupada limitada a los primeros {@code limite} resultados.
+     */
+    @Transactional(readOnly = true)
+    public List<RankingConductorDTO> obtenerRankingConductores(int limite, LocalDateTime desde) {
+        validarLimite(limite);
+        LocalDateTime inicio = desdeOInicioMes(desde);
+        List<RankingConductorDTO> ranking;
+        if (archivoPedidosDomainService.alcanzaArchivo(inicio)) {
+            ranking = combinarRanking(
+                    pedidoRepository.rankingConductoresPorPeso(EstadoPedido.ENTREGADO, inicio, Pageable.unpaged()),
+                    pedidoArchivadoRepository.rankingConductoresPorPeso(EstadoPedido.ENTREGADO, inicio), limite);
+        } else {
+            ranking = pedidoRepository.rankingConductoresPorPeso(
+                    EstadoPedido.ENTREGADO, inicio, PageRequest.of(0, limite));
+        }
+        for (int i = 0; i < ranking.size(); i++) {
+            ranking.get(i).setPosicion(i + 1);
+        }
+        return ranking;
+    }
+
+    /**
+     * Vehículos activos con menor peso entregado desde la fecha indicada (por defecto, el inicio del mes).
+     * Los vehículos sin entregas en el periodo aparecen primero.
+     */
+    @Transactional(readOnly = true)
+    public List<UtilizacionVehiculoDTO> obtenerVehiculosMenosUtilizados(int limite, LocalDateTime desde) {
+        validarLimite(limite);
+        LocalDateTime inicio = desdeOInicioMes(desde);
+        List<UtilizacionVehiculoDTO> ranking;
+        if (archivoPedidosDomainService.alcanzaArchivo(inicio)) {
+            ranking = combinarUtilizacion(
+                    pedidoRepository.vehiculosMenosUtilizados(EstadoPedido.ENTREGADO, inicio, Pageable.unpaged()),
+                    pedidoArchivadoRepository.utilizacionVehiculos(EstadoPedido.ENTREGADO, inicio), limite);
+        } else {
+            ranking = pedidoRepository.vehiculosMenosUtilizados(
+                    EstadoPedido.ENTREGADO, inicio, PageRequest.of(0, limite));
+        }
+        for (int i = 0; i < ranking.size(); i++) {
+            ranking.get(i).setPosicion(i + 1);
+        }
+        return ranking;
+    }
+
+    /**
+     * Suma lo archivado a cada conductor del ranking y vuelve a ordenar. Agrupado por conductor,
+     * el resultado de cada tabla es chico aun sin límite.
+     */
+    private List<RankingConductorDTO> combinarRanking(List<RankingConductorDTO> vigentes,
+                                                      List<RankingConductorDTO> archivados, int limite) {
+        Map<Long, RankingConductorDTO> porConductor = new LinkedHashMap<>();
+        vigentes.forEach(fila -> porConductor.put(fila.getConductor().getId(), fila));
+        archivados.forEach(fila -> porConductor.merge(fila.getConductor().getId(), fila, (actual, archivo) -> {
+            actual.setPesoEntregado(actual.getPesoEntregado().add(archivo.getPesoEntregado()));
+            actual.setPedidosEntregados(actual.getPedidosEntregados() + archivo.getPedidosEntregados());
+            return actual;
+        }));
+        return porConductor.values().stream()
+                .sorted(Comparator.comparing(RankingConductorDTO::getPesoEntregado).reversed()
+                        .thenComparing(fila -> fila.getConductor().getId()))
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Suma lo archivado a cada vehículo activo y vuelve a ordenar de menor a mayor uso.
+     */
+    private List<UtilizacionVehiculoDTO> combinarUtilizacion(List<UtilizacionVehiculoDTO> vigentes,
+                                                             List<UtilizacionVehiculoDTO> archivados, int limite) {
+        Map<Long, UtilizacionVehiculoDTO> porVehiculo = new LinkedHashMap<>();
+        vigentes.forEach(fila -> porVehiculo.put(fila.getVehiculoId(), fila));
+        for (UtilizacionVehiculoDTO archivo : archivados) {
+            UtilizacionVehiculoDTO actual = porVehiculo.get(archivo.getVehiculoId());
+            if (actual != null) {
+                actual.setPesoEntregado(actual.getPesoEntregado().add(archivo.getPesoEntregado()));
+                actual.setPedidosEntregados(actual.getPedidosEntregados() + archivo.getPedidosEntregados());
+            }
+        }
+        return porVehiculo.values().stream()
+                .sorted(Comparator.comparing(UtilizacionVehiculoDTO::getPesoEntregado)
+                        .thenComparing(UtilizacionVehiculoDTO::getPedidosEntregados)
+                        .thenComparing(UtilizacionVehiculoDTO::getVehiculoId))
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    private void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_RANKING) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO_RANKING);
+        }
+    }
+
+    private double porcentaje(long parte, long total) {
+        return total > 0 ? redondear((double) parte * 100 / total) : 0.0;
+    }
+
+    private double redondear(double valor) {
+        return BigDecimal.valueOf(valor)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    private LocalDateTime desdeOInicioMes(LocalDateTime desde) {
+        return desde != null ? desde : LocalDate.now().withDayOfMonth(1).atStartOfDay();
     }
-} 
+}
@@ -0,0 +1,41 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.infrastructure.eventos.DifusorEventos;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Reenvía a los tableros conectados los cambios de pedidos, vehículos (incluida la asignación
+ * de conductor) y mantenimientos una vez confirmados, para que no tengan que consultar la API
+ * periódicamente.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventosFlotaService {
+
+    private final DifusorEventos difusorEventos;
+
+    public SseEmitter suscribir() {
+        return difusorEventos.suscribir();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void pedidoModificado(PedidoModificadoEvent evento) {
+        difusorEventos.publicar("pedido", evento);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void vehiculoModificado(VehiculoModificadoEvent evento) {
+        difusorEventos.publicar("vehiculo", evento);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void mantenimientoModificado(MantenimientoModificadoEvent evento) {
+        difusorEventos.publicar("mantenimiento", evento);
+    }
+}
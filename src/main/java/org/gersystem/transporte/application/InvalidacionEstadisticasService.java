@@ -0,0 +1,40 @@
+package org.gersystem.transporte.application;
+
+import org.gersystem.transporte.domain.event.ConductorModificadoEvent;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Descarta las estadísticas cacheadas por {@code EstadisticasDomainService} cuando se confirma
+ * un cambio que las afecta; se recalculan en la siguiente consulta. La caché simple no vence
+ * sola, así que sin esto los totales quedarían fijos mientras viva el proceso.
+ */
+@Service
+public class InvalidacionEstadisticasService {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Caching(evict = {
+            @CacheEvict(value = "estadisticas_generales", allEntries = true),
+            @CacheEvict(value = "estadisticas_conductor", key = "#evento.conductorId",
+                    condition = "#evento.conductorId != null")
+    })
+    public void pedidoModificado(PedidoModificadoEvent evento) {
+        // La invalidación la hacen las anotaciones
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = "estadisticas_generales", allEntries = true)
+    public void vehiculoModificado(VehiculoModificadoEvent evento) {
+        // La invalidación la hacen las anotaciones
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = "estadisticas_generales", allEntries = true)
+    public void conductorModificado(ConductorModificadoEvent evento) {
+        // La invalidación la hacen las anotaciones
+    }
+}
@@ -0,0 +1,212 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.DesgasteVehiculo;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.DesgasteVehiculoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puntaje de desgaste de cada vehículo a partir del peso entregado y de los viajes realizados
+ * desde su último mantenimiento completado.
+ *
+ * Los acumulados se calculan con una consulta agrupada al arrancar; después cada pedido
+ * entregado los incrementa y cada mantenimiento completado los reinicia, sin volver a recorrer
+ * los pedidos.
+ *
+ * El puntaje es el porcentaje consumido del límite de peso o del de viajes, el que esté más
+ * cerca; a partir del umbral configurado se sugiere programar un mantenimiento en la próxima
+ * ventana libre del calendario. Los vehículos dados de baja conservan su acumulado, por si se
+ * reactivan, pero no aparecen en el ranking porque no se les puede programar mantenimiento.
+ */
+@Service
+@RequiredArgsConstructor
+public class MantenimientoPredictivoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MantenimientoPredictivoService.class);
+    private static final int LIMITE_MAXIMO_RANKING = 500;
+    private static final Comparator<Map.Entry<Long, Desgaste>> POR_PUNTAJE =
+            Comparator.<Map.Entry<Long, Desgaste>>comparingDouble(e -> e.getValue().puntaje)
+                    .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArchivadoRepository pedidoArchivadoRepository;
+    private final VehiculoRepository vehiculoRepository;
+    private final CalendarioMantenimientoService calendarioMantenimientoService;
+
+    private final Map<Long, Desgaste> desgastes = new ConcurrentHashMap<>();
+    private final Set<Long> inactivos = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime cargadoEn = LocalDateTime.MIN;
+
+    @Value("${transporte.mantenimiento.predictivo.peso-limite-kg:100000}")
+    private double pesoLimiteKg;
+
+    @Value("${transporte.mantenimiento.predictivo.viajes-limite:250}")
+    private long viajesLimite;
+
+    @Value("${transporte.mantenimiento.predictivo.umbral-sugerencia:80}")
+    private double umbralSugerencia;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarDesgaste() {
+        LocalDateTime inicio = LocalDateTime.now();
+        desgastes.clear();
+        inactivos.clear();
+        inactivos.addAll(vehiculoRepository.findIdsInactivos());
+        for (DesgasteVehiculo acumulado : pedidoRepository.desgastePorVehiculo(
+                EstadoPedido.ENTREGADO, EstadoMantenimiento.COMPLETADO)) {
+            desgastes.put(acumulado.getVehiculoId(),
+                    nuevoDesgaste(acumulado.getPesoEntregado(), acumulado.getViajes(), inicio));
+        }
+        // Un vehículo sin mantenimiento desde hace tiempo también acumula entregas ya archivadas
+        for (DesgasteVehiculo acumulado : pedidoArchivadoRepository.desgastePorVehiculo(
+                EstadoPedido.ENTREGADO, EstadoMantenimiento.COMPLETADO)) {
+            desgastes.merge(acumulado.getVehiculoId(),
+                    nuevoDesgaste(acumulado.getPesoEntregado(), acumulado.getViajes(), inicio),
+                    (vigente, archivado) -> nuevoDesgaste(vigente.pesoEntregado.add(archivado.pesoEntregado),
+                            vigente.viajes + archivado.viajes, inicio));
+        }
+        cargadoEn = inicio;
+        logger.info("Desgaste de vehículos cargado: {} vehículos con entregas desde su último mantenimiento",
+                desgastes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void registrarEntrega(PedidoModificadoEvent evento) {
+        if (evento.getVehiculoId() == null || !evento.esEntrega()) {
+            return;
+        }
+        BigDecimal peso = evento.getPeso() != null ? evento.getPeso() : BigDecimal.ZERO;
+        Desgaste anterior = desgastes.get(evento.getVehiculoId());
+        Desgaste actual = desgastes.merge(evento.getVehiculoId(), nuevoDesgaste(peso, 1, cargadoEn),
+                (existente, entrega) -> nuevoDesgaste(
+                        existente.pesoEntregado.add(peso), existente.viajes + 1, existente.reiniciadoEn));
+
+        if (actual.puntaje >= umbralSugerencia && (anterior == null || anterior.puntaje < umbralSugerencia)) {
+            logger.info("El vehículo {} alcanzó un desgaste de {}%; se sugiere programar mantenimiento desde {}",
+                    evento.getVehiculoId(), redondear(actual.puntaje),
+                    calendarioMantenimientoService.proximaVentanaLibre(evento.getVehiculoId(), LocalDateTime.now()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void registrarVehiculo(VehiculoModificadoEvent evento) {
+        if (evento.isActivo()) {
+            inactivos.remove(evento.getId());
+        } else {
+            inactivos.add(evento.getId());
+        }
+    }
+
+    /**
+     * Reinicia el acumulado del vehículo cuando se completa un mantenimiento posterior al
+     * último reinicio; repetir el evento de uno ya contabilizado no tiene efecto.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void registrarMantenimiento(MantenimientoModificadoEvent evento) {
+        if (evento.getVehiculoId() == null || evento.getEstado() != EstadoMantenimiento.COMPLETADO
+                || evento.getFechaRealizada() == null) {
+            return;
+        }
+        desgastes.compute(evento.getVehiculoId(), (vehiculoId, existente) -> {
+            LocalDateTime reiniciadoEn = existente != null ? existente.reiniciadoEn : cargadoEn;
+            if (!evento.getFechaRealizada().isAfter(reiniciadoEn)) {
+                return existente;
+            }
+            return nuevoDesgaste(BigDecimal.ZERO, 0, evento.getFechaRealizada());
+        });
+    }
+
+    /**
+     * Vehículos activos con mayor puntaje de desgaste, de mayor a menor.
+     */
+    public List<DesgasteVehiculoDTO> obtenerRanking(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_RANKING) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO_RANKING);
+        }
+        PriorityQueue<Map.Entry<Long, Desgaste>> mayores = new PriorityQueue<>(limite + 1, POR_PUNTAJE);
+        for (Map.Entry<Long, Desgaste> entrada : desgastes.entrySet()) {
+            if (inactivos.contains(entrada.getKey())) {
+                continue;
+            }
+            mayores.add(Map.entry(entrada.getKey(), entrada.getValue()));
+            if (mayores.size() > limite) {
+                mayores.poll();
+            }
+        }
+        List<Map.Entry<Long, Desgaste>> ordenados = new ArrayList<>(mayores);
+        ordenados.sort(POR_PUNTAJE.reversed());
+
+        Map<Long, String> placas = new HashMap<>();
+        for (Vehiculo vehiculo : vehiculoRepository.findAllById(ordenados.stream().map(Map.Entry::getKey).toList())) {
+            placas.put(vehiculo.getId(), vehiculo.getPlaca());
+        }
+
+        LocalDateTime ahora = LocalDateTime.now();
+        List<DesgasteVehiculoDTO> ranking = new ArrayList<>(ordenados.size());
+        for (Map.Entry<Long, Desgaste> entrada : ordenados) {
+            Desgaste desgaste = entrada.getValue();
+            boolean sugerido = desgaste.puntaje >= umbralSugerencia;
+            ranking.add(new DesgasteVehiculoDTO(
+                    ranking.size() + 1,
+                    entrada.getKey(),
+                    placas.get(entrada.getKey()),
+                    desgaste.pesoEntregado,
+                    desgaste.viajes,
+                    redondear(desgaste.puntaje),
+                    sugerido,
+                    sugerido ? calendarioMantenimientoService.proximaVentanaLibre(entrada.getKey(), ahora) : null));
+        }
+        return ranking;
+    }
+
+    private Desgaste nuevoDesgaste(BigDecimal pesoEntregado, long viajes, LocalDateTime reiniciadoEn) {
+        double porPeso = pesoLimiteKg > 0 ? pesoEntregado.doubleValue() / pesoLimiteKg : 0.0;
+        double porViajes = viajesLimite > 0 ? (double) viajes / viajesLimite : 0.0;
+        return new Desgaste(pesoEntregado, viajes, reiniciadoEn, Math.max(porPeso, porViajes) * 100);
+    }
+
+    private double redondear(double valor) {
+        return Math.round(valor * 10) / 10.0;
+    }
+
+    private static final class Desgaste {
+        private final BigDecimal pesoEntregado;
+        private final long viajes;
+        private final LocalDateTime reiniciadoEn;
+        private final double puntaje;
+
+        private Desgaste(BigDecimal pesoEntregado, long viajes, LocalDateTime reiniciadoEn, double puntaje) {
+            this.pesoEntregado = pesoEntregado;
+            this.viajes = viajes;
+            this.reiniciadoEn = reiniciadoEn;
+            this.puntaje = puntaje;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.gersystem.transporte.application;
+
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.RutaModificadoEvent;
+import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.domain.repository.RutaRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.CaminoRutaDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.MatrizRutasDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ResourceNotFoundException;
+import org.gersystem.transporte.infrastructure.routing.GrafoRutas;
+import org.gersystem.transporte.infrastructure.routing.MatrizRutas;
+import org.gersystem.transporte.infrastructure.routing.RegistroPuntos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cálculo de caminos más cortos (por distancia o por tiempo) entre puntos de origen y destino,
+ * encadenando rutas activas.
+ *
+ * El grafo se carga al arrancar y cada ruta confirmada como creada, activada o desactivada
+ * se aplica sobre la tabla de aristas en memoria sin volver a consultar la base; las
+ * consultas leen siempre la última versión publicada del grafo sin bloquear.
+ *
+ * Junto al grafo se publica una {@link MatrizRutas} con las filas de los depósitos configurados
+ * y de los orígenes consultados por la matriz; cada cambio de ruta recalcula solo las filas
+ * afectadas.
+ */
+@Service
+@RequiredArgsConstructor
+public class MotorRutasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MotorRutasService.class);
+    private static final int TAMANO_LOTE_CARGA = 500;
+
+    private final RutaRepository rutaRepository;
+
+    private final RegistroPuntos registroPuntos = new RegistroPuntos();
+    private final Map<Long, GrafoRutas.Arista> aristasActivas = new HashMap<>();
+    private final List<GrafoRutas.Arista> aristasEliminadas = new ArrayList<>();
+    private final List<GrafoRutas.Arista> aristasAgregadas = new ArrayList<>();
+    private volatile MatrizRutas matriz = MatrizRutas.vacia(GrafoRutas.construir(0, List.of()), 0);
+
+    @Value("${transporte.rutas.matriz.depositos:}")
+    private List<String> depositos;
+
+    @Value("${transporte.rutas.matriz.maximo-filas:256}")
+    private int maximoFilas;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void cargarGrafo() {
+        aristasActivas.clear();
+        Page<Ruta> rutas;
+        int pagina = 0;
+        do {
+            rutas = rutaRepository.findByActiva(true, PageRequest.of(pagina++, TAMANO_LOTE_CARGA, Sort.by("id")));
+            rutas.forEach(ruta -> aplicar(RutaModificadoEvent.desde(ruta)));
+        } while (rutas.hasNext());
+
+        matriz = MatrizRutas.vacia(GrafoRutas.construir(registroPuntos.tamano(), aristasActivas.values()),
+                maximoFilas);
+        aristasEliminadas.clear();
+        aristasAgregadas.clear();
+        precalcularDepositos();
+        GrafoRutas grafo = matriz.getGrafo();
+        logger.info("Grafo de rutas cargado: {} puntos, {} rutas activas, {} filas de matriz precalculadas",
+                grafo.getCantidadPuntos(), grafo.getCantidadAristas(), matriz.getCantidadFilas());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void actualizarRuta(RutaModificadoEvent evento) {
+        if (aplicar(evento)) {
+            publicarGrafo();
+        }
+    }
+
+    public CaminoRutaDTO calcularCamino(String origen, String destino, GrafoRutas.Criterio criterio) {
+        if (origen == null || origen.isBlank() || destino == null || destino.isBlank()) {
+            throw new ValidationException("Los puntos de origen y destino son requeridos");
+        }
+        int indiceOrigen = indiceDe(origen);
+        int indiceDestino = indiceDe(destino);
+
+        GrafoRutas.Camino camino = matriz.getGrafo().caminoMasCorto(indiceOrigen, indiceDestino, criterio);
+        if (camino == null) {
+            throw new ResourceNotFoundException(
+                    "No existe un camino de rutas activas entre " + origen + " y " + destino);
+        }
+
+        List<CaminoRutaDTO.TramoRutaDTO> tramos = new ArrayList<>(camino.getTramos().size());
+        for (GrafoRutas.Arista arista : camino.getTramos()) {
+            tramos.add(new CaminoRutaDTO.TramoRutaDTO(
+                    arista.getRutaId(),
+                    arista.getNombre(),
+                    registroPuntos.nombreDe(arista.getOrigen()),
+                    registroPuntos.nombreDe(arista.getDestino()),
+                    arista.getDistanciaKm(),
+                    arista.getTiempoMinutos()));
+        }
+        return new CaminoRutaDTO(
+                registroPuntos.nombreDe(indiceOrigen),
+                registroPuntos.nombreDe(indiceDestino),
+                criterio.name(),
+                camino.getDistanciaKm(),
+                camino.getTiempoMinutos(),
+                tramos);
+    }
+
+    /**
+     * Distancia y tiempo mínimos entre cada origen y cada destino. Las filas de los orígenes
+     * se toman de la matriz precalculada o se calculan y guardan en la primera consulta.
+     */
+    public MatrizRutasDTO calcularMatriz(List<String> origenes, List<String> destinos) {
+        if (origenes == null || origenes.isEmpty() || destinos == null || destinos.isEmpty()) {
+            throw new ValidationException("Se requiere al menos un origen y un destino");
+        }
+        int[] indicesDestino = new int[destinos.size()];
+        for (int j = 0; j < destinos.size(); j++) {
+            indicesDestino[j] = indiceDe(destinos.get(j));
+        }
+
+        MatrizRutas actual = matriz;
+        List<List<Double>> distancias = new ArrayList<>(origenes.size());
+        List<List<Integer>> tiempos = new ArrayList<>(origenes.size());
+        for (String origen : origenes) {
+            MatrizRutas.Fila fila = actual.fila(indiceDe(origen));
+            List<Double> filaDistancias = new ArrayList<>(indicesDestino.length);
+            List<Integer> filaTiempos = new ArrayList<>(indicesDestino.length);
+            for (int destino : indicesDestino) {
+                double distancia = fila.distanciaHacia(destino);
+                int tiempo = fila.tiempoHacia(destino);
+                filaDistancias.add(Double.isInfinite(distancia) ? null : distancia);
+                filaTiempos.add(tiempo < 0 ? null : tiempo);
+            }
+            distancias.add(filaDistancias);
+            tiempos.add(filaTiempos);
+        }
+        return new MatrizRutasDTO(origenes, destinos, distancias, tiempos);
+    }
+
+    private int indiceDe(String punto) {
+        int indice = registroPuntos.indiceDe(punto);
+        if (indice < 0) {
+            throw new ResourceNotFoundException("Punto no encontrado en las rutas: " + punto);
+        }
+        return indice;
+    }
+
+    /**
+     * Aplica el cambio sobre la tabla de aristas, anotando las aristas que salen y entran;
+     * devuelve {@code true} si el grafo cambió.
+     */
+    private boolean aplicar(RutaModificadoEvent evento) {
+        if (!evento.isActiva() || !esNavegable(evento)) {
+            GrafoRutas.Arista eliminada = aristasActivas.remove(evento.getId());
+            if (eliminada == null) {
+                return false;
+            }
+            aristasEliminadas.add(eliminada);
+            return true;
+        }
+        GrafoRutas.Arista arista = new GrafoRutas.Arista(
+                evento.getId(),
+                evento.getNombre(),
+                registroPuntos.registrar(evento.getPuntoOrigen()),
+                registroPuntos.registrar(evento.getPuntoDestino()),
+                evento.getDistanciaKm(),
+                evento.getTiempoEstimadoMinutos());
+        GrafoRutas.Arista anterior = aristasActivas.put(evento.getId(), arista);
+        if (anterior != null) {
+            aristasEliminadas.add(anterior);
+        }
+        aristasAgregadas.add(arista);
+        return true;
+    }
+
+    private boolean esNavegable(RutaModificadoEvent evento) {
+        return evento.getPuntoOrigen() != null && !evento.getPuntoOrigen().isBlank()
+                && evento.getPuntoDestino() != null && !evento.getPuntoDestino().isBlank()
+                && evento.getDistanciaKm() != null && evento.getDistanciaKm() >= 0
+                && evento.getTiempoEstimadoMinutos() != null && evento.getTiempoEstimadoMinutos() >= 0;
+    }
+
+    private void publicarGrafo() {
+        GrafoRutas grafo = GrafoRutas.construir(registroPuntos.tamano(), aristasActivas.values());
+        matriz = matriz.actualizar(grafo, aristasEliminadas, aristasAgregadas);
+        aristasEliminadas.clear();
+        aristasAgregadas.clear();
+        precalcularDepositos();
+    }
+
+    private void precalcularDepositos() {
+        for (String deposito : depositos) {
+            int indice = registroPuntos.indiceDe(deposito);
+            if (indice >= 0) {
+                matriz.fila(indice);
+            }
+        }
+    }
+}
@@ -3,19 +3,39 @@ package org.gersystem.transporte.application;
 import lombok.RequiredArgsConstructor;
 import org.gersystem.transporte.domain.model.EstadoPedido;
 import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.PedidoArchivado;
+import org.gersystem.transporte.domain.service.ArchivoPedidosDomainService;
 import org.gersystem.transporte.domain.service.PedidoDomainService;
+import org.gersystem.transporte.infrastructure.adapters.repository.ProyeccionRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class PedidoApplicationService {
 
+    private static final CamposProyeccion CAMPOS = new CamposProyeccion(Map.ofEntries(
+            Map.entry("id", "id"),
+            Map.entry("descripcion", "descripcion"),
+            Map.entry("peso", "peso"),
+            Map.entry("estado", "estado"),
+            Map.entry("createdDate", "createdDate"),
+            Map.entry("lastModifiedDate", "lastModifiedDate"),
+            Map.entry("vehiculoId", "vehiculo.id"),
+            Map.entry("vehiculoPlaca", "vehiculo.placa"),
+            Map.entry("conductorId", "conductor.id"),
+            Map.entry("conductorNombre", "conductor.nombre")
+    ));
+
     private final PedidoDomainService pedidoDomainService;
+    private final ProyeccionRepository proyeccionRepository;
+    private final ArchivoPedidosDomainService archivoPedidosDomainService;
 
     @Transactional
     public Pedido crearPedido(Pedido pedido, Long vehiculoId) {
@@ -39,7 +59,37 @@ public class PedidoApplicationService {
             Long vehiculoId,
             LocalDateTime fechaInicio,
             LocalDateTime fechaFin,
+            boolean incluirArchivados,
+            Pageable pageable) {
+        return pedidoDomainService.buscarPedidos(estado, conductorId, vehiculoId, fechaInicio, fechaFin,
+                incluirArchivados, pageable);
+    }
+
+    /**
+     * Igual que {@link #buscarPedidos}, pero leyendo solo las columnas de los campos pedidos.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> buscarPedidosProyectados(
+            String fields,
+            EstadoPedido estado,
+            Long conductorId,
+            Long vehiculoId,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            boolean incluirArchivados,
             Pageable pageable) {
-        return pedidoDomainService.buscarPedidos(estado, conductorId, vehiculoId, fechaInicio, fechaFin, pageable);
+        Map<String, String> campos = CAMPOS.seleccionar(fields);
+        Pageable orden = CAMPOS.ordenar(pageable);
+        Page<Map<String, Object>> vigentes = proyeccionRepository.buscar(Pedido.class,
+                pedidoDomainService.especificacionBusqueda(estado, conductorId, vehiculoId, fechaInicio, fechaFin),
+                campos, orden);
+        if (!pedidoDomainService.consultaArchivo(estado, fechaInicio, incluirArchivados)) {
+            return vigentes;
+        }
+        Specification<PedidoArchivado> archivados =
+                pedidoDomainService.especificacion(estado, conductorId, vehiculoId, fechaInicio, fechaFin);
+        return archivoPedidosDomainService.continuarConArchivo(vigentes, orden,
+                pagina -> proyeccionRepository.buscar(PedidoArchivado.class, archivados, campos, pagina),
+                pedidoDomainService.totalArchivados(estado, conductorId, vehiculoId, fechaInicio, fechaFin));
     }
-} 
+}
@@ -0,0 +1,145 @@
+package org.gersystem.transporte.application;
+
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.RutaRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConductorCambioDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RutaCambioDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.SincronizacionDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.VehiculoCambioDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sincronización incremental para clientes que trabajan sin conexión. Cada consulta devuelve
+ * como máximo {@code limite} registros modificados después del cursor, ordenados por fecha de
+ * modificación e id, y un nuevo cursor para continuar; la memoria usada no depende del total
+ * de cambios pendientes. Las bajas lógicas se informan como ids eliminados.
+ *
+ * La fecha de modificación se asigna antes de confirmar la transacción, así que una escritura
+ * lenta puede confirmarse con una fecha anterior a la de otra ya visible. Para no saltarla,
+ * los registros modificados en los últimos {@code margen-segundos} se dejan para la siguiente
+ * consulta.
+ */
+@Service
+public class SincronizacionService {
+
+    private static final int LIMITE_MAXIMO = 1000;
+    private static final LocalDateTime INICIO = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final VehiculoRepository vehiculoRepository;
+    private final ConductorRepository conductorRepository;
+    private final RutaRepository rutaRepository;
+    private final long margenSegundos;
+    private final long diasRetencionVehiculos;
+
+    public SincronizacionService(VehiculoRepository vehiculoRepository,
+                                 ConductorRepository conductorRepository,
+                                 RutaRepository rutaRepository,
+                                 @Value("${transporte.sincronizacion.margen-segundos:5}") long margenSegundos,
+                                 @Value("${transporte.retencion.vehiculos-inactivos.dias:365}") long diasRetencionVehiculos) {
+        this.vehiculoRepository = vehiculoRepository;
+        this.conductorRepository = conductorRepository;
+        this.rutaRepository = rutaRepository;
+        this.margenSegundos = margenSegundos;
+        this.diasRetencionVehiculos = diasRetencionVehiculos;
+    }
+
+    /**
+     * Los vehículos dados de baja se eliminan al vencer su retención: un cursor anterior pudo
+     * perder esas bajas y debe volver a sincronizar desde el inicio.
+     */
+    @Transactional(readOnly = true)
+    public SincronizacionDTO<VehiculoCambioDTO> sincronizarVehiculos(String cursor, int limite) {
+        LocalDateTime minimo = diasRetencionVehiculos >= 0
+                ? LocalDateTime.now().minusDays(diasRetencionVehiculos)
+                : null;
+        return sincronizar(cursor, limite, minimo, vehiculoRepository::buscarCambios);
+    }
+
+    @Transactional(readOnly = true)
+    public SincronizacionDTO<ConductorCambioDTO> sincronizarConductores(String cursor, int limite) {
+        return sincronizar(cursor, limite, null, conductorRepository::buscarCambios);
+    }
+
+    @Transactional(readOnly = true)
+    public SincronizacionDTO<RutaCambioDTO> sincronizarRutas(String cursor, int limite) {
+        return sincronizar(cursor, limite, null, rutaRepository::buscarCambios);
+    }
+
+    private <T extends SincronizacionDTO.Fila> SincronizacionDTO<T> sincronizar(
+            String cursor, int limite, LocalDateTime cursorMinimo, ConsultaCambios<T> consulta) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new ValidationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        LocalDateTime desde = INICIO;
+        long desdeId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            long[] partes = leerCursor(cursor);
+            desde = desdeMicros(partes[0]);
+            desdeId = partes[1];
+            if (cursorMinimo != null && desde.isBefore(cursorMinimo)) {
+                throw new ValidationException("El cursor es anterior a la retención de bajas; sincronice sin cursor");
+            }
+        }
+
+        // Se pide uno más para saber si quedan cambios sin contar el total
+        List<T> filas = consulta.buscar(desde, desdeId, LocalDateTime.now().minusSeconds(margenSegundos),
+                PageRequest.of(0, limite + 1));
+        boolean hayMas = filas.size() > limite;
+        if (hayMas) {
+            filas = filas.subList(0, limite);
+        }
+
+        List<T> cambios = new ArrayList<>(filas.size());
+        List<Long> eliminados = new ArrayList<>();
+        for (T fila : filas) {
+            if (fila.vigente()) {
+                cambios.add(fila);
+            } else {
+                eliminados.add(fila.getId());
+            }
+        }
+        String siguiente = filas.isEmpty() ? cursor : escribirCursor(filas.get(filas.size() - 1));
+        return new SincronizacionDTO<>(cambios, eliminados, siguiente, hayMas);
+    }
+
+    private static String escribirCursor(SincronizacionDTO.Fila fila) {
+        LocalDateTime fecha = fila.getLastModifiedDate();
+        long micros = fecha.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + fecha.getNano() / 1_000;
+        return micros + "-" + fila.getId();
+    }
+
+    private static long[] leerCursor(String cursor) {
+        int separador = cursor.lastIndexOf('-');
+        try {
+            if (separador <= 0) {
+                throw new NumberFormatException();
+            }
+            return new long[]{
+                    Long.parseLong(cursor.substring(0, separador)),
+                    Long.parseLong(cursor.substring(separador + 1))};
+        } catch (NumberFormatException e) {
+            throw new ValidationException("El cursor de sincronización no es válido");
+        }
+    }
+
+    private static LocalDateTime desdeMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    private interface ConsultaCambios<T> {
+        List<T> buscar(LocalDateTime desde, Long desdeId, LocalDateTime hasta, Pageable limite);
+    }
+}
@@ -3,36 +3,53 @@ package org.gersystem.transporte.application;
 import org.gersystem.transporte.domain.model.Vehiculo;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
 import org.gersystem.transporte.domain.service.VehiculoDomainService;
+import org.gersystem.transporte.infrastructure.adapters.repository.ProyeccionRepository;
 import org.gersystem.transporte.infrastructure.adapters.repository.VehiculoSpecification;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.*;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.VehiculoMapper;
 import org.gersystem.transporte.infrastructure.adapters.rest.exception.ResourceNotFoundException;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class VehiculoApplicationService {
 
+    private static final CamposProyeccion CAMPOS = new CamposProyeccion(Map.of(
+            "id", "id",
+            "placa", "placa",
+            "capacidad", "capacidad",
+            "activo", "activo",
+            "conductorId", "conductor.id",
+            "conductorNombre", "conductor.nombre"
+    ));
+
     private final VehiculoRepository vehiculoRepository;
     private final VehiculoDomainService vehiculoDomainService;
     private final VehiculoMapper vehiculoMapper;
     private final VehiculoSpecification vehiculoSpecification;
+    private final CalendarioMantenimientoService calendarioMantenimientoService;
+    private final ProyeccionRepository proyeccionRepository;
 
     public VehiculoApplicationService(VehiculoRepository vehiculoRepository,
                                     VehiculoDomainService vehiculoDomainService,
                                     VehiculoMapper vehiculoMapper,
-                                    VehiculoSpecification vehiculoSpecification) {
+                                    VehiculoSpecification vehiculoSpecification,
+                                    CalendarioMantenimientoService calendarioMantenimientoService,
+                                    ProyeccionRepository proyeccionRepository) {
         this.vehiculoRepository = vehiculoRepository;
         this.vehiculoDomainService = vehiculoDomainService;
         this.vehiculoMapper = vehiculoMapper;
         this.vehiculoSpecification = vehiculoSpecification;
+        this.calendarioMantenimientoService = calendarioMantenimientoService;
+        this.proyeccionRepository = proyeccionRepository;
     }
 
     @Transactional
@@ -61,9 +78,16 @@ public class VehiculoApplicationService {
 
     @Transactional(readOnly = true)
     public VehiculoDTO obtenerVehiculoPorId(Long id) {
+        return vehiculoMapper.toDto(obtenerVehiculoActivo(id));
+    }
+
+    /**
+     * Vehículo activo sin mapear, para que el controlador pueda responder 304 sin construir el DTO.
+     */
+    @Transactional(readOnly = true)
+    public Vehiculo obtenerVehiculoActivo(Long id) {
         return vehiculoRepository.findById(id)
                 .filter(Vehiculo::isActivo)
-                .map(vehiculoMapper::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException("Vehículo no encontrado con id: " + id));
     }
 
@@ -78,15 +102,37 @@ public class VehiculoApplicationService {
         Page<VehiculoDTO> dtoPage = vehiculoRepository.findAll(spec, pageable).map(vehiculoMapper::toDto);
         return new PageDTO<>(dtoPage);
     }
+
+    /**
+     * Igual que {@link #obtenerTodosLosVehiculos}, pero leyendo solo las columnas de los campos pedidos.
+     */
+    @Transactional(readOnly = true)
+    public PageDTO<Map<String, Object>> obtenerVehiculosProyectados(String fields, String placa, Boolean activo,
+                                                                   Pageable pageable) {
+        Specification<Vehiculo> spec = Specification.where(vehiculoSpecification.placaContains(placa))
+                                                    .and(vehiculoSpecification.esActivo(activo != null ? activo : true));
+        return new PageDTO<>(proyeccionRepository.buscar(Vehiculo.class, spec,
+                CAMPOS.seleccionar(fields), CAMPOS.ordenar(pageable)));
+    }
     
-    @Cacheable("vehiculosLibres")
+    /**
+     * Vehículos activos sin conductor que no están en el taller en este momento.
+     */
     @Transactional(readOnly = true)
     public List<VehiculoDTO> obtenerVehiculosLibres() {
-        return vehiculoRepository.findVehiculosLibres().stream()
+        return buscarVehiculosLibres().stream()
                 .map(vehiculoMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Vehiculo> buscarVehiculosLibres() {
+        LocalDateTime ahora = LocalDateTime.now();
+        return vehiculoRepository.findVehiculosLibres().stream()
+                .filter(vehiculo -> !calendarioMantenimientoService.enMantenimiento(vehiculo.getId(), ahora))
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void eliminarVehiculo(Long id) {
         Vehiculo vehiculo = vehiculoRepository.findById(id)
@@ -0,0 +1,35 @@
+package org.gersystem.transporte.application;
+
+import org.gersystem.transporte.domain.event.RutaModificadoEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versión de las colecciones que los clientes consultan con frecuencia, para construir ETags
+ * sin consultar la base. Cada cambio confirmado incrementa la versión; el instante de arranque
+ * forma parte de la versión para que no se repita tras un reinicio.
+ *
+ * Como el resto de los índices en memoria, supone una sola instancia escribiendo.
+ */
+@Service
+public class VersionesColeccionService {
+
+    private final long arranque = System.currentTimeMillis();
+    private final AtomicLong rutas = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void rutaModificada(RutaModificadoEvent evento) {
+        rutas.incrementAndGet();
+    }
+
+    /**
+     * Debe leerse antes de consultar la colección: si un cambio se confirma entre ambas
+     * lecturas, la respuesta lleva la versión anterior y la siguiente consulta la renueva.
+     * La colección debe leerse de la primaria, fuera de transacciones de solo lectura.
+     */
+    public String versionRutas() {
+        return Long.toString(arranque, 36) + "-" + rutas.get();
+    }
+}
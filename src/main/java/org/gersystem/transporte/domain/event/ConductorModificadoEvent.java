@@ -0,0 +1,24 @@
+package org.gersystem.transporte.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.gersystem.transporte.domain.model.Conductor;
+
+/**
+ * Copia del estado de un conductor tras crearse o modificarse.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ConductorModificadoEvent {
+    private final Long id;
+    private final String nombre;
+    private final String licencia;
+    private final boolean activo;
+
+    public static ConductorModificadoEvent desde(Conductor conductor) {
+        return new ConductorModificadoEvent(
+                conductor.getId(), conductor.getNombre(), conductor.getLicencia(), conductor.isActivo());
+    }
+}
@@ -0,0 +1,32 @@
+package org.gersystem.transporte.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.Mantenimiento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copia del estado de un mantenimiento tras crearse o modificarse.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MantenimientoModificadoEvent {
+    private final Long id;
+    private final Long vehiculoId;
+    private final LocalDateTime fechaProgramada;
+    private final EstadoMantenimiento estado;
+    private final LocalDateTime fechaRealizada;
+
+    public static MantenimientoModificadoEvent desde(Mantenimiento mantenimiento) {
+        return new MantenimientoModificadoEvent(
+                mantenimiento.getId(),
+                mantenimiento.getVehiculo() != null ? mantenimiento.getVehiculo().getId() : null,
+                mantenimiento.getFechaProgramada(),
+                mantenimiento.getEstado(),
+                mantenimiento.getFechaRealizada());
+    }
+}
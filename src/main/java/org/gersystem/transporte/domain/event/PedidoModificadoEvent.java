@@ -0,0 +1,47 @@
+package org.gersystem.transporte.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Copia del estado de un pedido tras crearse o modificarse, junto con el estado que tenía
+ * antes del cambio ({@code null} si es nuevo).
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PedidoModificadoEvent {
+    private final Long id;
+    private final Long vehiculoId;
+    private final Long conductorId;
+    private final String descripcion;
+    private final BigDecimal peso;
+    private final EstadoPedido estadoAnterior;
+    private final EstadoPedido estado;
+    private final LocalDateTime fechaModificacion;
+
+    public static PedidoModificadoEvent desde(Pedido pedido) {
+        return new PedidoModificadoEvent(
+                pedido.getId(),
+                pedido.getVehiculo() != null ? pedido.getVehiculo().getId() : null,
+                pedido.getConductor() != null ? pedido.getConductor().getId() : null,
+                pedido.getDescripcion(),
+                pedido.getPeso(),
+                pedido.getEstadoAnterior(),
+                pedido.getEstado(),
+                pedido.getLastModifiedDate());
+    }
+
+    /**
+     * {@code true} si este cambio es el que dejó el pedido como entregado.
+     */
+    public boolean esEntrega() {
+        return estado == EstadoPedido.ENTREGADO && estadoAnterior != EstadoPedido.ENTREGADO;
+    }
+}
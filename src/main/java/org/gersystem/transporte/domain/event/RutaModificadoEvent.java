@@ -0,0 +1,33 @@
+package org.gersystem.transporte.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.gersystem.transporte.domain.model.Ruta;
+
+/**
+ * Copia del estado de una ruta tras crearse, activarse, desactivarse o modificarse.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RutaModificadoEvent {
+    private final Long id;
+    private final String nombre;
+    private final String puntoOrigen;
+    private final String puntoDestino;
+    private final Double distanciaKm;
+    private final Integer tiempoEstimadoMinutos;
+    private final boolean activa;
+
+    public static RutaModificadoEvent desde(Ruta ruta) {
+        return new RutaModificadoEvent(
+                ruta.getId(),
+                ruta.getNombre(),
+                ruta.getPuntoOrigen(),
+                ruta.getPuntoDestino(),
+                ruta.getDistanciaKm(),
+                ruta.getTiempoEstimadoMinutos(),
+                ruta.isActiva());
+    }
+}
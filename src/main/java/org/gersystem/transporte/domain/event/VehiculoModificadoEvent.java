@@ -0,0 +1,34 @@
+package org.gersystem.transporte.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.gersystem.transporte.domain.model.Vehiculo;
+
+import java.math.BigDecimal;
+
+/**
+ * Copia del estado de un vehículo tras crearse o modificarse, junto con el conductor que tenía
+ * asignado antes del cambio.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class VehiculoModificadoEvent {
+    private final Long id;
+    private final String placa;
+    private final BigDecimal capacidad;
+    private final boolean activo;
+    private final Long conductorId;
+    private final Long conductorIdAnterior;
+
+    public static VehiculoModificadoEvent desde(Vehiculo vehiculo) {
+        return new VehiculoModificadoEvent(
+                vehiculo.getId(),
+                vehiculo.getPlaca(),
+                vehiculo.getCapacidad(),
+                vehiculo.isActivo(),
+                vehiculo.getConductor() != null ? vehiculo.getConductor().getId() : null,
+                vehiculo.getConductorIdAnterior());
+    }
+}
@@ -6,10 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.gersystem.transporte.infrastructure.adapters.repository.EventosEntidadListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_conductor_modificacion", columnList = "lastModifiedDate"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(EventosEntidadListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,6 +34,8 @@ public class Conductor extends Auditable {
     
     private boolean activo;
     
+    // Colección inversa: no se guarda en la caché de segundo nivel porque Hibernate no la
+    // invalida cuando cambia Vehiculo.conductor
     @OneToMany(mappedBy = "conductor")
     private List<Vehiculo> vehiculos;
 } 
@@ -4,11 +4,13 @@ import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.gersystem.transporte.infrastructure.adapters.repository.EventosEntidadListener;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
 @EqualsAndHashCode(callSuper = true)
+@EntityListeners(EventosEntidadListener.class)
 public class Mantenimiento extends Auditable {
 
     @Id
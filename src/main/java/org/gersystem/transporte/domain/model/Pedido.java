@@ -4,21 +4,27 @@ import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.gersystem.transporte.domain.model.Auditable;
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.infrastructure.adapters.repository.EventosEntidadListener;
 
 import java.math.BigDecimal;
 
 @Entity
+@Table(indexes = @Index(name = "idx_pedido_estado_modificacion", columnList = "estado, lastModifiedDate"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
+@EntityListeners(EventosEntidadListener.class)
 public class Pedido extends Auditable {
 
     @Id
@@ -43,4 +49,20 @@ public class Pedido extends Auditable {
     @ManyToOne
     @JoinColumn(name = "conductor_id")
     private Conductor conductor;
+
+    /**
+     * Estado tal como está en la base, para que los eventos distingan transiciones.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private EstadoPedido estadoAnterior;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void confirmarEstado() {
+        estadoAnterior = estado;
+    }
 } 
@@ -0,0 +1,70 @@
+package org.gersystem.transporte.domain.model;
+
+import javax.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pedido entregado o cancelado movido fuera de la tabla de pedidos. Conserva el id y las
+ * fechas originales; solo se escribe al archivar, con una copia directa entre tablas.
+ */
+@Entity
+@Immutable
+@Table(name = "pedido_archivado", indexes = {
+        @Index(name = "idx_pedido_archivado_creacion", columnList = "createdDate"),
+        @Index(name = "idx_pedido_archivado_estado_modificacion", columnList = "estado, lastModifiedDate")
+})
+@Data
+@NoArgsConstructor
+public class PedidoArchivado {
+
+    @Id
+    private Long id;
+
+    private String descripcion;
+
+    private BigDecimal peso;
+
+    @Enumerated(EnumType.STRING)
+    private EstadoPedido estado;
+
+    @ManyToOne
+    @JoinColumn(name = "vehiculo_id")
+    private Vehiculo vehiculo;
+
+    @ManyToOne
+    @JoinColumn(name = "conductor_id")
+    private Conductor conductor;
+
+    private String createdBy;
+
+    private LocalDateTime createdDate;
+
+    private String lastModifiedBy;
+
+    private LocalDateTime lastModifiedDate;
+
+    private LocalDateTime fechaArchivo;
+
+    /**
+     * Copia sin persistir con la forma de un {@link Pedido}, para responder igual que con los vigentes.
+     */
+    public Pedido toPedido() {
+        Pedido pedido = new Pedido();
+        pedido.setId(id);
+        pedido.setDescripcion(descripcion);
+        pedido.setPeso(peso);
+        pedido.setEstado(estado);
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedido.setCreatedBy(createdBy);
+        pedido.setCreatedDate(createdDate);
+        pedido.setLastModifiedBy(lastModifiedBy);
+        pedido.setLastModifiedDate(lastModifiedDate);
+        return pedido;
+    }
+}
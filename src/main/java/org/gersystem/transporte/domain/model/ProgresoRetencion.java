@@ -0,0 +1,57 @@
+package org.gersystem.transporte.domain.model;
+
+import javax.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Punto de avance de la purga de un tipo de dato. Mientras una pasada está en curso guarda su
+ * fecha de corte y el último id eliminado, de modo que tras un reinicio la pasada continúa donde
+ * quedó, con el mismo corte, en lugar de volver a recorrer desde el principio.
+ */
+@Entity
+@Table(name = "retencion_progreso")
+@Data
+@NoArgsConstructor
+public class ProgresoRetencion {
+
+    public enum Entidad {
+        REFRESH_TOKEN,
+        MANTENIMIENTO_CANCELADO,
+        VEHICULO_INACTIVO,
+        AUDITORIA
+    }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private Entidad entidad;
+
+    /** Corte de la pasada en curso; {@code null} si no hay ninguna. */
+    private LocalDateTime corte;
+
+    @Column(nullable = false)
+    private long ultimoId;
+
+    private LocalDateTime actualizado;
+
+    public ProgresoRetencion(Entidad entidad) {
+        this.entidad = entidad;
+    }
+
+    public boolean enCurso() {
+        return corte != null;
+    }
+
+    public void iniciar(LocalDateTime corte) {
+        this.corte = corte;
+        this.ultimoId = 0;
+    }
+
+    public void terminar() {
+        this.corte = null;
+        this.ultimoId = 0;
+    }
+}
@@ -0,0 +1,36 @@
+package org.gersystem.transporte.domain.model;
+
+import javax.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sesión de renovación de un usuario. Solo se guarda el hash SHA-256 del token entregado,
+ * y un usuario puede tener una sesión por dispositivo.
+ */
+@Entity
+@Table(name = "refresh_token",
+       indexes = @Index(name = "idx_refresh_token_expiracion", columnList = "fechaExpiracion"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RefreshToken extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Usuario usuario;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaExpiracion;
+}
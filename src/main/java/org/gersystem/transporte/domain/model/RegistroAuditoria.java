@@ -0,0 +1,55 @@
+package org.gersystem.transporte.domain.model;
+
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio relevante hecho por un usuario: transición de estado de un pedido o reasignación del
+ * conductor de un vehículo. La tabla solo recibe inserciones, en lotes, y en MySQL está
+ * particionada por mes sobre {@code fecha}.
+ */
+@Entity
+@Table(name = "registro_auditoria", indexes = {
+        @Index(name = "idx_auditoria_fecha", columnList = "fecha"),
+        @Index(name = "idx_auditoria_entidad", columnList = "entidad, entidadId, fecha")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistroAuditoria {
+
+    public enum Entidad {
+        PEDIDO,
+        VEHICULO
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime fecha;
+
+    @Column(nullable = false, length = 100)
+    private String usuario;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Entidad entidad;
+
+    @Column(nullable = false)
+    private Long entidadId;
+
+    @Column(nullable = false, length = 30)
+    private String campo;
+
+    @Column(length = 100)
+    private String valorAnterior;
+
+    @Column(length = 100)
+    private String valorNuevo;
+}
@@ -5,8 +5,15 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.gersystem.transporte.infrastructure.adapters.repository.EventosEntidadListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Table(indexes = @Index(name = "idx_ruta_modificacion", columnList = "lastModifiedDate"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(EventosEntidadListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Ruta extends Auditable {
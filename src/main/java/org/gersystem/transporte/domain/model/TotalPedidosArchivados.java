@@ -0,0 +1,46 @@
+package org.gersystem.transporte.domain.model;
+
+import javax.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Cantidad y peso acumulados de los pedidos archivados por conductor y estado, para que los
+ * totales de las estadísticas no tengan que recorrer el archivo.
+ */
+@Entity
+@Table(name = "pedido_archivado_total",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pedido_archivado_total", columnNames = {"conductor_id", "estado"}))
+@Data
+@NoArgsConstructor
+public class TotalPedidosArchivados {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "conductor_id")
+    private Long conductorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EstadoPedido estado;
+
+    @Column(nullable = false)
+    private long cantidad;
+
+    @Column(nullable = false)
+    private BigDecimal peso = BigDecimal.ZERO;
+
+    public TotalPedidosArchivados(Long conductorId, EstadoPedido estado) {
+        this.conductorId = conductorId;
+        this.estado = estado;
+    }
+
+    public void sumar(long cantidad, BigDecimal peso) {
+        this.cantidad += cantidad;
+        this.peso = this.peso.add(peso != null ? peso : BigDecimal.ZERO);
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,10 +41,6 @@ public class Usuario extends Auditable implements UserDetails {
     @Enumerated(EnumType.STRING)
     private List<Rol> roles;
 
-    private String refreshToken;
-    
-    private LocalDateTime refreshTokenExpiryDate;
-
     private boolean activo = true;
     
     @Override
@@ -3,13 +3,24 @@ package org.gersystem.transporte.domain.model;
 import javax.persistence.*;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.gersystem.transporte.infrastructure.adapters.repository.EventosEntidadListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
+@Table(indexes = @Index(name = "idx_vehiculo_modificacion", columnList = "lastModifiedDate"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(EventosEntidadListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,4 +41,20 @@ public class Vehiculo extends Auditable {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "conductor_id")
     private Conductor conductor;
+
+    /**
+     * Conductor asignado tal como está en la base, para que los eventos distingan reasignaciones.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long conductorIdAnterior;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void confirmarConductor() {
+        conductorIdAnterior = conductor != null ? conductor.getId() : null;
+    }
 } 
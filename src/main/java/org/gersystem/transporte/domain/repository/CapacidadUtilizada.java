@@ -0,0 +1,12 @@
+package org.gersystem.transporte.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección con la suma de los porcentajes de capacidad utilizada y la cantidad de pedidos,
+ * para combinar promedios de distintas tablas.
+ */
+public interface CapacidadUtilizada {
+    BigDecimal getSuma();
+    Long getCantidad();
+}
@@ -1,7 +1,9 @@
 package org.gersystem.transporte.domain.repository;
 
 import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConductorCambioDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConteoVehiculosDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -19,11 +22,38 @@ public interface ConductorRepository extends JpaRepository<Conductor, Long> {
     
     List<Conductor> findByVehiculosIsEmpty();
     
-    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.ConteoVehiculosDTO(" +
-           "c.id, c.nombre, COUNT(v)) " +
-           "FROM Conductor c LEFT JOIN c.vehiculos v " +
-           "GROUP BY c.id, c.nombre")
-    List<ConteoVehiculosDTO> countVehiculosByConductor();
+    @Query(value = "SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.ConteoVehiculosDTO(" +
+                   "c.id, c.nombre, COUNT(v)) " +
+                   "FROM Conductor c LEFT JOIN c.vehiculos v " +
+                   "GROUP BY c.id, c.nombre",
+           countQuery = "SELECT COUNT(c) FROM Conductor c")
+    Page<ConteoVehiculosDTO> countVehiculosByConductor(Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Conductor c WHERE NOT EXISTS (SELECT v.id FROM Vehiculo v WHERE v.conductor = c)")
+    long contarConductoresSinVehiculos();
+
+    @Query(value = "SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO$ConductorSimpleDTO(" +
+                   "c.id, c.nombre, c.licencia) " +
+                   "FROM Conductor c " +
+                   "WHERE NOT EXISTS (SELECT v.id FROM Vehiculo v WHERE v.conductor = c)",
+           countQuery = "SELECT COUNT(c) FROM Conductor c " +
+                        "WHERE NOT EXISTS (SELECT v.id FROM Vehiculo v WHERE v.conductor = c)")
+    Page<EstadisticasDTO.ConductorSimpleDTO> findConductoresSinVehiculos(Pageable pageable);
     
     long countByActivoTrue();
-} 
+
+    @Query("SELECT COUNT(c) AS total, COALESCE(SUM(CASE WHEN c.activo = true THEN 1 ELSE 0 END), 0) AS activos " +
+           "FROM Conductor c")
+    ResumenConteo obtenerResumenConteo();
+
+    /**
+     * Página de cambios para sincronizar, ordenada por fecha de modificación e id a partir
+     * del último registro que recibió el cliente. Usa el índice sobre la fecha de modificación.
+     */
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.ConductorCambioDTO(" +
+           "e.id, e.nombre, e.licencia, e.activo, e.lastModifiedDate) " +
+           "FROM Conductor e " +
+           "WHERE (e.lastModifiedDate > :desde OR (e.lastModifiedDate = :desde AND e.id > :desdeId)) " +
+           "AND e.lastModifiedDate <= :hasta ORDER BY e.lastModifiedDate, e.id")
+    List<ConductorCambioDTO> buscarCambios(LocalDateTime desde, Long desdeId, LocalDateTime hasta, Pageable limite);
+}
@@ -0,0 +1,13 @@
+package org.gersystem.transporte.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección con el peso entregado y la cantidad de viajes de un vehículo desde su último
+ * mantenimiento completado.
+ */
+public interface DesgasteVehiculo {
+    Long getVehiculoId();
+    Long getViajes();
+    BigDecimal getPesoEntregado();
+}
@@ -6,10 +6,15 @@ import org.gersystem.transporte.domain.model.TipoMantenimiento;
 import org.gersystem.transporte.domain.model.Vehiculo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,4 +37,26 @@ public interface MantenimientoRepository extends JpaRepository<Mantenimiento, Lo
     List<Mantenimiento> findByVehiculoIdAndEstadoAndFechaProgramadaBetween(Long vehiculoId, EstadoMantenimiento estado, LocalDateTime inicio, LocalDateTime fin);
     Page<Mantenimiento> findByVehiculoId(Long vehiculoId, Pageable pageable);
     Page<Mantenimiento> findByEstado(EstadoMantenimiento estado, Pageable pageable);
-} 
+
+    /**
+     * Mantenimientos en proceso, cualquiera sea su fecha, y programados a partir de {@code desde}.
+     */
+    @EntityGraph(attributePaths = "vehiculo")
+    @Query("SELECT m FROM Mantenimiento m WHERE m.estado = :enProceso " +
+           "OR (m.estado IN :programados AND m.fechaProgramada > :desde)")
+    Page<Mantenimiento> findVigentes(@Param("enProceso") EstadoMantenimiento enProceso,
+                                     @Param("programados") Collection<EstadoMantenimiento> programados,
+                                     @Param("desde") LocalDateTime desde,
+                                     Pageable pageable);
+
+    @Query("SELECT m.id FROM Mantenimiento m WHERE m.id > :desdeId AND m.estado = :estado " +
+           "AND m.lastModifiedDate < :corte ORDER BY m.id")
+    List<Long> buscarIdsPorEstadoAnteriores(long desdeId, EstadoMantenimiento estado, LocalDateTime corte, Pageable pageable);
+
+    /**
+     * Elimina los mantenimientos indicados solo si siguen en el estado dado.
+     */
+    @Modifying
+    @Query("DELETE FROM Mantenimiento m WHERE m.id IN :ids AND m.estado = :estado")
+    int eliminarPorEstado(Collection<Long> ids, EstadoMantenimiento estado);
+}
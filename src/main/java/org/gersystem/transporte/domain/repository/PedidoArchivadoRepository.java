@@ -0,0 +1,62 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.PedidoArchivado;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PedidoArchivadoRepository extends JpaRepository<PedidoArchivado, Long>, JpaSpecificationExecutor<PedidoArchivado> {
+
+    /**
+     * Copia al archivo los pedidos en los estados indicados, modificados antes del corte, con id
+     * dentro del rango. Es el mismo filtro con el que luego se eliminan de la tabla de pedidos.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pedido_archivado (id, descripcion, peso, estado, vehiculo_id, conductor_id, " +
+           "created_by, created_date, last_modified_by, last_modified_date, fecha_archivo) " +
+           "SELECT id, descripcion, peso, estado, vehiculo_id, conductor_id, " +
+           "created_by, created_date, last_modified_by, last_modified_date, :ahora " +
+           "FROM pedido WHERE estado IN :estados AND last_modified_date < :corte AND id BETWEEN :desdeId AND :hastaId",
+           nativeQuery = true)
+    int copiarDesdePedidos(Collection<String> estados, LocalDateTime corte, Long desdeId, Long hastaId, LocalDateTime ahora);
+
+    @Query("SELECT COALESCE(SUM((a.peso / v.capacidad) * 100), 0) AS suma, COUNT(a) AS cantidad " +
+           "FROM PedidoArchivado a JOIN a.vehiculo v " +
+           "WHERE a.createdDate BETWEEN :fechaInicio AND :fechaFin AND a.estado = :estado")
+    CapacidadUtilizada capacidadUtilizada(EstadoPedido estado, LocalDateTime fechaInicio, LocalDateTime fechaFin);
+
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO(" +
+           "c.id, c.nombre, c.licencia, SUM(a.peso), COUNT(a)) " +
+           "FROM PedidoArchivado a JOIN a.conductor c " +
+           "WHERE a.estado = :estado AND a.lastModifiedDate >= :desde " +
+           "GROUP BY c.id, c.nombre, c.licencia")
+    List<RankingConductorDTO> rankingConductoresPorPeso(EstadoPedido estado, LocalDateTime desde);
+
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO(" +
+           "v.id, v.placa, v.capacidad, SUM(a.peso), COUNT(a)) " +
+           "FROM PedidoArchivado a JOIN a.vehiculo v " +
+           "WHERE v.activo = true AND a.estado = :estado AND a.lastModifiedDate >= :desde " +
+           "GROUP BY v.id, v.placa, v.capacidad")
+    List<UtilizacionVehiculoDTO> utilizacionVehiculos(EstadoPedido estado, LocalDateTime desde);
+
+    /**
+     * Igual que {@link PedidoRepository#desgastePorVehiculo}, sobre los pedidos archivados.
+     */
+    @Query("SELECT a.vehiculo.id AS vehiculoId, COUNT(a) AS viajes, COALESCE(SUM(a.peso), 0) AS pesoEntregado " +
+           "FROM PedidoArchivado a WHERE a.estado = :entregado AND a.vehiculo IS NOT NULL " +
+           "AND NOT EXISTS (SELECT m.id FROM Mantenimiento m WHERE m.vehiculo = a.vehiculo " +
+           "AND m.estado = :completado AND m.fechaRealizada >= a.lastModifiedDate) " +
+           "GROUP BY a.vehiculo.id")
+    List<DesgasteVehiculo> desgastePorVehiculo(EstadoPedido entregado, EstadoMantenimiento completado);
+}
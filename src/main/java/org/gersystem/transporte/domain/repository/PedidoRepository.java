@@ -1,15 +1,22 @@
 package org.gersystem.transporte.domain.repository;
 
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
 import org.gersystem.transporte.domain.model.EstadoPedido;
 import org.gersystem.transporte.domain.model.Pedido;
 import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.math.BigDecimal;
 import org.springframework.data.jpa.repository.Query;
@@ -37,4 +44,76 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long>, JpaSpecif
     
     @Query("SELECT AVG((p.peso / v.capacidad) * 100) FROM Pedido p JOIN p.vehiculo v WHERE p.createdDate BETWEEN :fechaInicio AND :fechaFin AND p.estado = 'ENTREGADO'")
     Double calcularPromedioCapacidadUtilizada(LocalDateTime fechaInicio, LocalDateTime fechaFin);
-} 
+
+    @Query("SELECT COALESCE(SUM((p.peso / v.capacidad) * 100), 0) AS suma, COUNT(p) AS cantidad " +
+           "FROM Pedido p JOIN p.vehiculo v " +
+           "WHERE p.createdDate BETWEEN :fechaInicio AND :fechaFin AND p.estado = :estado")
+    CapacidadUtilizada capacidadUtilizada(EstadoPedido estado, LocalDateTime fechaInicio, LocalDateTime fechaFin);
+
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO(" +
+           "c.id, c.nombre, c.licencia, SUM(p.peso), COUNT(p)) " +
+           "FROM Pedido p JOIN p.conductor c " +
+           "WHERE p.estado = :estado AND p.lastModifiedDate >= :desde " +
+           "GROUP BY c.id, c.nombre, c.licencia " +
+           "ORDER BY SUM(p.peso) DESC, c.id")
+    List<RankingConductorDTO> rankingConductoresPorPeso(EstadoPedido estado, LocalDateTime desde, Pageable pageable);
+
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO(" +
+           "v.id, v.placa, v.capacidad, COALESCE(SUM(p.peso), 0), COUNT(p)) " +
+           "FROM Vehiculo v LEFT JOIN Pedido p ON p.vehiculo = v AND p.estado = :estado AND p.lastModifiedDate >= :desde " +
+           "WHERE v.activo = true " +
+           "GROUP BY v.id, v.placa, v.capacidad " +
+           "ORDER BY COALESCE(SUM(p.peso), 0) ASC, COUNT(p) ASC, v.id")
+    List<UtilizacionVehiculoDTO> vehiculosMenosUtilizados(EstadoPedido estado, LocalDateTime desde, Pageable pageable);
+
+    @Query("SELECT COUNT(p) AS total, " +
+           "COALESCE(SUM(CASE WHEN p.estado = org.gersystem.transporte.domain.model.EstadoPedido.EN_PROCESO THEN 1 ELSE 0 END), 0) AS enProceso, " +
+           "COALESCE(SUM(CASE WHEN p.estado = org.gersystem.transporte.domain.model.EstadoPedido.ENTREGADO THEN 1 ELSE 0 END), 0) AS entregados, " +
+           "COALESCE(SUM(CASE WHEN p.estado = org.gersystem.transporte.domain.model.EstadoPedido.CANCELADO THEN 1 ELSE 0 END), 0) AS cancelados, " +
+           "COALESCE(SUM(CASE WHEN p.createdDate >= :inicioMes THEN 1 ELSE 0 END), 0) AS delMes, " +
+           "COALESCE(SUM(CASE WHEN p.estado = org.gersystem.transporte.domain.model.EstadoPedido.ENTREGADO THEN p.peso ELSE 0 END), 0) AS pesoEntregado " +
+           "FROM Pedido p")
+    ResumenPedidos obtenerResumen(LocalDateTime inicioMes);
+
+    @Query("SELECT COUNT(p) AS total, " +
+           "COALESCE(SUM(CASE WHEN p.createdDate >= :inicioMes THEN 1 ELSE 0 END), 0) AS delMes " +
+           "FROM Pedido p WHERE p.conductor.id = :conductorId AND p.estado = :estado")
+    ResumenEntregasConductor obtenerResumenEntregasConductor(Long conductorId, EstadoPedido estado, LocalDateTime inicioMes);
+
+    /**
+     * Pedidos con conductor en los estados indicados, como eventos, sin cargar entidades.
+     */
+    @Query("SELECT new org.gersystem.transporte.domain.event.PedidoModificadoEvent(" +
+           "p.id, v.id, c.id, p.descripcion, p.peso, p.estado, p.estado, p.lastModifiedDate) " +
+           "FROM Pedido p JOIN p.conductor c LEFT JOIN p.vehiculo v WHERE p.estado IN :estados")
+    Slice<PedidoModificadoEvent> buscarAsignadosPorEstado(Collection<EstadoPedido> estados, Pageable pageable);
+
+    /**
+     * Entregas de cada vehículo posteriores a su último mantenimiento completado,
+     * agrupadas en una sola consulta.
+     */
+    @Query("SELECT p.vehiculo.id AS vehiculoId, COUNT(p) AS viajes, COALESCE(SUM(p.peso), 0) AS pesoEntregado " +
+           "FROM Pedido p WHERE p.estado = :entregado AND p.vehiculo IS NOT NULL " +
+           "AND NOT EXISTS (SELECT m.id FROM Mantenimiento m WHERE m.vehiculo = p.vehiculo " +
+           "AND m.estado = :completado AND m.fechaRealizada >= p.lastModifiedDate) " +
+           "GROUP BY p.vehiculo.id")
+    List<DesgasteVehiculo> desgastePorVehiculo(EstadoPedido entregado, EstadoMantenimiento completado);
+
+    /**
+     * Ids de los pedidos en los estados indicados modificados antes del corte, en orden, para
+     * archivarlos por tramos. Usa el índice por estado y fecha de modificación.
+     */
+    @Query("SELECT p.id FROM Pedido p WHERE p.estado IN :estados AND p.lastModifiedDate < :corte ORDER BY p.id")
+    List<Long> buscarIdsModificadosAntesDe(Collection<EstadoPedido> estados, LocalDateTime corte, Pageable pageable);
+
+    @Query("SELECT p.conductor.id AS conductorId, p.estado AS estado, COUNT(p) AS cantidad, SUM(p.peso) AS peso " +
+           "FROM Pedido p WHERE p.estado IN :estados AND p.lastModifiedDate < :corte " +
+           "AND p.id BETWEEN :desdeId AND :hastaId GROUP BY p.conductor.id, p.estado")
+    List<TotalPedidosConductor> totalesModificadosAntesDe(Collection<EstadoPedido> estados, LocalDateTime corte,
+                                                          Long desdeId, Long hastaId);
+
+    @Modifying
+    @Query("DELETE FROM Pedido p WHERE p.estado IN :estados AND p.lastModifiedDate < :corte " +
+           "AND p.id BETWEEN :desdeId AND :hastaId")
+    int eliminarModificadosAntesDe(Collection<EstadoPedido> estados, LocalDateTime corte, Long desdeId, Long hastaId);
+}
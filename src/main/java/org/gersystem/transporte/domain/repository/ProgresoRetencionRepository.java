@@ -0,0 +1,9 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.ProgresoRetencion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProgresoRetencionRepository extends JpaRepository<ProgresoRetencion, ProgresoRetencion.Entidad> {
+}
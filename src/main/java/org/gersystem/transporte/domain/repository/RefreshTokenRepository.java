@@ -0,0 +1,37 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @EntityGraph(attributePaths = "usuario")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Elimina el token y devuelve cuántas filas borró; con 0 otro pedido ya lo consumió.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int eliminarPorHash(String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.usuario.id = :usuarioId")
+    int eliminarPorUsuario(Long usuarioId);
+
+    /**
+     * Ids de tokens vencidos antes del corte, posteriores a {@code desdeId}, en orden de id.
+     */
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.id > :desdeId AND r.fechaExpiracion < :corte ORDER BY r.id")
+    List<Long> buscarIdsVencidos(long desdeId, LocalDateTime corte, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.RegistroAuditoria;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RegistroAuditoriaRepository extends JpaRepository<RegistroAuditoria, Long>,
+        JpaSpecificationExecutor<RegistroAuditoria> {
+
+    @Query("SELECT r.id FROM RegistroAuditoria r WHERE r.id > :desdeId AND r.fecha < :corte ORDER BY r.id")
+    List<Long> buscarIdsAnteriores(long desdeId, LocalDateTime corte, Pageable pageable);
+}
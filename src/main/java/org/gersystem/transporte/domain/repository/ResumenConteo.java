@@ -0,0 +1,9 @@
+package org.gersystem.transporte.domain.repository;
+
+/**
+ * Proyección con el total de registros de una tabla y cuántos de ellos están activos.
+ */
+public interface ResumenConteo {
+    Long getTotal();
+    Long getActivos();
+}
@@ -0,0 +1,9 @@
+package org.gersystem.transporte.domain.repository;
+
+/**
+ * Proyección con las entregas de un conductor: totales y del mes en curso.
+ */
+public interface ResumenEntregasConductor {
+    Long getTotal();
+    Long getDelMes();
+}
@@ -0,0 +1,15 @@
+package org.gersystem.transporte.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección con los indicadores de pedidos calculados en una sola pasada sobre la tabla.
+ */
+public interface ResumenPedidos {
+    Long getTotal();
+    Long getEnProceso();
+    Long getEntregados();
+    Long getCancelados();
+    Long getDelMes();
+    BigDecimal getPesoEntregado();
+}
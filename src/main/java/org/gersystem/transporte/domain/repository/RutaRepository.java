@@ -1,12 +1,28 @@
 package org.gersystem.transporte.domain.repository;
 
 import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RutaCambioDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface RutaRepository extends JpaRepository<Ruta, Long> {
     Page<Ruta> findByActiva(boolean activa, Pageable pageable);
+
+    /**
+     * Página de cambios para sincronizar, ordenada por fecha de modificación e id a partir
+     * del último registro que recibió el cliente. Usa el índice sobre la fecha de modificación.
+     */
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.RutaCambioDTO(" +
+           "e.id, e.nombre, e.puntoOrigen, e.puntoDestino, e.distanciaKm, e.tiempoEstimadoMinutos, e.activa, e.lastModifiedDate) " +
+           "FROM Ruta e " +
+           "WHERE (e.lastModifiedDate > :desde OR (e.lastModifiedDate = :desde AND e.id > :desdeId)) " +
+           "AND e.lastModifiedDate <= :hasta ORDER BY e.lastModifiedDate, e.id")
+    List<RutaCambioDTO> buscarCambios(LocalDateTime desde, Long desdeId, LocalDateTime hasta, Pageable limite);
 } 
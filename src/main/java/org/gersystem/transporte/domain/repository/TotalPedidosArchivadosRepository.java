@@ -0,0 +1,34 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.TotalPedidosArchivados;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TotalPedidosArchivadosRepository extends JpaRepository<TotalPedidosArchivados, Long> {
+
+    Optional<TotalPedidosArchivados> findByConductorIdAndEstado(Long conductorId, EstadoPedido estado);
+
+    /**
+     * Indicadores de {@link ResumenPedidos} aportados por el archivo. Los pedidos archivados nunca
+     * están en proceso ni son del mes en curso, así que esos valores quedan vacíos.
+     */
+    @Query("SELECT COALESCE(SUM(t.cantidad), 0) AS total, " +
+           "COALESCE(SUM(CASE WHEN t.estado = org.gersystem.transporte.domain.model.EstadoPedido.ENTREGADO THEN t.cantidad ELSE 0 END), 0) AS entregados, " +
+           "COALESCE(SUM(CASE WHEN t.estado = org.gersystem.transporte.domain.model.EstadoPedido.CANCELADO THEN t.cantidad ELSE 0 END), 0) AS cancelados, " +
+           "COALESCE(SUM(CASE WHEN t.estado = org.gersystem.transporte.domain.model.EstadoPedido.ENTREGADO THEN t.peso ELSE 0 END), 0) AS pesoEntregado " +
+           "FROM TotalPedidosArchivados t")
+    ResumenPedidos obtenerResumen();
+
+    @Query("SELECT COALESCE(SUM(t.cantidad), 0) FROM TotalPedidosArchivados t " +
+           "WHERE t.conductorId = :conductorId AND t.estado = :estado")
+    long contarPorConductorYEstado(Long conductorId, EstadoPedido estado);
+
+    @Query("SELECT COALESCE(SUM(t.cantidad), 0) FROM TotalPedidosArchivados t " +
+           "WHERE (:estado IS NULL OR t.estado = :estado) AND (:conductorId IS NULL OR t.conductorId = :conductorId)")
+    long contarPorEstadoYConductor(EstadoPedido estado, Long conductorId);
+}
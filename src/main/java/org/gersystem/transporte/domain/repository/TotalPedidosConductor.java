@@ -0,0 +1,15 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.domain.model.EstadoPedido;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección con la cantidad y el peso de pedidos agrupados por conductor y estado.
+ */
+public interface TotalPedidosConductor {
+    Long getConductorId();
+    EstadoPedido getEstado();
+    Long getCantidad();
+    BigDecimal getPeso();
+}
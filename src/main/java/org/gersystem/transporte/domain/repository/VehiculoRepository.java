@@ -2,13 +2,19 @@ package org.gersystem.transporte.domain.repository;
 
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.VehiculoCambioDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,11 +27,51 @@ public interface VehiculoRepository extends JpaRepository<Vehiculo, Long>, JpaSp
     
     long countByActivoTrue();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Vehiculo> findByPlaca(String placa);
 
     List<Vehiculo> findByConductor(Conductor conductor);
 
     Page<Vehiculo> findByActivo(boolean activo, Pageable pageable);
 
+    @Query("SELECT v.id FROM Vehiculo v WHERE v.activo = true ORDER BY v.id")
+    List<Long> findIdsActivos();
+
+    @Query("SELECT v.id FROM Vehiculo v WHERE v.activo = false")
+    List<Long> findIdsInactivos();
+
     List<Vehiculo> findByCapacidadGreaterThanEqualAndActivo(BigDecimal capacidad, boolean activo);
-} 
+
+    @Query("SELECT COUNT(v) AS total, COALESCE(SUM(CASE WHEN v.activo = true THEN 1 ELSE 0 END), 0) AS activos " +
+           "FROM Vehiculo v")
+    ResumenConteo obtenerResumenConteo();
+
+    /**
+     * Página de cambios para sincronizar, ordenada por fecha de modificación e id a partir
+     * del último registro que recibió el cliente. Usa el índice sobre la fecha de modificación.
+     */
+    @Query("SELECT new org.gersystem.transporte.infrastructure.adapters.rest.dto.VehiculoCambioDTO(" +
+           "e.id, e.placa, e.capacidad, e.activo, e.conductor.id, e.lastModifiedDate) " +
+           "FROM Vehiculo e " +
+           "WHERE (e.lastModifiedDate > :desde OR (e.lastModifiedDate = :desde AND e.id > :desdeId)) " +
+           "AND e.lastModifiedDate <= :hasta ORDER BY e.lastModifiedDate, e.id")
+    List<VehiculoCambioDTO> buscarCambios(LocalDateTime desde, Long desdeId, LocalDateTime hasta, Pageable limite);
+
+    /**
+     * Vehículos dados de baja antes del corte que ningún pedido, vigente o archivado, ni
+     * mantenimiento referencia, en orden de id.
+     */
+    @Query("SELECT v.id FROM Vehiculo v WHERE v.id > :desdeId AND v.activo = false AND v.lastModifiedDate < :corte " +
+           "AND NOT EXISTS (SELECT p.id FROM Pedido p WHERE p.vehiculo = v) " +
+           "AND NOT EXISTS (SELECT a.id FROM PedidoArchivado a WHERE a.vehiculo = v) " +
+           "AND NOT EXISTS (SELECT m.id FROM Mantenimiento m WHERE m.vehiculo = v) " +
+           "ORDER BY v.id")
+    List<Long> buscarIdsInactivosSinHistorial(long desdeId, LocalDateTime corte, Pageable pageable);
+
+    /**
+     * Elimina los vehículos indicados solo si siguen dados de baja.
+     */
+    @Modifying
+    @Query("DELETE FROM Vehiculo v WHERE v.id IN :ids AND v.activo = false")
+    int eliminarInactivos(Collection<Long> ids);
+}
@@ -0,0 +1,178 @@
+package org.gersystem.transporte.domain.service;
+
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.PedidoArchivado;
+import org.gersystem.transporte.domain.model.TotalPedidosArchivados;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.TotalPedidosArchivadosRepository;
+import org.gersystem.transporte.domain.repository.TotalPedidosConductor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Archivo de pedidos cerrados. Los pedidos entregados o cancelados sin cambios en los últimos
+ * {@code dias} pasan de la tabla de pedidos a {@code pedido_archivado}, y sus cantidades y pesos
+ * se acumulan en {@code pedido_archivado_total} para que los totales no cambien.
+ *
+ * Todo pedido archivado fue creado antes del horizonte ({@code ahora - dias}), así que una
+ * consulta por fechas solo necesita el archivo si su rango empieza antes. Con un mínimo de 31
+ * días, ningún pedido del mes en curso está archivado.
+ */
+@Service
+public class ArchivoPedidosDomainService {
+
+    public static final Set<EstadoPedido> ESTADOS_ARCHIVABLES = Set.of(EstadoPedido.ENTREGADO, EstadoPedido.CANCELADO);
+    private static final List<String> NOMBRES_ARCHIVABLES = ESTADOS_ARCHIVABLES.stream().map(Enum::name).toList();
+    private static final int DIAS_MINIMOS = 31;
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArchivadoRepository pedidoArchivadoRepository;
+    private final TotalPedidosArchivadosRepository totalPedidosArchivadosRepository;
+    private final int dias;
+
+    public ArchivoPedidosDomainService(PedidoRepository pedidoRepository,
+                                       PedidoArchivadoRepository pedidoArchivadoRepository,
+                                       TotalPedidosArchivadosRepository totalPedidosArchivadosRepository,
+                                       @Value("${transporte.pedidos.archivo.dias:180}") int dias) {
+        if (dias < DIAS_MINIMOS) {
+            throw new IllegalStateException("transporte.pedidos.archivo.dias debe ser al menos " + DIAS_MINIMOS);
+        }
+        this.pedidoRepository = pedidoRepository;
+        this.pedidoArchivadoRepository = pedidoArchivadoRepository;
+        this.totalPedidosArchivadosRepository = totalPedidosArchivadosRepository;
+        this.dias = dias;
+    }
+
+    /**
+     * Fecha antes de la cual un pedido cerrado puede estar archivado.
+     */
+    public LocalDateTime horizonte() {
+        return LocalDateTime.now().minusDays(dias);
+    }
+
+    /**
+     * Indica si un rango que empieza en {@code desde} puede incluir pedidos archivados.
+     * Sin inicio, el rango no tiene límite inferior.
+     */
+    public boolean alcanzaArchivo(LocalDateTime desde) {
+        return desde == null || desde.isBefore(horizonte());
+    }
+
+    /**
+     * Archiva un tramo de hasta {@code tamano} pedidos en una sola transacción: copia, acumula
+     * totales y elimina con el mismo filtro, así una falla no deja el tramo a medias.
+     *
+     * @return cantidad de pedidos archivados; menos de {@code tamano} indica que no quedan más
+     */
+    @Transactional
+    public int archivarTramo(int tamano) {
+        LocalDateTime corte = horizonte();
+        List<Long> ids = pedidoRepository.buscarIdsModificadosAntesDe(
+                ESTADOS_ARCHIVABLES, corte, PageRequest.of(0, tamano));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long desdeId = ids.get(0);
+        Long hastaId = ids.get(ids.size() - 1);
+
+        int copiados = pedidoArchivadoRepository.copiarDesdePedidos(
+                NOMBRES_ARCHIVABLES, corte, desdeId, hastaId, LocalDateTime.now());
+        for (TotalPedidosConductor total : pedidoRepository.totalesModificadosAntesDe(
+                ESTADOS_ARCHIVABLES, corte, desdeId, hastaId)) {
+            TotalPedidosArchivados acumulado = totalPedidosArchivadosRepository
+                    .findByConductorIdAndEstado(total.getConductorId(), total.getEstado())
+                    .orElseGet(() -> new TotalPedidosArchivados(total.getConductorId(), total.getEstado()));
+            acumulado.sumar(total.getCantidad(), total.getPeso());
+            totalPedidosArchivadosRepository.save(acumulado);
+        }
+        int eliminados = pedidoRepository.eliminarModificadosAntesDe(ESTADOS_ARCHIVABLES, corte, desdeId, hastaId);
+        if (eliminados != copiados) {
+            throw new IllegalStateException(String.format(
+                    "Tramo de pedidos %d-%d inconsistente: %d copiados y %d eliminados", desdeId, hastaId, copiados, eliminados));
+        }
+        return eliminados;
+    }
+
+    public Optional<Pedido> buscarPorId(Long id) {
+        return pedidoArchivadoRepository.findById(id).map(PedidoArchivado::toPedido);
+    }
+
+    /**
+     * Pedidos archivados con el estado y el conductor indicados (null = cualquiera), tomados de
+     * los totales acumulados en lugar de contar el archivo.
+     */
+    public long contarArchivados(EstadoPedido estado, Long conductorId) {
+        return totalPedidosArchivadosRepository.contarPorEstadoYConductor(estado, conductorId);
+    }
+
+    public Page<Pedido> buscar(Specification<PedidoArchivado> spec, Pageable pageable) {
+        return pedidoArchivadoRepository.findAll(spec, pageable).map(PedidoArchivado::toPedido);
+    }
+
+    /**
+     * Continúa una página de pedidos vigentes con los archivados, como si fueran una sola lista
+     * con los vigentes primero. El orden pedido se aplica dentro de cada tabla.
+     *
+     * @param archivados consulta paginada sobre el archivo con el mismo filtro y orden
+     * @param totalArchivo archivados que cumplen el filtro, si ya se conocen; con la página de
+     *                     vigentes completa evitan consultar el archivo
+     */
+    public <T> Page<T> continuarConArchivo(Page<T> vigentes, Pageable pageable, Function<Pageable, Page<T>> archivados,
+                                           Long totalArchivo) {
+        if (pageable.isUnpaged()) {
+            List<T> todos = new ArrayList<>(vigentes.getContent());
+            todos.addAll(archivados.apply(pageable).getContent());
+            return new PageImpl<>(todos, pageable, todos.size());
+        }
+
+        // Las páginas del archivo se piden con distinto tamaño y desplazamiento: el id desempata
+        Sort orden = pageable.getSort().getOrderFor("id") != null
+                ? pageable.getSort()
+                : pageable.getSort().and(Sort.by("id"));
+        int tamano = pageable.getPageSize();
+        List<T> contenido = new ArrayList<>(vigentes.getContent());
+        long desde = Math.max(0, pageable.getOffset() - vigentes.getTotalElements());
+        int pagina = (int) (desde / tamano);
+        int salto = (int) (desde % tamano);
+
+        boolean completa = contenido.size() >= tamano;
+        if (completa && totalArchivo != null) {
+            return new PageImpl<>(contenido, pageable, vigentes.getTotalElements() + totalArchivo);
+        }
+        // Con la página completa solo hace falta el total del archivo
+        Page<T> archivo = archivados.apply(completa
+                ? PageRequest.of(0, 1, orden)
+                : PageRequest.of(contenido.isEmpty() ? pagina : 0, tamano, orden));
+        long total = totalArchivo != null ? totalArchivo : archivo.getTotalElements();
+        if (!completa) {
+            // La página pedida puede empezar a mitad de una página del archivo y seguir en la próxima
+            agregar(contenido, archivo.getContent(), contenido.isEmpty() ? salto : 0, tamano);
+            if (contenido.size() < tamano && archivo.hasNext()) {
+                agregar(contenido, archivados.apply(archivo.nextPageable()).getContent(), 0, tamano);
+            }
+        }
+        return new PageImpl<>(contenido, pageable, vigentes.getTotalElements() + total);
+    }
+
+    private static <T> void agregar(List<T> destino, List<T> origen, int salto, int tamano) {
+        for (int i = salto; i < origen.size() && destino.size() < tamano; i++) {
+            destino.add(origen.get(i));
+        }
+    }
+}
@@ -4,68 +4,110 @@ import lombok.Data;
 import org.gersystem.transporte.domain.model.EstadoPedido;
 import org.gersystem.transporte.domain.repository.ConductorRepository;
 import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.ResumenConteo;
+import org.gersystem.transporte.domain.repository.ResumenEntregasConductor;
+import org.gersystem.transporte.domain.repository.ResumenPedidos;
+import org.gersystem.transporte.domain.repository.TotalPedidosArchivadosRepository;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
+/**
+ * Motor único de estadísticas del sistema.
+ * Calcula todos los indicadores en una sola pasada por tabla y los guarda en una única
+ * instantánea cacheada, a partir de la cual se construyen los distintos DTOs expuestos.
+ */
 @Service
 public class EstadisticasDomainService {
 
     private final PedidoRepository pedidoRepository;
     private final VehiculoRepository vehiculoRepository;
     private final ConductorRepository conductorRepository;
+    private final TotalPedidosArchivadosRepository totalPedidosArchivadosRepository;
 
     public EstadisticasDomainService(PedidoRepository pedidoRepository,
                                     VehiculoRepository vehiculoRepository,
-                                    ConductorRepository conductorRepository) {
+                                    ConductorRepository conductorRepository,
+                                    TotalPedidosArchivadosRepository totalPedidosArchivadosRepository) {
         this.pedidoRepository = pedidoRepository;
         this.vehiculoRepository = vehiculoRepository;
         this.conductorRepository = conductorRepository;
+        this.totalPedidosArchivadosRepository = totalPedidosArchivadosRepository;
     }
 
-    @Cacheable(value = "estadisticasGenerales", key = "'general'")
-    public EstadisticasGenerales obtenerEstadisticasGenerales() {
-        EstadisticasGenerales estadisticas = new EstadisticasGenerales();
-        
-        // Métricas de vehículos
-        estadisticas.setTotalVehiculos(vehiculoRepository.count());
-        estadisticas.setVehiculosActivos(vehiculoRepository.countByActivoTrue());
-        
-        // Métricas de conductores
-        estadisticas.setTotalConductores(conductorRepository.count());
-        estadisticas.setConductoresActivos(conductorRepository.countByActivoTrue());
-        
-        // Métricas de pedidos
-        LocalDateTime inicioMes = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0);
-        estadisticas.setPedidosMesActual(pedidoRepository.countByCreatedDateAfter(inicioMes));
-        estadisticas.setPedidosCompletados(pedidoRepository.countByEstado(EstadoPedido.ENTREGADO));
-        estadisticas.setPedidosCancelados(pedidoRepository.countByEstado(EstadoPedido.CANCELADO));
-        
-        return estadisticas;
+    @Transactional(readOnly = true)
+    @Cacheable(value = "estadisticas_generales", key = "'resumen'")
+    public ResumenEstadisticas obtenerResumen() {
+        ResumenConteo conductores = conductorRepository.obtenerResumenConteo();
+        ResumenConteo vehiculos = vehiculoRepository.obtenerResumenConteo();
+        ResumenPedidos pedidos = pedidoRepository.obtenerResumen(inicioMes());
+        // Los archivados están cerrados y son anteriores al mes: solo suman a los totales
+        ResumenPedidos archivados = totalPedidosArchivadosRepository.obtenerResumen();
+
+        ResumenEstadisticas resumen = new ResumenEstadisticas();
+        resumen.setTotalConductores(valor(conductores.getTotal()));
+        resumen.setConductoresActivos(valor(conductores.getActivos()));
+        resumen.setTotalVehiculos(valor(vehiculos.getTotal()));
+        resumen.setVehiculosActivos(valor(vehiculos.getActivos()));
+        resumen.setTotalPedidos(valor(pedidos.getTotal()) + valor(archivados.getTotal()));
+        resumen.setPedidosEnProceso(valor(pedidos.getEnProceso()));
+        resumen.setPedidosEntregados(valor(pedidos.getEntregados()) + valor(archivados.getEntregados()));
+        resumen.setPedidosCancelados(valor(pedidos.getCancelados()) + valor(archivados.getCancelados()));
+        resumen.setPedidosMesActual(valor(pedidos.getDelMes()));
+        resumen.setPesoTotalTransportado(peso(pedidos.getPesoEntregado()).add(peso(archivados.getPesoEntregado())));
+        resumen.setConductoresSinVehiculos(conductorRepository.contarConductoresSinVehiculos());
+        return resumen;
     }
 
-    @Cacheable(value = "estadisticasConductor", key = "#conductorId")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "estadisticas_conductor", key = "#conductorId")
     public EstadisticasConductor obtenerEstadisticasConductor(Long conductorId) {
+        ResumenEntregasConductor entregas = pedidoRepository.obtenerResumenEntregasConductor(
+                conductorId, EstadoPedido.ENTREGADO, inicioMes());
+
         EstadisticasConductor estadisticas = new EstadisticasConductor();
-        
-        LocalDateTime inicioMes = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0);
-        estadisticas.setPedidosEntregadosMes(
-            pedidoRepository.countByConductorIdAndEstadoAndCreatedDateAfter(
-                conductorId, EstadoPedido.ENTREGADO, inicioMes
-            )
-        );
-        
-        estadisticas.setTotalPedidosEntregados(
-            pedidoRepository.countByConductorIdAndEstado(conductorId, EstadoPedido.ENTREGADO)
-        );
-        
+        estadisticas.setPedidosEntregadosMes(valor(entregas.getDelMes()));
+        estadisticas.setTotalPedidosEntregados(valor(entregas.getTotal())
+                + totalPedidosArchivadosRepository.contarPorConductorYEstado(conductorId, EstadoPedido.ENTREGADO));
         return estadisticas;
     }
 
+    private LocalDateTime inicioMes() {
+        return LocalDate.now().withDayOfMonth(1).atStartOfDay();
+    }
+
+    private long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+
+    private BigDecimal peso(BigDecimal peso) {
+        return peso != null ? peso : BigDecimal.ZERO;
+    }
+
+    /**
+     * Instantánea con todos los indicadores generales del sistema. Solo guarda conteos: los
+     * listados de conductores se consultan paginados en sus propios endpoints.
+     */
+    @Data
+    public static class ResumenEstadisticas {
+        private long totalConductores;
+        private long conductoresActivos;
+        private long totalVehiculos;
+        private long vehiculosActivos;
+        private long totalPedidos;
+        private long pedidosEnProceso;
+        private long pedidosEntregados;
+        private long pedidosCancelados;
+        private long pedidosMesActual;
+        private BigDecimal pesoTotalTransportado;
+        private long conductoresSinVehiculos;
+    }
+
     @Data
     public static class EstadisticasGenerales {
         private Long totalVehiculos;
@@ -75,6 +117,18 @@ public class EstadisticasDomainService {
         private Long pedidosMesActual;
         private Long pedidosCompletados;
         private Long pedidosCancelados;
+
+        public static EstadisticasGenerales desde(ResumenEstadisticas resumen) {
+            EstadisticasGenerales estadisticas = new EstadisticasGenerales();
+            estadisticas.setTotalVehiculos(resumen.getTotalVehiculos());
+            estadisticas.setVehiculosActivos(resumen.getVehiculosActivos());
+            estadisticas.setTotalConductores(resumen.getTotalConductores());
+            estadisticas.setConductoresActivos(resumen.getConductoresActivos());
+            estadisticas.setPedidosMesActual(resumen.getPedidosMesActual());
+            estadisticas.setPedidosCompletados(resumen.getPedidosEntregados());
+            estadisticas.setPedidosCancelados(resumen.getPedidosCancelados());
+            return estadisticas;
+        }
     }
 
     @Data
@@ -82,4 +136,4 @@ public class EstadisticasDomainService {
         private Long pedidosEntregadosMes;
         private Long totalPedidosEntregados;
     }
-} 
+}
@@ -1,10 +1,14 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.CalendarioMantenimientoService;
 import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.*;
 import org.gersystem.transporte.domain.repository.MantenimientoRepository;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.repository.MantenimientoLoteRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +16,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,11 +26,17 @@ public class MantenimientoDomainService {
 
     private final MantenimientoRepository mantenimientoRepository;
     private final VehiculoRepository vehiculoRepository;
+    private final CalendarioMantenimientoService calendarioMantenimientoService;
+    private final MantenimientoLoteRepository mantenimientoLoteRepository;
 
     public MantenimientoDomainService(MantenimientoRepository mantenimientoRepository,
-                                    VehiculoRepository vehiculoRepository) {
+                                    VehiculoRepository vehiculoRepository,
+                                    CalendarioMantenimientoService calendarioMantenimientoService,
+                                    MantenimientoLoteRepository mantenimientoLoteRepository) {
         this.mantenimientoRepository = mantenimientoRepository;
         this.vehiculoRepository = vehiculoRepository;
+        this.calendarioMantenimientoService = calendarioMantenimientoService;
+        this.mantenimientoLoteRepository = mantenimientoLoteRepository;
     }
 
     @Transactional
@@ -39,7 +50,9 @@ public class MantenimientoDomainService {
         mantenimiento.setFechaProgramada(fechaProgramada);
         
         validarFechaProgramada(fechaProgramada);
-        validarMantenimientosPendientes(vehiculo.getId(), fechaProgramada);
+        if (CalendarioMantenimientoService.ocupaCalendario(mantenimiento.getEstado())) {
+            calendarioMantenimientoService.reservar(vehiculo.getId(), fechaProgramada);
+        }
         
         return mantenimientoRepository.save(mantenimiento);
     }
@@ -59,6 +72,62 @@ public class MantenimientoDomainService {
         return mantenimientoRepository.save(mantenimiento);
     }
 
+    /**
+     * Programa un mantenimiento para cada vehículo activo dentro de los {@code intervaloDias}
+     * días que empiezan en {@code fechaInicio}, sin superar {@code capacidadDiaria} por día ni
+     * solaparse con otros mantenimientos del vehículo. Cada vehículo toma el primer día con cupo
+     * y ventana libre; los que no entran en el intervalo se informan sin programar.
+     */
+    @Transactional
+    public Planificacion planificarMantenimientos(TipoMantenimiento tipo, LocalDate fechaInicio, int intervaloDias,
+                                                  int capacidadDiaria, String descripcion) {
+        if (intervaloDias < 1 || capacidadDiaria < 1) {
+            throw new BusinessException("El intervalo y la capacidad diaria deben ser mayores a 0");
+        }
+        validarFechaProgramada(fechaInicio.atStartOfDay());
+
+        int[] ocupacionPorDia = new int[intervaloDias];
+        int primerDiaConCupo = 0;
+        List<Mantenimiento> programados = new ArrayList<>();
+        List<Long> sinCupo = new ArrayList<>();
+
+        for (Long vehiculoId : vehiculoRepository.findIdsActivos()) {
+            int diaAsignado = -1;
+            for (int dia = primerDiaConCupo; dia < intervaloDias && diaAsignado < 0; dia++) {
+                if (ocupacionPorDia[dia] < capacidadDiaria && calendarioMantenimientoService
+                        .intentarReservar(vehiculoId, fechaInicio.plusDays(dia).atStartOfDay())) {
+                    diaAsignado = dia;
+                }
+            }
+            if (diaAsignado < 0) {
+                sinCupo.add(vehiculoId);
+                continue;
+            }
+            if (++ocupacionPorDia[diaAsignado] == capacidadDiaria) {
+                while (primerDiaConCupo < intervaloDias && ocupacionPorDia[primerDiaConCupo] == capacidadDiaria) {
+                    primerDiaConCupo++;
+                }
+            }
+            programados.add(nuevoMantenimiento(vehiculoId, fechaInicio.plusDays(diaAsignado).atStartOfDay(),
+                    tipo, descripcion));
+        }
+
+        mantenimientoLoteRepository.insertarTodos(programados);
+        return new Planificacion(programados, sinCupo);
+    }
+
+    /**
+     * Inicio de la próxima ventana de 24 horas sin mantenimientos para el vehículo,
+     * a partir de la fecha indicada o de ahora si no se indica o ya pasó.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime buscarProximaVentana(Long vehiculoId, LocalDateTime desde) {
+        Vehiculo vehiculo = obtenerYValidarVehiculo(vehiculoId);
+        LocalDateTime ahora = LocalDateTime.now();
+        LocalDateTime inicio = desde == null || desde.isBefore(ahora) ? ahora : desde;
+        return calendarioMantenimientoService.proximaVentanaLibre(vehiculo.getId(), inicio);
+    }
+
     @Transactional(readOnly = true)
     public Mantenimiento obtenerMantenimiento(Long id) {
         return mantenimientoRepository.findById(id)
@@ -77,6 +146,19 @@ public class MantenimientoDomainService {
         return mantenimientoRepository.findAll(pageable);
     }
 
+    private Mantenimiento nuevoMantenimiento(Long vehiculoId, LocalDateTime fechaProgramada,
+                                            TipoMantenimiento tipo, String descripcion) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setId(vehiculoId);
+        Mantenimiento mantenimiento = new Mantenimiento();
+        mantenimiento.setVehiculo(vehiculo);
+        mantenimiento.setFechaProgramada(fechaProgramada);
+        mantenimiento.setTipo(tipo);
+        mantenimiento.setDescripcion(descripcion);
+        mantenimiento.setEstado(EstadoMantenimiento.PENDIENTE);
+        return mantenimiento;
+    }
+
     private Vehiculo obtenerYValidarVehiculo(Long vehiculoId) {
         if (vehiculoId == null) {
             throw new IllegalArgumentException("El ID del vehículo es obligatorio");
@@ -118,20 +200,6 @@ public class MantenimientoDomainService {
         }
     }
 
-    private void validarMantenimientosPendientes(Long vehiculoId, LocalDateTime fechaProgramada) {
-        List<Mantenimiento> mantenimientosPendientes = mantenimientoRepository
-                .findByVehiculoIdAndEstadoAndFechaProgramadaBetween(
-                    vehiculoId,
-                    EstadoMantenimiento.PENDIENTE,
-                    fechaProgramada.minusHours(24),
-                    fechaProgramada.plusHours(24)
-                );
-
-        if (!mantenimientosPendientes.isEmpty()) {
-            throw new BusinessException("Ya existe un mantenimiento programado para este vehículo en un rango de 24 horas");
-        }
-    }
-
     private void validarTransicionEstado(EstadoMantenimiento estadoActual, EstadoMantenimiento nuevoEstado) {
         if (estadoActual == EstadoMantenimiento.COMPLETADO || estadoActual == EstadoMantenimiento.CANCELADO) {
             throw new IllegalStateException("No se puede modificar un mantenimiento cancelado");
@@ -141,4 +209,11 @@ public class MantenimientoDomainService {
             throw new IllegalStateException("Un mantenimiento debe pasar por el estado EN_PROCESO antes de completarse");
         }
     }
-} 
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Planificacion {
+        private final List<Mantenimiento> programados;
+        private final List<Long> vehiculosSinCupo;
+    }
+}
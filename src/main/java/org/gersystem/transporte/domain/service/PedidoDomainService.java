@@ -1,10 +1,12 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import org.gersystem.transporte.application.CalendarioMantenimientoService;
 import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.model.EstadoPedido;
 import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.PedidoArchivado;
 import org.gersystem.transporte.domain.model.Vehiculo;
 import org.gersystem.transporte.domain.repository.ConductorRepository;
 import org.gersystem.transporte.domain.repository.PedidoRepository;
@@ -27,15 +29,21 @@ public class PedidoDomainService {
     private final VehiculoRepository vehiculoRepository;
     private final ConductorRepository conductorRepository;
     private final ConductorDomainService conductorDomainService;
+    private final CalendarioMantenimientoService calendarioMantenimientoService;
+    private final ArchivoPedidosDomainService archivoPedidosDomainService;
 
     public PedidoDomainService(PedidoRepository pedidoRepository,
                               VehiculoRepository vehiculoRepository,
                               ConductorRepository conductorRepository,
-                              ConductorDomainService conductorDomainService) {
+                              ConductorDomainService conductorDomainService,
+                              CalendarioMantenimientoService calendarioMantenimientoService,
+                              ArchivoPedidosDomainService archivoPedidosDomainService) {
         this.pedidoRepository = pedidoRepository;
         this.vehiculoRepository = vehiculoRepository;
         this.conductorRepository = conductorRepository;
         this.conductorDomainService = conductorDomainService;
+        this.calendarioMantenimientoService = calendarioMantenimientoService;
+        this.archivoPedidosDomainService = archivoPedidosDomainService;
     }
 
     @Transactional
@@ -44,6 +52,7 @@ public class PedidoDomainService {
                 .orElseThrow(() -> new EntityNotFoundException("Vehículo no encontrado"));
 
         validarVehiculoActivo(vehiculo);
+        validarVehiculoFueraDeTaller(vehiculo);
         validarCapacidadVehiculo(vehiculo, pedido.getPeso());
         validarConductorActivo(vehiculo.getConductor());
 
@@ -56,8 +65,11 @@ public class PedidoDomainService {
 
     @Transactional
     public Pedido actualizarEstadoPedido(Long pedidoId, EstadoPedido nuevoEstado) {
+        // Un pedido archivado siempre está cerrado
         Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido no encontrado"));
+                .orElseThrow(() -> archivoPedidosDomainService.buscarPorId(pedidoId).isPresent()
+                        ? new BusinessException("No se puede cambiar el estado de un pedido completado o cancelado")
+                        : new EntityNotFoundException("Pedido no encontrado"));
 
         validarTransicionEstado(pedido.getEstado(), nuevoEstado);
         pedido.setEstado(nuevoEstado);
@@ -71,6 +83,12 @@ public class PedidoDomainService {
         }
     }
 
+    private void validarVehiculoFueraDeTaller(Vehiculo vehiculo) {
+        if (calendarioMantenimientoService.enMantenimiento(vehiculo.getId(), LocalDateTime.now())) {
+            throw new BusinessException("El vehículo está en mantenimiento");
+        }
+    }
+
     private void validarCapacidadVehiculo(Vehiculo vehiculo, BigDecimal pesoPedido) {
         BigDecimal capacidadDisponible = vehiculo.getCapacidad();
         List<Pedido> pedidosActivos = pedidoRepository.findByVehiculoAndEstadoIn(
@@ -103,6 +121,9 @@ public class PedidoDomainService {
         }
     }
 
+    /**
+     * Busca en los pedidos vigentes y, si se pide el historial, continúa con los archivados.
+     */
     @Transactional(readOnly = true)
     public Page<Pedido> buscarPedidos(
             EstadoPedido estado,
@@ -110,9 +131,63 @@ public class PedidoDomainService {
             Long vehiculoId,
             LocalDateTime fechaInicio,
             LocalDateTime fechaFin,
+            boolean incluirArchivados,
             Pageable pageable) {
+        Page<Pedido> vigentes = pedidoRepository.findAll(
+                especificacionBusqueda(estado, conductorId, vehiculoId, fechaInicio, fechaFin), pageable);
+        if (!consultaArchivo(estado, fechaInicio, incluirArchivados)) {
+            return vigentes;
+        }
+        Specification<PedidoArchivado> archivados = especificacion(estado, conductorId, vehiculoId, fechaInicio, fechaFin);
+        return archivoPedidosDomainService.continuarConArchivo(vigentes, pageable,
+                pagina -> archivoPedidosDomainService.buscar(archivados, pagina),
+                totalArchivados(estado, conductorId, vehiculoId, fechaInicio, fechaFin));
+    }
+
+    /**
+     * Indica si una búsqueda debe continuar con los pedidos archivados: solo cuando se pide el
+     * historial, explícitamente o con un inicio anterior al horizonte del archivo. Los listados
+     * frecuentes de pedidos recientes no consultan el archivo.
+     */
+    public boolean consultaArchivo(EstadoPedido estado, LocalDateTime fechaInicio, boolean incluirArchivados) {
+        if (estado != null && !ArchivoPedidosDomainService.ESTADOS_ARCHIVABLES.contains(estado)) {
+            return false;
+        }
+        return incluirArchivados || (fechaInicio != null && archivoPedidosDomainService.alcanzaArchivo(fechaInicio));
+    }
+
+    /**
+     * Archivados que cumplen los filtros según los totales acumulados, o null si los filtros
+     * (vehículo o fechas) obligan a contarlos en el archivo.
+     */
+    public Long totalArchivados(EstadoPedido estado, Long conductorId, Long vehiculoId,
+                                LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        if (vehiculoId != null || fechaInicio != null || fechaFin != null) {
+            return null;
+        }
+        return archivoPedidosDomainService.contarArchivados(estado, conductorId);
+    }
+
+    public Specification<Pedido> especificacionBusqueda(
+            EstadoPedido estado,
+            Long conductorId,
+            Long vehiculoId,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin) {
+        return especificacion(estado, conductorId, vehiculoId, fechaInicio, fechaFin);
+    }
+
+    /**
+     * Mismos filtros para pedidos vigentes y archivados.
+     */
+    public <T> Specification<T> especificacion(
+            EstadoPedido estado,
+            Long conductorId,
+            Long vehiculoId,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin) {
         
-        Specification<Pedido> spec = Specification.where(null);
+        Specification<T> spec = Specification.where(null);
 
         if (estado != null) {
             spec = spec.and(PedidoSpecification.conEstado(estado));
@@ -130,12 +205,13 @@ public class PedidoDomainService {
             spec = spec.and(PedidoSpecification.creadoEntreFechas(fechaInicio, fechaFin));
         }
 
-        return pedidoRepository.findAll(spec, pageable);
+        return spec;
     }
 
     @Transactional(readOnly = true)
     public Pedido obtenerPedido(Long id) {
         return pedidoRepository.findById(id)
+                .or(() -> archivoPedidosDomainService.buscarPorId(id))
                 .orElseThrow(() -> new EntityNotFoundException("Pedido no encontrado"));
     }
 } 
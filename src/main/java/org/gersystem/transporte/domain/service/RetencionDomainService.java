@@ -0,0 +1,125 @@
+package org.gersystem.transporte.domain.service;
+
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.ProgresoRetencion;
+import org.gersystem.transporte.domain.model.ProgresoRetencion.Entidad;
+import org.gersystem.transporte.domain.repository.MantenimientoRepository;
+import org.gersystem.transporte.domain.repository.ProgresoRetencionRepository;
+import org.gersystem.transporte.domain.repository.RefreshTokenRepository;
+import org.gersystem.transporte.domain.repository.RegistroAuditoriaRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Purga por tramos de los datos vencidos. Cada tramo elimina hasta {@code tamano} filas en orden
+ * de id y guarda el avance en {@link ProgresoRetencion} dentro de la misma transacción, así que
+ * el avance nunca queda por delante ni por detrás de lo eliminado.
+ */
+@Service
+public class RetencionDomainService {
+
+    private final ProgresoRetencionRepository progresoRetencionRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MantenimientoRepository mantenimientoRepository;
+    private final VehiculoRepository vehiculoRepository;
+    private final RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    public RetencionDomainService(ProgresoRetencionRepository progresoRetencionRepository,
+                                  RefreshTokenRepository refreshTokenRepository,
+                                  MantenimientoRepository mantenimientoRepository,
+                                  VehiculoRepository vehiculoRepository,
+                                  RegistroAuditoriaRepository registroAuditoriaRepository) {
+        this.progresoRetencionRepository = progresoRetencionRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.mantenimientoRepository = mantenimientoRepository;
+        this.vehiculoRepository = vehiculoRepository;
+        this.registroAuditoriaRepository = registroAuditoriaRepository;
+    }
+
+    /**
+     * Elimina el siguiente tramo de la pasada en curso, o empieza una nueva con corte
+     * {@code ahora - dias} si no hay ninguna.
+     *
+     * @return filas eliminadas y si la pasada terminó, lo que ocurre al encontrar menos de
+     *         {@code tamano} filas vencidas
+     */
+    @Transactional
+    public Tramo purgarTramo(Entidad entidad, int dias, int tamano) {
+        ProgresoRetencion progreso = progresoRetencionRepository.findById(entidad)
+                .orElseGet(() -> new ProgresoRetencion(entidad));
+        if (!progreso.enCurso()) {
+            progreso.iniciar(LocalDateTime.now().minusDays(dias));
+        }
+
+        List<Long> ids = buscarIds(entidad, progreso.getUltimoId(), progreso.getCorte(), PageRequest.of(0, tamano));
+        int eliminados = ids.isEmpty() ? 0 : eliminar(entidad, ids);
+        boolean terminado = ids.size() < tamano;
+        if (terminado) {
+            progreso.terminar();
+        } else {
+            progreso.setUltimoId(ids.get(ids.size() - 1));
+        }
+        progreso.setActualizado(LocalDateTime.now());
+        progresoRetencionRepository.save(progreso);
+        return new Tramo(eliminados, terminado);
+    }
+
+    private List<Long> buscarIds(Entidad entidad, long desdeId, LocalDateTime corte, Pageable tramo) {
+        switch (entidad) {
+            case REFRESH_TOKEN:
+                return refreshTokenRepository.buscarIdsVencidos(desdeId, corte, tramo);
+            case MANTENIMIENTO_CANCELADO:
+                return mantenimientoRepository.buscarIdsPorEstadoAnteriores(
+                        desdeId, EstadoMantenimiento.CANCELADO, corte, tramo);
+            case VEHICULO_INACTIVO:
+                return vehiculoRepository.buscarIdsInactivosSinHistorial(desdeId, corte, tramo);
+            case AUDITORIA:
+                return registroAuditoriaRepository.buscarIdsAnteriores(desdeId, corte, tramo);
+            default:
+                throw new IllegalArgumentException("Entidad de retención no soportada: " + entidad);
+        }
+    }
+
+    private int eliminar(Entidad entidad, List<Long> ids) {
+        switch (entidad) {
+            case REFRESH_TOKEN:
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            case MANTENIMIENTO_CANCELADO:
+                return mantenimientoRepository.eliminarPorEstado(ids, EstadoMantenimiento.CANCELADO);
+            case VEHICULO_INACTIVO:
+                // Un vehículo reactivado entre la búsqueda y el borrado se conserva
+                return vehiculoRepository.eliminarInactivos(ids);
+            case AUDITORIA:
+                registroAuditoriaRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            default:
+                throw new IllegalArgumentException("Entidad de retención no soportada: " + entidad);
+        }
+    }
+
+    public static final class Tramo {
+        private final int eliminados;
+        private final boolean terminado;
+
+        Tramo(int eliminados, boolean terminado) {
+            this.eliminados = eliminados;
+            this.terminado = terminado;
+        }
+
+        public int getEliminados() {
+            return eliminados;
+        }
+
+        /** {@code true} si la pasada terminó con este tramo. */
+        public boolean isTerminado() {
+            return terminado;
+        }
+    }
+}
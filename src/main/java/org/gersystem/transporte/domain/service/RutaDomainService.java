@@ -42,7 +42,12 @@ public class RutaDomainService {
                 .orElseThrow(() -> new EntityNotFoundException("Ruta no encontrada"));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * No es de solo lectura a propósito: el listado viaja con un ETag derivado de la versión de
+     * la colección, que se incrementa al confirmar en la primaria. Leído de una réplica atrasada,
+     * el cliente guardaría una página vieja bajo la versión nueva.
+     */
+    @Transactional
     public Page<Ruta> listarRutas(Boolean activa, Pageable pageable) {
         if (activa != null) {
             return rutaRepository.findByActiva(activa, pageable);
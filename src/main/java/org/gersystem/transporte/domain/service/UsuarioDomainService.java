@@ -1,7 +1,11 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.domain.model.RefreshToken;
 import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.domain.repository.RefreshTokenRepository;
 import org.gersystem.transporte.domain.repository.UsuarioRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -9,20 +13,30 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class UsuarioDomainService {
 
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
     private static final long REFRESH_TOKEN_VALIDITY = 7L; // días
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom GENERADOR = new SecureRandom();
 
-    public UsuarioDomainService(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioDomainService(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder,
+                                RefreshTokenRepository refreshTokenRepository) {
         this.usuarioRepository = usuarioRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenRepository = refreshTokenRepository;
     }
 
     @Transactional(readOnly = true)
@@ -43,35 +57,54 @@ public class UsuarioDomainService {
         return usuarioRepository.save(usuario);
     }
 
+    /**
+     * Abre una sesión nueva para el usuario; las sesiones de otros dispositivos siguen vigentes.
+     * Solo se guarda el hash del token devuelto.
+     */
     @Transactional
     public String generarRefreshToken(Usuario usuario) {
-        String token = UUID.randomUUID().toString();
-        usuario.setRefreshToken(token);
-        usuario.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(REFRESH_TOKEN_VALIDITY));
-        usuarioRepository.save(usuario);
+        byte[] aleatorio = new byte[REFRESH_TOKEN_BYTES];
+        GENERADOR.nextBytes(aleatorio);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(aleatorio);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setUsuario(usuario);
+        refreshToken.setFechaExpiracion(LocalDateTime.now().plusDays(REFRESH_TOKEN_VALIDITY));
+        refreshTokenRepository.save(refreshToken);
         return token;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Usuario validarRefreshToken(String refreshToken) {
-        Usuario usuario = usuarioRepository.findByRefreshToken(refreshToken)
+        RefreshToken almacenado = refreshTokenRepository.findByTokenHash(hash(refreshToken))
                 .orElseThrow(() -> new IllegalStateException("Refresh token inválido"));
 
-        if (usuario.getRefreshTokenExpiryDate().isBefore(LocalDateTime.now())) {
+        if (almacenado.getFechaExpiracion().isBefore(LocalDateTime.now())) {
             throw new IllegalStateException("Refresh token expirado");
         }
 
-        return usuario;
+        return almacenado.getUsuario();
+    }
+
+    /**
+     * Cambia el token de renovación por uno nuevo de la misma sesión. El token usado queda
+     * invalidado, así que si dos pedidos lo presentan a la vez solo uno obtiene la sesión.
+     */
+    @Transactional
+    public SesionRenovada rotarRefreshToken(String refreshToken) {
+        Usuario usuario = validarRefreshToken(refreshToken);
+        if (refreshTokenRepository.eliminarPorHash(hash(refreshToken)) == 0) {
+            throw new IllegalStateException("Refresh token inválido");
+        }
+        return new SesionRenovada(usuario, generarRefreshToken(usuario));
     }
 
     @Transactional
     public void revocarRefreshToken(String refreshToken) {
-        Usuario usuario = usuarioRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new EntityNotFoundException("Token no encontrado"));
-        
-        usuario.setRefreshToken(null);
-        usuario.setRefreshTokenExpiryDate(null);
-        usuarioRepository.save(usuario);
+        if (refreshTokenRepository.eliminarPorHash(hash(refreshToken)) == 0) {
+            throw new EntityNotFoundException("Token no encontrado");
+        }
     }
 
     @Transactional
@@ -84,6 +117,23 @@ public class UsuarioDomainService {
         }
 
         usuario.setPassword(passwordEncoder.encode(newPassword));
+        refreshTokenRepository.eliminarPorUsuario(id);
         return usuarioRepository.save(usuario);
     }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SesionRenovada {
+        private final Usuario usuario;
+        private final String refreshToken;
+    }
 } 
@@ -0,0 +1,48 @@
+package org.gersystem.transporte.infrastructure.adapters.repository;
+
+import org.gersystem.transporte.domain.event.ConductorModificadoEvent;
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.RutaModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Mantenimiento;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+
+/**
+ * Listener JPA que publica un evento de aplicación por cada entidad creada o modificada.
+ * Los consumidores deben usar {@code @TransactionalEventListener} para reaccionar solo
+ * a los cambios confirmados.
+ */
+@Component
+public class EventosEntidadListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EventosEntidadListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void publicarCambio(Object entidad) {
+        if (entidad instanceof Conductor conductor) {
+            eventPublisher.publishEvent(ConductorModificadoEvent.desde(conductor));
+        } else if (entidad instanceof Vehiculo vehiculo) {
+            eventPublisher.publishEvent(VehiculoModificadoEvent.desde(vehiculo));
+        } else if (entidad instanceof Ruta ruta) {
+            eventPublisher.publishEvent(RutaModificadoEvent.desde(ruta));
+        } else if (entidad instanceof Mantenimiento mantenimiento) {
+            eventPublisher.publishEvent(MantenimientoModificadoEvent.desde(mantenimiento));
+        } else if (entidad instanceof Pedido pedido) {
+            eventPublisher.publishEvent(PedidoModificadoEvent.desde(pedido));
+        }
+    }
+}
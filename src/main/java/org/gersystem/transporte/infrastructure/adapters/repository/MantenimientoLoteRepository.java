@@ -0,0 +1,88 @@
+package org.gersystem.transporte.infrastructure.adapters.repository;
+
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.model.Mantenimiento;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Alta masiva de mantenimientos con lotes JDBC. Con ids IDENTITY Hibernate no agrupa
+ * los INSERT, así que se escriben directamente en la transacción en curso.
+ *
+ * Completa la auditoría que haría {@code AuditingEntityListener} y publica el mismo
+ * {@link MantenimientoModificadoEvent} que {@link EventosEntidadListener}.
+ */
+@Repository
+public class MantenimientoLoteRepository {
+
+    private static final int TAMANO_LOTE = 500;
+    private static final String INSERTAR =
+            "INSERT INTO mantenimiento (vehiculo_id, fecha_programada, tipo, descripcion, estado, " +
+            "created_by, created_date, last_modified_by, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditorAware<String> auditorAware;
+
+    public MantenimientoLoteRepository(JdbcTemplate jdbcTemplate,
+                                       ApplicationEventPublisher eventPublisher,
+                                       AuditorAware<String> auditorAware) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.auditorAware = auditorAware;
+    }
+
+    /**
+     * Inserta los mantenimientos y les asigna el id generado.
+     */
+    public void insertarTodos(List<Mantenimiento> mantenimientos) {
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        LocalDateTime ahora = LocalDateTime.now();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexion -> {
+            try (PreparedStatement sentencia = conexion.prepareStatement(INSERTAR, Statement.RETURN_GENERATED_KEYS)) {
+                for (int desde = 0; desde < mantenimientos.size(); desde += TAMANO_LOTE) {
+                    List<Mantenimiento> lote = mantenimientos.subList(desde,
+                            Math.min(desde + TAMANO_LOTE, mantenimientos.size()));
+                    for (Mantenimiento mantenimiento : lote) {
+                        mantenimiento.setCreatedBy(auditor);
+                        mantenimiento.setCreatedDate(ahora);
+                        mantenimiento.setLastModifiedBy(auditor);
+                        mantenimiento.setLastModifiedDate(ahora);
+                        sentencia.setLong(1, mantenimiento.getVehiculo().getId());
+                        sentencia.setTimestamp(2, Timestamp.valueOf(mantenimiento.getFechaProgramada()));
+                        sentencia.setString(3, mantenimiento.getTipo() != null ? mantenimiento.getTipo().name() : null);
+                        sentencia.setString(4, mantenimiento.getDescripcion());
+                        sentencia.setString(5, mantenimiento.getEstado().name());
+                        sentencia.setString(6, auditor);
+                        sentencia.setTimestamp(7, Timestamp.valueOf(ahora));
+                        sentencia.setString(8, auditor);
+                        sentencia.setTimestamp(9, Timestamp.valueOf(ahora));
+                        sentencia.addBatch();
+                    }
+                    sentencia.executeBatch();
+                    try (ResultSet claves = sentencia.getGeneratedKeys()) {
+                        for (Mantenimiento mantenimiento : lote) {
+                            claves.next();
+                            mantenimiento.setId(claves.getLong(1));
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+
+        mantenimientos.forEach(mantenimiento ->
+                eventPublisher.publishEvent(MantenimientoModificadoEvent.desde(mantenimiento)));
+    }
+}
@@ -1,14 +1,17 @@
 package org.gersystem.transporte.infrastructure.adapters.repository;
 
 import org.gersystem.transporte.domain.model.EstadoPedido;
-import org.gersystem.transporte.domain.model.Pedido;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 
+/**
+ * Filtros de búsqueda de pedidos. Sirven tanto para {@code Pedido} como para {@code PedidoArchivado},
+ * que comparten los nombres de atributos.
+ */
 public class PedidoSpecification {
 
-    public static Specification<Pedido> conEstado(EstadoPedido estado) {
+    public static <T> Specification<T> conEstado(EstadoPedido estado) {
         return (root, query, cb) -> {
             if (estado == null) {
                 return null;
@@ -17,7 +20,7 @@ public class PedidoSpecification {
         };
     }
 
-    public static Specification<Pedido> conConductorId(Long conductorId) {
+    public static <T> Specification<T> conConductorId(Long conductorId) {
         return (root, query, cb) -> {
             if (conductorId == null) {
                 return null;
@@ -26,7 +29,7 @@ public class PedidoSpecification {
         };
     }
 
-    public static Specification<Pedido> conVehiculoId(Long vehiculoId) {
+    public static <T> Specification<T> conVehiculoId(Long vehiculoId) {
         return (root, query, cb) -> {
             if (vehiculoId == null) {
                 return null;
@@ -35,7 +38,7 @@ public class PedidoSpecification {
         };
     }
 
-    public static Specification<Pedido> creadoEntreFechas(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+    public static <T> Specification<T> creadoEntreFechas(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
         return (root, query, cb) -> {
             if (fechaInicio == null && fechaFin == null) {
                 return null;
@@ -0,0 +1,120 @@
+package org.gersystem.transporte.infrastructure.adapters.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas paginadas que seleccionan solo las columnas pedidas, sin cargar entidades.
+ *
+ * Los campos se indican como nombre de salida y ruta JPA ({@code "vehiculoPlaca" -> "vehiculo.placa"}).
+ * Las asociaciones se unen con LEFT JOIN únicamente si algún campo u orden las usa; el id de una
+ * asociación directa se lee de la clave foránea sin unir la tabla.
+ */
+@Repository
+public class ProyeccionRepository {
+
+    private final EntityManager entityManager;
+
+    public ProyeccionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param campos nombre de salida y ruta de cada columna, en el orden de la respuesta
+     * @param pageable el orden debe venir expresado en rutas JPA
+     */
+    public <T> Page<Map<String, Object>> buscar(Class<T> entidad, Specification<T> spec,
+                                                Map<String, String> campos, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entidad);
+        Map<String, Join<?, ?>> uniones = new HashMap<>();
+
+        List<Selection<?>> selecciones = new ArrayList<>(campos.size());
+        campos.forEach((nombre, ruta) -> selecciones.add(resolver(root, uniones, ruta).alias(nombre)));
+        query.multiselect(selecciones);
+
+        Predicate filtro = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (filtro != null) {
+            query.where(filtro);
+        }
+
+        List<Order> orden = new ArrayList<>();
+        for (Sort.Order criterio : pageable.getSort()) {
+            Path<?> ruta = resolver(root, uniones, criterio.getProperty());
+            orden.add(criterio.isAscending() ? cb.asc(ruta) : cb.desc(ruta));
+        }
+        query.orderBy(orden);
+
+        TypedQuery<Tuple> consulta = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Tuple> tuplas = consulta.getResultList();
+        List<Map<String, Object>> filas = new ArrayList<>(tuplas.size());
+        for (Tuple tupla : tuplas) {
+            Map<String, Object> fila = new LinkedHashMap<>();
+            for (String nombre : campos.keySet()) {
+                fila.put(nombre, tupla.get(nombre));
+            }
+            filas.add(fila);
+        }
+        return PageableExecutionUtils.getPage(filas, pageable, () -> contar(entidad, spec));
+    }
+
+    private <T> long contar(Class<T> entidad, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entidad);
+        query.select(cb.count(root));
+        Predicate filtro = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Path<?> resolver(Root<?> root, Map<String, Join<?, ?>> uniones, String ruta) {
+        String[] partes = ruta.split("\\.");
+        if (partes.length == 2 && "id".equals(partes[1]) && !uniones.containsKey(partes[0])) {
+            return root.get(partes[0]).get("id");
+        }
+        From<?, ?> actual = root;
+        StringBuilder prefijo = new StringBuilder();
+        for (int i = 0; i < partes.length - 1; i++) {
+            if (i > 0) {
+                prefijo.append('.');
+            }
+            prefijo.append(partes[i]);
+            From<?, ?> padre = actual;
+            String atributo = partes[i];
+            actual = uniones.computeIfAbsent(prefijo.toString(), clave -> padre.join(atributo, JoinType.LEFT));
+        }
+        return actual.get(partes[partes.length - 1]);
+    }
+}
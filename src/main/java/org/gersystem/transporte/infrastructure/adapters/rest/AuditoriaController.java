@@ -0,0 +1,71 @@
+package org.gersystem.transporte.infrastructure.adapters.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.AuditoriaService;
+import org.gersystem.transporte.domain.model.RegistroAuditoria;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RegistroAuditoriaDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/auditoria")
+@RequiredArgsConstructor
+@Tag(name = "Auditoría", description = "Historial de cambios de estado de pedidos y de asignación de conductores")
+public class AuditoriaController {
+
+    private final AuditoriaService auditoriaService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Consultar el historial de auditoría",
+        description = "Devuelve los cambios registrados en el rango [desde, hasta), del más reciente al más antiguo, con el usuario que los hizo. " +
+                     "El rango es obligatorio y no puede superar 92 días. Los registros se escriben en segundo plano, " +
+                     "por lo que un cambio puede tardar unos instantes en aparecer. Requiere rol de ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de registros de auditoría"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Rango de fechas inválido",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado - Se requiere rol de ADMIN",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))
+        )
+    })
+    public ResponseEntity<Page<RegistroAuditoriaDTO>> consultar(
+            @Parameter(description = "Inicio del rango, inclusive (formato: yyyy-MM-dd'T'HH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @Parameter(description = "Fin del rango, exclusive (formato: yyyy-MM-dd'T'HH:mm:ss)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime hasta,
+            @Parameter(description = "Filtrar por tipo de entidad")
+            @RequestParam(required = false) RegistroAuditoria.Entidad entidad,
+            @Parameter(description = "Filtrar por ID de la entidad")
+            @RequestParam(required = false) Long entidadId,
+            @Parameter(description = "Filtrar por usuario")
+            @RequestParam(required = false) String usuario,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(auditoriaService.consultar(desde, hasta, entidad, entidadId, usuario, pageable));
+    }
+}
@@ -2,12 +2,15 @@ package org.gersystem.transporte.infrastructure.adapters.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import org.gersystem.transporte.domain.model.Usuario;
 import org.gersystem.transporte.domain.service.UsuarioDomainService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.*;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.UsuarioMapper;
+import org.gersystem.transporte.infrastructure.security.EjecutorAutenticacion;
 import org.gersystem.transporte.infrastructure.security.JwtTokenProvider;
+import org.gersystem.transporte.infrastructure.security.LimiteIntentosLogin;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -20,6 +23,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.gersystem.transporte.infrastructure.adapters.rest.exception.ValidationException;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
@@ -41,15 +45,21 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final UsuarioDomainService usuarioDomainService;
     private final UsuarioMapper usuarioMapper;
+    private final EjecutorAutenticacion ejecutorAutenticacion;
+    private final LimiteIntentosLogin limiteIntentosLogin;
 
     public AuthController(AuthenticationManager authenticationManager,
                          JwtTokenProvider jwtTokenProvider,
                          UsuarioDomainService usuarioDomainService,
-                         UsuarioMapper usuarioMapper) {
+                         UsuarioMapper usuarioMapper,
+                         EjecutorAutenticacion ejecutorAutenticacion,
+                         LimiteIntentosLogin limiteIntentosLogin) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.usuarioDomainService = usuarioDomainService;
         this.usuarioMapper = usuarioMapper;
+        this.ejecutorAutenticacion = ejecutorAutenticacion;
+        this.limiteIntentosLogin = limiteIntentosLogin;
     }
 
     @GetMapping("/usuarios")
@@ -105,15 +115,29 @@ public class AuthController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponseDTO.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Demasiados inicios de sesión simultáneos o demasiados intentos para la cuenta; reintentar luego de Retry-After",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
         )
     })
-    public ResponseEntity<?> login(
+    public CompletableFuture<ResponseEntity<JwtAuthenticationResponseDTO>> login(
             @Parameter(
                 description = "Credenciales de usuario. Se puede usar tanto el nombre de usuario como el email para iniciar sesión.",
                 required = true,
                 schema = @Schema(implementation = LoginRequestDTO.class)
             )
-            @Valid @RequestBody LoginRequestDTO loginRequest) {
+            @Valid @RequestBody LoginRequestDTO loginRequest,
+            HttpServletRequest request) {
+        limiteIntentosLogin.registrarIntento(loginRequest.getUsernameOrEmail(), request.getRemoteAddr());
+        return ejecutorAutenticacion.ejecutar(() -> autenticar(loginRequest));
+    }
+
+    private ResponseEntity<JwtAuthenticationResponseDTO> autenticar(LoginRequestDTO loginRequest) {
         try {
             log.debug("Intentando autenticar usuario: {}", loginRequest.getUsernameOrEmail());
             Authentication authentication = authenticationManager.authenticate(
@@ -218,11 +242,10 @@ public class AuthController {
             )
             @Valid @RequestBody RefreshTokenRequestDTO request) {
         try {
-            Usuario usuario = usuarioDomainService.validarRefreshToken(request.getRefreshToken());
-            String accessToken = jwtTokenProvider.generateToken(usuario);
-            String newRefreshToken = usuarioDomainService.generarRefreshToken(usuario);
+            UsuarioDomainService.SesionRenovada sesion = usuarioDomainService.rotarRefreshToken(request.getRefreshToken());
+            String accessToken = jwtTokenProvider.generateToken(sesion.getUsuario());
 
-            return ResponseEntity.ok(new JwtAuthenticationResponseDTO(accessToken, newRefreshToken));
+            return ResponseEntity.ok(new JwtAuthenticationResponseDTO(accessToken, sesion.getRefreshToken()));
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Token de renovación inválido");
         }
@@ -231,7 +254,7 @@ public class AuthController {
     @PostMapping("/logout")
     @Operation(
         summary = "Cerrar sesión",
-        description = "Revoca el token de renovación del usuario. Esto invalida la sesión actual y fuerza al usuario a iniciar sesión nuevamente. El token de acceso actual seguirá siendo válido hasta su expiración."
+        description = "Revoca el token de renovación indicado. Esto invalida solo esa sesión y obliga a iniciar sesión nuevamente en ese dispositivo; las sesiones de otros dispositivos siguen activas. El token de acceso actual seguirá siendo válido hasta su expiración."
     )
     @ApiResponses({
         @ApiResponse(
@@ -1,22 +1,28 @@
 package org.gersystem.transporte.infrastructure.adapters.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
+import org.gersystem.transporte.application.BusquedaService;
 import org.gersystem.transporte.application.ConductorApplicationService;
+import org.gersystem.transporte.application.EntregasConductorService;
+import org.gersystem.transporte.application.SincronizacionService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.*;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.gersystem.transporte.infrastructure.adapters.rest.exception.ValidationException;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,10 +32,22 @@ import io.swagger.v3.oas.annotations.Parameter;
 @Tag(name = "Conductores", description = "API para la gestión de conductores. Permite crear, actualizar y eliminar conductores, consultar conductores por ID o con filtros, obtener conductores sin vehículos asignados y obtener estadísticas de vehículos por conductor.")
 public class ConductorController {
 
+    private static final List<String> CAMPOS_ORDENAMIENTO_SIN_VEHICULOS = List.of("id", "nombre", "licencia");
+    private static final List<String> CAMPOS_ORDENAMIENTO_CONTEO = List.of("id", "nombre");
+
     private final ConductorApplicationService conductorApplicationService;
+    private final BusquedaService busquedaService;
+    private final EntregasConductorService entregasConductorService;
+    private final SincronizacionService sincronizacionService;
 
-    public ConductorController(ConductorApplicationService conductorApplicationService) {
+    public ConductorController(ConductorApplicationService conductorApplicationService,
+                               BusquedaService busquedaService,
+                               EntregasConductorService entregasConductorService,
+                               SincronizacionService sincronizacionService) {
         this.conductorApplicationService = conductorApplicationService;
+        this.busquedaService = busquedaService;
+        this.entregasConductorService = entregasConductorService;
+        this.sincronizacionService = sincronizacionService;
     }
 
     @PostMapping
@@ -200,44 +218,208 @@ public class ConductorController {
         }
     }
 
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Listar conductores con campos seleccionados",
+        description = "Igual que el listado de conductores, pero cada fila contiene solo los campos indicados en fields. " +
+                     "Solo se consultan esas columnas."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista paginada con los campos pedidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PageDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Campo u orden no válido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<PageDTO<Map<String, Object>>> obtenerConductoresProyectados(
+            @Parameter(description = "Campos separados por comas: id, nombre, licencia, activo", example = "id,nombre")
+            @RequestParam String fields,
+            @Parameter(description = "Nombre o parte del nombre para filtrar", example = "Juan")
+            @RequestParam(required = false) String nombre,
+            @Parameter(description = "Filtrar por estado activo/inactivo")
+            @RequestParam(required = false) Boolean activo,
+            @Parameter(description = "Paginación y ordenamiento por cualquiera de los campos anteriores")
+            Pageable pageable) {
+        return ResponseEntity.ok(conductorApplicationService.obtenerConductoresProyectados(fields, nombre, activo, pageable));
+    }
+
+    @GetMapping("/buscar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Buscar conductores activos por nombre (type-ahead)",
+        description = "Búsqueda en memoria sin distinguir mayúsculas ni acentos. Con 1 o 2 caracteres coincide con el inicio de las palabras; " +
+                     "con 3 o más, con cualquier parte del texto. Los resultados se ordenan por relevancia: coincidencia exacta, prefijo y subcadena."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultados de la búsqueda ordenados por relevancia",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ResultadoBusquedaDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Texto de búsqueda vacío o límite fuera de rango (1-50)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<List<ResultadoBusquedaDTO>> buscarConductores(
+            @Parameter(description = "Texto a buscar", required = true, example = "jua")
+            @RequestParam String q,
+            @Parameter(description = "Cantidad máxima de resultados (1-50)")
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(busquedaService.buscarConductores(q, limite));
+    }
+
+    @GetMapping("/{id}/entregas")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Entregas activas del conductor",
+        description = "Pedidos pendientes o en proceso asignados al conductor, servidos desde memoria. Sin since devuelve la lista completa; " +
+                     "con la version de la respuesta anterior devuelve solo los pedidos nuevos o modificados y los ids de los que dejaron de estar activos. " +
+                     "Si completo es true, la lista reemplaza a la que tenía el cliente."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cambios en las entregas activas del conductor",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EntregasConductorDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Versión since inválida",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<EntregasConductorDTO> obtenerEntregasActivas(
+            @Parameter(description = "ID del conductor", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Versión devuelta por la consulta anterior")
+            @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(entregasConductorService.obtenerEntregasActivas(id, since));
+    }
+
+    @GetMapping("/sincronizacion")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Sincronizar conductores modificados",
+        description = "Devuelve los conductores dados de alta o con datos cambiados después del cursor, en orden de modificación, " +
+                     "y por separado los ids de los que quedaron inactivos. Con hayMas en true quedan cambios: " +
+                     "se consulta otra vez con el cursor recibido hasta agotarlos y se conserva el último para la próxima vez."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de cambios desde el cursor",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SincronizacionDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor inválido o límite fuera de rango (1-1000)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<SincronizacionDTO<ConductorCambioDTO>> sincronizarConductores(
+            @Parameter(description = "Cursor devuelto por la consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de registros (1-1000)")
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacionService.sincronizarConductores(cursor, limite));
+    }
+
     @GetMapping("/sin-vehiculos")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
-        summary = "Obtener todos los conductores sin vehículos asignados",
-        description = "Retorna una lista de conductores que no tienen vehículos asignados actualmente"
+        summary = "Obtener los conductores sin vehículos asignados",
+        description = "Retorna una página de conductores (id, nombre y licencia) que no tienen vehículos asignados actualmente"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de conductores sin vehículos",
+            description = "Página de conductores sin vehículos",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = ConductorDTO.class)
+                schema = @Schema(implementation = PageDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Propiedad de ordenamiento inválida",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
             )
         )
     })
-    public ResponseEntity<List<ConductorDTO>> obtenerConductoresSinVehiculos() {
-        return ResponseEntity.ok(conductorApplicationService.obtenerConductoresSinVehiculos());
+    public ResponseEntity<PageDTO<EstadisticasDTO.ConductorSimpleDTO>> obtenerConductoresSinVehiculos(
+            @Parameter(
+                description = "Paginación y ordenamiento. Formato: page=0&size=20&sort=propiedad,direccion. Propiedades válidas: id, nombre, licencia"
+            )
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        validarOrdenamiento(pageable, CAMPOS_ORDENAMIENTO_SIN_VEHICULOS);
+        return ResponseEntity.ok(conductorApplicationService.obtenerConductoresSinVehiculos(pageable));
     }
 
     @GetMapping("/conteo-vehiculos")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Contar los vehículos asignados a cada conductor",
-        description = "Retorna una lista con el conteo de vehículos asignados a cada conductor"
+        description = "Retorna una página con el conteo de vehículos asignados a cada conductor"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Conteo de vehículos por conductor",
+            description = "Página con el conteo de vehículos por conductor",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = ConteoVehiculosDTO.class)
+                schema = @Schema(implementation = PageDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Propiedad de ordenamiento inválida",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
             )
         )
     })
-    public ResponseEntity<List<ConteoVehiculosDTO>> contarVehiculosPorConductor() {
-        return ResponseEntity.ok(conductorApplicationService.contarVehiculosPorConductor());
+    public ResponseEntity<PageDTO<ConteoVehiculosDTO>> contarVehiculosPorConductor(
+            @Parameter(
+                description = "Paginación y ordenamiento. Formato: page=0&size=20&sort=propiedad,direccion. Propiedades válidas: id, nombre"
+            )
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        validarOrdenamiento(pageable, CAMPOS_ORDENAMIENTO_CONTEO);
+        return ResponseEntity.ok(conductorApplicationService.contarVehiculosPorConductor(pageable));
     }
 
     @DeleteMapping("/{id}")
@@ -278,4 +460,15 @@ public class ConductorController {
             throw new ValidationException("No se puede eliminar el conductor: " + e.getMessage());
         }
     }
-} 
+
+    private void validarOrdenamiento(Pageable pageable, List<String> camposValidos) {
+        pageable.getSort().forEach(order -> {
+            if (!camposValidos.contains(order.getProperty())) {
+                throw new ValidationException(
+                    "Error en parámetros de ordenamiento - La propiedad '" + order.getProperty() +
+                    "' no es válida. Use: " + String.join(", ", camposValidos)
+                );
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package org.gersystem.transporte.infrastructure.adapters.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,13 +10,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.EstadisticasService;
 import org.gersystem.transporte.application.exception.ValidationException;
 import org.gersystem.transporte.domain.service.EstadisticasDomainService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/estadisticas")
 @RequiredArgsConstructor
@@ -22,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class EstadisticasController {
 
     private final EstadisticasDomainService estadisticasDomainService;
+    private final EstadisticasService estadisticasService;
 
     @GetMapping("/generales")
     @PreAuthorize("hasRole('ADMIN')")
@@ -37,7 +48,7 @@ public class EstadisticasController {
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = EstadisticasDomainService.EstadisticasGenerales.class),
-                examples = @ExampleObject(value = "{\"totalConductores\": 50,\"conductoresActivos\": 45,\"totalVehiculos\": 40,\"vehiculosActivos\": 35,\"totalPedidos\": 1000,\"pedidosEnProceso\": 150,\"pedidosEntregados\": 850,\"pesoTotalTransportado\": 25000.5,\"promedioVehiculosPorConductor\": 0.8,\"porcentajeConductoresActivos\": 90.0,\"porcentajeVehiculosActivos\": 87.5,\"porcentajePedidosEntregados\": 85.0}")
+                examples = @ExampleObject(value = "{\"totalConductores\": 50,\"conductoresActivos\": 45,\"totalVehiculos\": 40,\"vehiculosActivos\": 35,\"totalPedidos\": 1000,\"pedidosEnProceso\": 150,\"pedidosEntregados\": 850,\"pesoTotalTransportado\": 25000.5,\"promedioVehiculosPorConductor\": 0.8,\"porcentajeConductoresActivos\": 90.0,\"porcentajeVehiculosActivos\": 87.5,\"porcentajePedidosEntregados\": 85.0,\"totalConductoresSinVehiculos\": 5}")
             )
         ),
         @ApiResponse(
@@ -50,7 +61,36 @@ public class EstadisticasController {
         )
     })
     public ResponseEntity<EstadisticasDomainService.EstadisticasGenerales> obtenerEstadisticasGenerales() {
-        return ResponseEntity.ok(estadisticasDomainService.obtenerEstadisticasGenerales());
+        return ResponseEntity.ok(estadisticasService.obtenerIndicadoresGenerales());
+    }
+
+    @GetMapping("/resumen")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Obtener el resumen detallado del sistema",
+        description = "Retorna las mismas métricas que /generales junto con porcentajes, peso total transportado, " +
+                     "conductores sin vehículos y conteo de vehículos por conductor. Requiere rol de ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resumen obtenido exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EstadisticasDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado - Se requiere rol de ADMIN",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<EstadisticasDTO> obtenerResumen() {
+        return ResponseEntity.ok(estadisticasService.obtenerEstadisticasGenerales());
     }
 
     @GetMapping("/conductores/{conductorId}")
@@ -102,4 +142,90 @@ public class EstadisticasController {
         }
         return ResponseEntity.ok(estadisticasDomainService.obtenerEstadisticasConductor(conductorId));
     }
-} 
+
+    @GetMapping("/ranking/conductores")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Ranking de conductores por peso entregado",
+        description = "Retorna los conductores con mayor peso entregado desde la fecha indicada (por defecto, desde el inicio del mes actual). " +
+                     "Requiere rol de ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking obtenido exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = RankingConductorDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Límite fuera del rango permitido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado - Se requiere rol de ADMIN",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<List<RankingConductorDTO>> obtenerRankingConductores(
+            @Parameter(description = "Cantidad de conductores a retornar (1-500)")
+            @RequestParam(defaultValue = "50") int limite,
+
+            @Parameter(description = "Fecha desde la cual se consideran las entregas (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde) {
+        return ResponseEntity.ok(estadisticasService.obtenerRankingConductores(limite, desde));
+    }
+
+    @GetMapping("/ranking/vehiculos-menos-utilizados")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Vehículos activos menos utilizados",
+        description = "Retorna los vehículos activos con menor peso entregado desde la fecha indicada (por defecto, desde el inicio del mes actual). " +
+                     "Requiere rol de ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking obtenido exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = UtilizacionVehiculoDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Límite fuera del rango permitido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado - Se requiere rol de ADMIN",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<List<UtilizacionVehiculoDTO>> obtenerVehiculosMenosUtilizados(
+            @Parameter(description = "Cantidad de vehículos a retornar (1-500)")
+            @RequestParam(defaultValue = "10") int limite,
+
+            @Parameter(description = "Fecha desde la cual se consideran las entregas (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde) {
+        return ResponseEntity.ok(estadisticasService.obtenerVehiculosMenosUtilizados(limite, desde));
+    }
+}
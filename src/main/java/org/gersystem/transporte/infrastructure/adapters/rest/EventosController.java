@@ -0,0 +1,51 @@
+package org.gersystem.transporte.infrastructure.adapters.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.EventosFlotaService;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/eventos")
+@RequiredArgsConstructor
+@Tag(name = "Eventos", description = "Flujo en vivo de cambios de pedidos, vehículos y mantenimientos")
+public class EventosController {
+
+    private final EventosFlotaService eventosFlotaService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Suscribirse a los cambios de la flota",
+        description = "Abre un flujo Server-Sent Events con los eventos 'pedido', 'vehiculo' y 'mantenimiento' a medida que se confirman. " +
+                     "Si el cliente no consume a tiempo se descartan los eventos más antiguos o se cierra la conexión, según la configuración; " +
+                     "al reconectarse conviene volver a consultar el estado. Requiere rol de ADMIN."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Flujo de eventos abierto"),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado - Se requiere rol de ADMIN",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Se alcanzó el máximo de suscriptores; reintentar luego de Retry-After",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponseDTO.class))
+        )
+    })
+    public SseEmitter suscribir() {
+        return eventosFlotaService.suscribir();
+    }
+}
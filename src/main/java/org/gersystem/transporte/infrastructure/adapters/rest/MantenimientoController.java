@@ -5,20 +5,28 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.MantenimientoPredictivoService;
 import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.EstadoMantenimiento;
 import org.gersystem.transporte.domain.model.Mantenimiento;
 import org.gersystem.transporte.domain.service.MantenimientoDomainService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.CreateMantenimientoDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.DesgasteVehiculoDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.MantenimientoDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.MantenimientoMapper;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.PageDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.PlanMantenimientoDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ResultadoPlanMantenimientoDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.VentanaMantenimientoDTO;
+import org.gersystem.transporte.infrastructure.calendario.CalendarioMantenimiento;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
@@ -26,6 +34,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.gersystem.transporte.infrastructure.adapters.rest.exception.ValidationException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/mantenimientos")
 @RequiredArgsConstructor
@@ -34,6 +46,7 @@ public class MantenimientoController {
 
     private final MantenimientoDomainService mantenimientoDomainService;
     private final MantenimientoMapper mantenimientoMapper;
+    private final MantenimientoPredictivoService mantenimientoPredictivoService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -95,6 +108,57 @@ public class MantenimientoController {
         }
     }
 
+    @PostMapping("/planificacion")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Planificar mantenimiento de toda la flota",
+        description = "Programa un mantenimiento del tipo indicado para cada vehículo activo dentro de los " +
+                     "intervaloDias días a partir de fechaInicio, respetando la capacidad diaria del taller y la regla " +
+                     "de 24 horas entre mantenimientos de un mismo vehículo. Todo el plan se guarda en una sola transacción."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Plan generado; los vehículos que no entran en el intervalo se listan en vehiculosSinCupo",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ResultadoPlanMantenimientoDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Política de planificación inválida",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<ResultadoPlanMantenimientoDTO> planificarMantenimientos(
+            @Valid @RequestBody PlanMantenimientoDTO planMantenimientoDTO) {
+        try {
+            MantenimientoDomainService.Planificacion planificacion = mantenimientoDomainService.planificarMantenimientos(
+                planMantenimientoDTO.getTipo(),
+                planMantenimientoDTO.getFechaInicio(),
+                planMantenimientoDTO.getIntervaloDias(),
+                planMantenimientoDTO.getCapacidadDiaria(),
+                planMantenimientoDTO.getDescripcion()
+            );
+            List<LocalDate> dias = planificacion.getProgramados().stream()
+                .map(programado -> programado.getFechaProgramada().toLocalDate())
+                .sorted()
+                .toList();
+            return ResponseEntity.ok(new ResultadoPlanMantenimientoDTO(
+                dias.size(),
+                dias.isEmpty() ? null : dias.get(0),
+                dias.isEmpty() ? null : dias.get(dias.size() - 1),
+                planificacion.getVehiculosSinCupo()
+            ));
+        } catch (BusinessException e) {
+            throw new ValidationException(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}/estado")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
@@ -144,6 +208,74 @@ public class MantenimientoController {
         }
     }
 
+    @GetMapping("/vehiculos/{vehiculoId}/proxima-ventana")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Buscar próxima ventana libre",
+        description = "Devuelve el primer inicio a partir de la fecha indicada (o de ahora) en el que se puede programar " +
+                     "un mantenimiento de 24 horas para el vehículo sin solaparse con otro vigente."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ventana libre encontrada",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = VentanaMantenimientoDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Vehículo no encontrado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<VentanaMantenimientoDTO> buscarProximaVentana(
+            @Parameter(description = "ID del vehículo", required = true, example = "1")
+            @PathVariable Long vehiculoId,
+            @Parameter(description = "Fecha desde la cual buscar (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde) {
+        LocalDateTime inicio = mantenimientoDomainService.buscarProximaVentana(vehiculoId, desde);
+        return ResponseEntity.ok(new VentanaMantenimientoDTO(
+                vehiculoId, inicio, inicio.plus(CalendarioMantenimiento.DURACION_VENTANA)));
+    }
+
+    @GetMapping("/desgaste")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Ranking de desgaste de vehículos",
+        description = "Retorna los vehículos con mayor desgaste según el peso entregado y los viajes realizados desde su " +
+                     "último mantenimiento completado. Para los que superan el umbral se sugiere la próxima ventana libre. " +
+                     "Requiere rol de ADMIN."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking obtenido exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = DesgasteVehiculoDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Límite fuera del rango permitido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<List<DesgasteVehiculoDTO>> obtenerRankingDesgaste(
+            @Parameter(description = "Cantidad de vehículos a retornar (1-500)")
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(mantenimientoPredictivoService.obtenerRanking(limite));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Operation(
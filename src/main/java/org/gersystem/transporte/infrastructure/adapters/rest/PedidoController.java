@@ -24,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 
 @RestController
@@ -62,18 +63,61 @@ public class PedidoController {
             @RequestParam(required = false) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaFin,
             
+            @Parameter(description = "Incluir pedidos archivados (cerrados antes del horizonte del archivo). " +
+                                     "Un inicio anterior al horizonte también los incluye")
+            @RequestParam(defaultValue = "false") boolean incluirArchivados,
+            
             @Parameter(description = "Parámetros de paginación y ordenamiento")
             @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         validarOrdenamiento(pageable);
         
         Page<PedidoDTO> pedidos = pedidoService.buscarPedidos(
-                estado, conductorId, vehiculoId, fechaInicio, fechaFin, pageable
+                estado, conductorId, vehiculoId, fechaInicio, fechaFin, incluirArchivados, pageable
         ).map(pedidoMapper::toDto);
         
         return ResponseEntity.ok(pedidos);
     }
 
+    @GetMapping(params = "fields")
+    @Operation(summary = "Listar pedidos con campos seleccionados",
+               description = "Igual que el listado de pedidos, pero cada fila contiene solo los campos indicados en fields, " +
+                             "con los datos de vehículo y conductor aplanados. Solo se consultan esas columnas.")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    public ResponseEntity<Page<Map<String, Object>>> listarPedidosProyectados(
+            @Parameter(description = "Campos separados por comas: id, descripcion, peso, estado, createdDate, " +
+                                     "lastModifiedDate, vehiculoId, vehiculoPlaca, conductorId, conductorNombre",
+                       example = "id,estado,peso")
+            @RequestParam String fields,
+
+            @Parameter(description = "Filtrar por estado del pedido")
+            @RequestParam(required = false) EstadoPedido estado,
+
+            @Parameter(description = "Filtrar por ID del conductor")
+            @RequestParam(required = false) Long conductorId,
+
+            @Parameter(description = "Filtrar por ID del vehículo")
+            @RequestParam(required = false) Long vehiculoId,
+
+            @Parameter(description = "Fecha inicio para filtrar (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaInicio,
+
+            @Parameter(description = "Fecha fin para filtrar (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaFin,
+
+            @Parameter(description = "Incluir pedidos archivados (cerrados antes del horizonte del archivo). " +
+                                     "Un inicio anterior al horizonte también los incluye")
+            @RequestParam(defaultValue = "false") boolean incluirArchivados,
+
+            @Parameter(description = "Parámetros de paginación y ordenamiento")
+            @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(pedidoService.buscarPedidosProyectados(
+                fields, estado, conductorId, vehiculoId, fechaInicio, fechaFin, incluirArchivados, pageable));
+    }
+
     @PostMapping
     @Operation(summary = "Crear pedido", description = "Crea un nuevo pedido")
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,106 @@
+package org.gersystem.transporte.infrastructure.adapters.rest;
+
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Respuestas GET condicionales. El ETag se calcula a partir de la identidad y la fecha de
+ * modificación de las entidades; si coincide con {@code If-None-Match} (o la fecha con
+ * {@code If-Modified-Since}) se responde 304 sin mapear ni serializar el cuerpo.
+ *
+ * Los ETag son débiles: identifican los datos, no los bytes, que cambian según se negocie JSON,
+ * Smile o CBOR y según se compriman. Tomcat tampoco comprime respuestas con ETag fuerte.
+ */
+final class RespuestaCondicional {
+
+    /** El cliente puede guardar la respuesta pero debe revalidarla en cada uso. */
+    private static final CacheControl REVALIDAR = CacheControl.noCache().cachePrivate();
+    private static final LocalDateTime EPOCA = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private RespuestaCondicional() {
+    }
+
+    static <T> ResponseEntity<T> responder(WebRequest request, String etag, LocalDateTime ultimaModificacion,
+                                           Supplier<T> cuerpo) {
+        String etagDebil = "W/" + etag;
+        boolean noModificado = ultimaModificacion != null
+                ? request.checkNotModified(etagDebil, ultimaModificacion.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                : request.checkNotModified(etagDebil);
+        if (noModificado) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDAR).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDAR).varyBy(HttpHeaders.ACCEPT).body(cuerpo.get());
+    }
+
+    /**
+     * ETag de un vehículo. Incluye al conductor asignado porque su nombre y licencia forman
+     * parte de la respuesta.
+     */
+    static String etag(Vehiculo vehiculo) {
+        StringBuilder etag = new StringBuilder("\"v").append(vehiculo.getId())
+                .append('-').append(micros(vehiculo.getLastModifiedDate()));
+        Conductor conductor = vehiculo.getConductor();
+        if (conductor != null) {
+            etag.append("-c").append(conductor.getId()).append('-').append(micros(conductor.getLastModifiedDate()));
+        }
+        return etag.append('"').toString();
+    }
+
+    /** Fecha de modificación de un vehículo, o de su conductor si es posterior. */
+    static LocalDateTime ultimaModificacion(Vehiculo vehiculo) {
+        LocalDateTime fecha = vehiculo.getLastModifiedDate();
+        Conductor conductor = vehiculo.getConductor();
+        if (conductor != null && conductor.getLastModifiedDate() != null
+                && (fecha == null || conductor.getLastModifiedDate().isAfter(fecha))) {
+            return conductor.getLastModifiedDate();
+        }
+        return fecha;
+    }
+
+    static String etag(Ruta ruta) {
+        return "\"r" + ruta.getId() + "-" + micros(ruta.getLastModifiedDate()) + "\"";
+    }
+
+    static String etag(List<Vehiculo> vehiculos) {
+        long hash = 0xcbf29ce484222325L;
+        for (Vehiculo vehiculo : vehiculos) {
+            hash = mezclar(hash, vehiculo.getId());
+            hash = mezclar(hash, micros(vehiculo.getLastModifiedDate()));
+            Conductor conductor = vehiculo.getConductor();
+            hash = mezclar(hash, conductor != null ? micros(conductor.getLastModifiedDate()) : 0);
+        }
+        return "\"l" + vehiculos.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    static String etag(String coleccion, String version) {
+        return "\"" + coleccion + "-" + version + "\"";
+    }
+
+    /**
+     * Se usan microsegundos, la precisión con que se guardan las fechas de modificación (V5).
+     */
+    private static long micros(LocalDateTime fecha) {
+        return fecha == null ? 0 : ChronoUnit.MICROS.between(EPOCA, fecha);
+    }
+
+    /** Un paso de FNV-1a de 64 bits sobre los 8 bytes del valor. */
+    private static long mezclar(long hash, long valor) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (valor >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
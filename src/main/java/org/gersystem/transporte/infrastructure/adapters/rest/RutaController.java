@@ -10,19 +10,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.MotorRutasService;
+import org.gersystem.transporte.application.SincronizacionService;
+import org.gersystem.transporte.application.VersionesColeccionService;
 import org.gersystem.transporte.application.exception.ValidationException;
 import org.gersystem.transporte.domain.model.Ruta;
 import org.gersystem.transporte.domain.service.RutaDomainService;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.CaminoRutaDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConsultaMatrizRutasDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.CreateRutaDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.MatrizRutasDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RutaCambioDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.RutaDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.SincronizacionDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.RutaMapper;
+import org.gersystem.transporte.infrastructure.routing.GrafoRutas;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/rutas")
@@ -32,6 +42,9 @@ public class RutaController {
 
     private final RutaDomainService rutaDomainService;
     private final RutaMapper rutaMapper;
+    private final MotorRutasService motorRutasService;
+    private final VersionesColeccionService versionesColeccionService;
+    private final SincronizacionService sincronizacionService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -175,11 +188,124 @@ public class RutaController {
         return ResponseEntity.ok(rutaMapper.toDto(rutaActualizada));
     }
 
+    @GetMapping("/camino")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Calcular camino más corto entre dos puntos",
+        description = "Encadena rutas activas para llegar del punto de origen al de destino minimizando " +
+                     "la distancia total o el tiempo estimado total. Las rutas se recorren en el sentido origen-destino."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Camino calculado exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CaminoRutaDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Puntos o criterio inválidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Punto desconocido o sin camino de rutas activas",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<CaminoRutaDTO> calcularCamino(
+            @Parameter(description = "Punto de origen", required = true)
+            @RequestParam String origen,
+            @Parameter(description = "Punto de destino", required = true)
+            @RequestParam String destino,
+            @Parameter(description = "Criterio a minimizar: DISTANCIA o TIEMPO")
+            @RequestParam(defaultValue = "DISTANCIA") GrafoRutas.Criterio criterio) {
+        return ResponseEntity.ok(motorRutasService.calcularCamino(origen, destino, criterio));
+    }
+
+    @PostMapping("/matriz")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Calcular matriz de distancias y tiempos entre puntos",
+        description = "Devuelve en una sola llamada la distancia mínima y el tiempo mínimo de cada origen a cada " +
+                     "destino usando rutas activas. Las celdas sin camino se devuelven en null."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matriz calculada exitosamente",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MatrizRutasDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lista de orígenes o destinos vacía o demasiado grande",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Punto desconocido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<MatrizRutasDTO> calcularMatriz(@Valid @RequestBody ConsultaMatrizRutasDTO consulta) {
+        return ResponseEntity.ok(motorRutasService.calcularMatriz(consulta.getOrigenes(), consulta.getDestinos()));
+    }
+
+    @GetMapping("/sincronizacion")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Sincronizar rutas modificadas",
+        description = "Devuelve las rutas creadas o editadas después del cursor, más antiguas primero, junto con los ids de las dadas de baja. " +
+                     "Una tableta sin cursor recibe todas las rutas; mientras hayMas sea true pide la página siguiente con el cursor devuelto."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de cambios desde el cursor",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SincronizacionDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor inválido o límite fuera de rango (1-1000)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<SincronizacionDTO<RutaCambioDTO>> sincronizarRutas(
+            @Parameter(description = "Cursor devuelto por la consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de registros (1-1000)")
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacionService.sincronizarRutas(cursor, limite));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Operation(
         summary = "Obtener detalles de una ruta",
-        description = "Obtiene la información completa de una ruta específica por su ID"
+        description = "Obtiene la información completa de una ruta específica por su ID. Admite If-None-Match e If-Modified-Since."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -190,6 +316,10 @@ public class RutaController {
                 schema = @Schema(implementation = RutaDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "La ruta no cambió desde la versión indicada en If-None-Match o If-Modified-Since"
+        ),
         @ApiResponse(
             responseCode = "403",
             description = "Acceso denegado - Se requiere rol de ADMIN o USER",
@@ -209,12 +339,14 @@ public class RutaController {
     })
     public ResponseEntity<RutaDTO> obtenerRuta(
             @Parameter(description = "ID de la ruta a consultar", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
         if (id <= 0) {
             throw new ValidationException("El ID de la ruta debe ser un número positivo");
         }
         Ruta ruta = rutaDomainService.obtenerRuta(id);
-        return ResponseEntity.ok(rutaMapper.toDto(ruta));
+        return RespuestaCondicional.responder(request, RespuestaCondicional.etag(ruta),
+                ruta.getLastModifiedDate(), () -> rutaMapper.toDto(ruta));
     }
 
     @GetMapping
@@ -222,7 +354,8 @@ public class RutaController {
     @Operation(
         summary = "Listar rutas con filtros",
         description = "Obtiene una lista paginada de rutas con opción de filtrar por estado (activa/inactiva). " +
-                     "Los resultados se pueden ordenar por diferentes campos usando el parámetro sort."
+                     "Los resultados se pueden ordenar por diferentes campos usando el parámetro sort. " +
+                     "El ETag es la versión de la colección de rutas: con If-None-Match vigente se responde 304 sin consultar la base."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -233,6 +366,10 @@ public class RutaController {
                 schema = @Schema(implementation = Page.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Ninguna ruta cambió desde la versión indicada en If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "403",
             description = "Acceso denegado - Se requiere rol de ADMIN o USER",
@@ -246,8 +383,10 @@ public class RutaController {
             @Parameter(description = "Filtrar por estado de la ruta (true=activa, false=inactiva)")
             @RequestParam(required = false) Boolean activa,
             @Parameter(description = "Parámetros de paginación y ordenamiento (size, page, sort)")
-            @PageableDefault(size = 20, sort = "fechaCreacion") Pageable pageable) {
-        Page<Ruta> rutas = rutaDomainService.listarRutas(activa, pageable);
-        return ResponseEntity.ok(rutas.map(rutaMapper::toDto));
+            @PageableDefault(size = 20, sort = "fechaCreacion") Pageable pageable,
+            WebRequest request) {
+        String etag = RespuestaCondicional.etag("rutas", versionesColeccionService.versionRutas());
+        return RespuestaCondicional.responder(request, etag, null,
+                () -> rutaDomainService.listarRutas(activa, pageable).map(rutaMapper::toDto));
     }
 } 
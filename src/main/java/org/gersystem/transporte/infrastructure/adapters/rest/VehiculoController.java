@@ -2,6 +2,7 @@ package org.gersystem.transporte.infrastructure.adapters.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +11,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.application.BusquedaService;
+import org.gersystem.transporte.application.SincronizacionService;
 import org.gersystem.transporte.application.VehiculoApplicationService;
 import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.model.Vehiculo;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.*;
+import org.gersystem.transporte.infrastructure.adapters.rest.mapper.VehiculoMapper;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -20,8 +25,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/vehiculos")
@@ -30,6 +38,9 @@ import java.util.List;
 public class VehiculoController {
 
     private final VehiculoApplicationService vehiculoApplicationService;
+    private final BusquedaService busquedaService;
+    private final VehiculoMapper vehiculoMapper;
+    private final SincronizacionService sincronizacionService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -134,7 +145,7 @@ public class VehiculoController {
     @Operation(
         summary = "Obtener un vehículo por su ID",
         description = "Obtiene la información completa de un vehículo específico, incluyendo su estado actual, " +
-                     "conductor asignado si tiene, y datos de mantenimiento."
+                     "conductor asignado si tiene, y datos de mantenimiento. Admite If-None-Match e If-Modified-Since."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -145,6 +156,10 @@ public class VehiculoController {
                 schema = @Schema(implementation = VehiculoDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "El vehículo no cambió desde la versión indicada en If-None-Match o If-Modified-Since"
+        ),
         @ApiResponse(
             responseCode = "403",
             description = "Acceso denegado - Se requiere rol de ADMIN, CONDUCTOR o CLIENTE",
@@ -164,12 +179,14 @@ public class VehiculoController {
     })
     public ResponseEntity<VehiculoDTO> obtenerVehiculoPorId(
             @Parameter(description = "ID del vehículo a consultar", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
         if (id <= 0) {
             throw new ValidationException("El ID del vehículo debe ser un número positivo");
         }
-        VehiculoDTO vehiculoDTO = vehiculoApplicationService.obtenerVehiculoPorId(id);
-        return ResponseEntity.ok(vehiculoDTO);
+        Vehiculo vehiculo = vehiculoApplicationService.obtenerVehiculoActivo(id);
+        return RespuestaCondicional.responder(request, RespuestaCondicional.etag(vehiculo),
+                RespuestaCondicional.ultimaModificacion(vehiculo), () -> vehiculoMapper.toDto(vehiculo));
     }
 
     @GetMapping
@@ -208,12 +225,117 @@ public class VehiculoController {
         return ResponseEntity.ok(vehiculos);
     }
 
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR', 'CLIENTE')")
+    @Operation(
+        summary = "Listar vehículos con campos seleccionados",
+        description = "Igual que el listado de vehículos, pero cada fila contiene solo los campos indicados en fields, " +
+                     "con los datos del conductor aplanados. Solo se consultan esas columnas."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista paginada con los campos pedidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PageDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Campo u orden no válido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<PageDTO<Map<String, Object>>> obtenerVehiculosProyectados(
+            @Parameter(description = "Campos separados por comas: id, placa, capacidad, activo, conductorId, conductorNombre",
+                       example = "id,placa")
+            @RequestParam String fields,
+            @Parameter(description = "Filtrar por placa (búsqueda parcial)")
+            @RequestParam(required = false) String placa,
+            @Parameter(description = "Filtrar por estado del vehículo (true=activo, false=inactivo)")
+            @RequestParam(required = false) Boolean activo,
+            @Parameter(description = "Parámetros de paginación y ordenamiento (size, page, sort)")
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(vehiculoApplicationService.obtenerVehiculosProyectados(fields, placa, activo, pageable));
+    }
+
+    @GetMapping("/buscar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Buscar vehiculos activos por placa (type-ahead)",
+        description = "Búsqueda en memoria sin distinguir mayúsculas ni acentos. Con 1 o 2 caracteres coincide con el inicio de las palabras; " +
+                     "con 3 o más, con cualquier parte del texto. Los resultados se ordenan por relevancia: coincidencia exacta, prefijo y subcadena."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultados de la búsqueda ordenados por relevancia",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ResultadoBusquedaDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Texto de búsqueda vacío o límite fuera de rango (1-50)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<List<ResultadoBusquedaDTO>> buscarVehiculos(
+            @Parameter(description = "Texto a buscar", required = true, example = "abc")
+            @RequestParam String q,
+            @Parameter(description = "Cantidad máxima de resultados (1-50)")
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(busquedaService.buscarVehiculos(q, limite));
+    }
+
+    @GetMapping("/sincronizacion")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
+    @Operation(
+        summary = "Sincronizar vehículos modificados",
+        description = "Devuelve, por fecha de modificación, los vehículos creados o modificados después del cursor y los ids de los dados de baja. " +
+                     "Sin cursor comienza desde el principio; si hayMas es true, se repite la consulta con el cursor devuelto. " +
+                     "Las bajas se eliminan al vencer su retención, por eso un cursor más antiguo se rechaza y se debe sincronizar de nuevo sin cursor."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de cambios desde el cursor",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SincronizacionDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor inválido o límite fuera de rango (1-1000)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponseDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<SincronizacionDTO<VehiculoCambioDTO>> sincronizarVehiculos(
+            @Parameter(description = "Cursor devuelto por la consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de registros (1-1000)")
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacionService.sincronizarVehiculos(cursor, limite));
+    }
+
     @GetMapping("/libres")
     @PreAuthorize("hasAnyRole('ADMIN', 'CONDUCTOR')")
     @Operation(
         summary = "Obtener vehículos disponibles",
         description = "Retorna una lista de vehículos que están activos y no tienen conductor asignado, " +
-                     "disponibles para asignación."
+                     "disponibles para asignación. Admite If-None-Match."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -224,6 +346,10 @@ public class VehiculoController {
                 schema = @Schema(implementation = List.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "La lista no cambió desde la versión indicada en If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "403",
             description = "Acceso denegado - Se requiere rol de ADMIN o CONDUCTOR",
@@ -233,8 +359,10 @@ public class VehiculoController {
             )
         )
     })
-    public ResponseEntity<List<VehiculoDTO>> obtenerVehiculosLibres() {
-        return ResponseEntity.ok(vehiculoApplicationService.obtenerVehiculosLibres());
+    public ResponseEntity<List<VehiculoDTO>> obtenerVehiculosLibres(WebRequest request) {
+        List<Vehiculo> libres = vehiculoApplicationService.buscarVehiculosLibres();
+        return RespuestaCondicional.responder(request, RespuestaCondicional.etag(libres), null,
+                () -> libres.stream().map(vehiculoMapper::toDto).collect(Collectors.toList()));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,31 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaminoRutaDTO {
+    private String origen;
+    private String destino;
+    private String criterio;
+    private Double distanciaKm;
+    private Integer tiempoEstimadoMinutos;
+    private List<TramoRutaDTO> tramos;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TramoRutaDTO {
+        private Long rutaId;
+        private String nombre;
+        private String puntoOrigen;
+        private String puntoDestino;
+        private Double distanciaKm;
+        private Integer tiempoEstimadoMinutos;
+    }
+}
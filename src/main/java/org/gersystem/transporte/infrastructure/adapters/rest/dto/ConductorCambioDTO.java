@@ -0,0 +1,23 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConductorCambioDTO implements SincronizacionDTO.Fila {
+    private Long id;
+    private String nombre;
+    private String licencia;
+    private boolean activo;
+    private LocalDateTime lastModifiedDate;
+
+    @Override
+    public boolean vigente() {
+        return activo;
+    }
+}
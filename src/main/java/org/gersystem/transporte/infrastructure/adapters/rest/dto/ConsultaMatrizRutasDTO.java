@@ -0,0 +1,20 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ConsultaMatrizRutasDTO {
+
+    @NotEmpty(message = "Se requiere al menos un origen")
+    @Size(max = 100, message = "Se admiten como máximo 100 orígenes por consulta")
+    private List<@NotBlank(message = "Los orígenes no pueden estar vacíos") String> origenes;
+
+    @NotEmpty(message = "Se requiere al menos un destino")
+    @Size(max = 100, message = "Se admiten como máximo 100 destinos por consulta")
+    private List<@NotBlank(message = "Los destinos no pueden estar vacíos") String> destinos;
+}
@@ -0,0 +1,22 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DesgasteVehiculoDTO {
+    private Integer posicion;
+    private Long vehiculoId;
+    private String placa;
+    private BigDecimal pesoEntregado;
+    private Long viajes;
+    private Double puntaje;
+    private boolean mantenimientoSugerido;
+    private LocalDateTime ventanaSugerida;
+}
@@ -0,0 +1,21 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntregaActivaDTO {
+    private Long id;
+    private String descripcion;
+    private BigDecimal peso;
+    private EstadoPedido estado;
+    private Long vehiculoId;
+    private LocalDateTime fechaModificacion;
+}
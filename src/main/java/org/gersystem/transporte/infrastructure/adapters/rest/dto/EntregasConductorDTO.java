@@ -0,0 +1,22 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntregasConductorDTO {
+    @Schema(description = "Valor a enviar en since en la próxima consulta")
+    private long version;
+    @Schema(description = "Si es true, pedidos reemplaza la lista completa del cliente")
+    private boolean completo;
+    @Schema(description = "Pedidos pendientes o en proceso nuevos o modificados")
+    private List<EntregaActivaDTO> pedidos;
+    @Schema(description = "Ids de pedidos que dejaron de estar activos o se reasignaron a otro conductor")
+    private List<Long> retirados;
+}
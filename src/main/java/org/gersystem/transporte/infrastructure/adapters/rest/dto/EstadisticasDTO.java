@@ -1,10 +1,11 @@
 package org.gersystem.transporte.infrastructure.adapters.rest.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Data
 @Builder
@@ -21,10 +22,12 @@ public class EstadisticasDTO {
     private Double porcentajeConductoresActivos;
     private Double porcentajeVehiculosActivos;
     private Double porcentajePedidosEntregados;
-    private List<ConductorSimpleDTO> conductoresSinVehiculos;
-    private List<ConteoVehiculosDTO> vehiculosPorConductor;
+    /** Conductores sin vehículo asignado; el listado se obtiene paginado en /conductores/sin-vehiculos. */
+    private Long totalConductoresSinVehiculos;
 
     @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ConductorSimpleDTO {
         private Long id;
         private String nombre;
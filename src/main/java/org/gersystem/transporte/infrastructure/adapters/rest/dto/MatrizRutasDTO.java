@@ -0,0 +1,22 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Distancias y tiempos mínimos por par origen-destino; {@code distanciasKm.get(i).get(j)}
+ * corresponde a {@code origenes.get(i)} y {@code destinos.get(j)}, y es {@code null}
+ * cuando no hay camino.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrizRutasDTO {
+    private List<String> origenes;
+    private List<String> destinos;
+    private List<List<Double>> distanciasKm;
+    private List<List<Integer>> tiemposMinutos;
+}
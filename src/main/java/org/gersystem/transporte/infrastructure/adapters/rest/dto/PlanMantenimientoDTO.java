@@ -0,0 +1,32 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import javax.validation.constraints.Future;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import org.gersystem.transporte.domain.model.TipoMantenimiento;
+
+import java.time.LocalDate;
+
+@Data
+public class PlanMantenimientoDTO {
+
+    @NotNull(message = "El tipo de mantenimiento es requerido")
+    private TipoMantenimiento tipo;
+
+    @NotNull(message = "La fecha de inicio es requerida")
+    @Future(message = "La fecha de inicio debe ser posterior a hoy")
+    private LocalDate fechaInicio;
+
+    @NotNull(message = "El intervalo en días es requerido")
+    @Min(value = 1, message = "El intervalo debe ser de al menos 1 día")
+    @Max(value = 366, message = "El intervalo no puede superar 366 días")
+    private Integer intervaloDias;
+
+    @NotNull(message = "La capacidad diaria del taller es requerida")
+    @Min(value = 1, message = "La capacidad diaria debe ser mayor a 0")
+    private Integer capacidadDiaria;
+
+    private String descripcion;
+}
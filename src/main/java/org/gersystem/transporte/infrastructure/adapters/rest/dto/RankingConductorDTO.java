@@ -0,0 +1,22 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+public class RankingConductorDTO {
+    private Integer posicion;
+    private EstadisticasDTO.ConductorSimpleDTO conductor;
+    private BigDecimal pesoEntregado;
+    private Long pedidosEntregados;
+
+    public RankingConductorDTO(Long conductorId, String nombre, String licencia,
+                               BigDecimal pesoEntregado, Long pedidosEntregados) {
+        this.conductor = new EstadisticasDTO.ConductorSimpleDTO(conductorId, nombre, licencia);
+        this.pesoEntregado = pesoEntregado;
+        this.pedidosEntregados = pedidosEntregados;
+    }
+}
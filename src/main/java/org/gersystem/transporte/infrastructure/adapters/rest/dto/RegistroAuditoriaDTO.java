@@ -0,0 +1,22 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.gersystem.transporte.domain.model.RegistroAuditoria;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistroAuditoriaDTO {
+    private Long id;
+    private LocalDateTime fecha;
+    private String usuario;
+    private RegistroAuditoria.Entidad entidad;
+    private Long entidadId;
+    private String campo;
+    private String valorAnterior;
+    private String valorNuevo;
+}
@@ -0,0 +1,18 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoPlanMantenimientoDTO {
+    private int mantenimientosProgramados;
+    private LocalDate primerDia;
+    private LocalDate ultimoDia;
+    private List<Long> vehiculosSinCupo;
+}
@@ -0,0 +1,26 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RutaCambioDTO implements SincronizacionDTO.Fila {
+    private Long id;
+    private String nombre;
+    private String puntoOrigen;
+    private String puntoDestino;
+    private Double distanciaKm;
+    private Integer tiempoEstimadoMinutos;
+    private boolean activa;
+    private LocalDateTime lastModifiedDate;
+
+    @Override
+    public boolean vigente() {
+        return activa;
+    }
+}
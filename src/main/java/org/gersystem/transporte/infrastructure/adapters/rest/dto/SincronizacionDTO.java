@@ -0,0 +1,35 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SincronizacionDTO<T> {
+    @Schema(description = "Registros activos creados o modificados desde el cursor")
+    private List<T> cambios;
+    @Schema(description = "Ids de registros desactivados desde el cursor")
+    private List<Long> eliminados;
+    @Schema(description = "Valor a enviar en cursor en la próxima consulta")
+    private String cursor;
+    @Schema(description = "Si es true, hay más cambios: consultar de nuevo con el cursor devuelto")
+    private boolean hayMas;
+
+    /**
+     * Fila leída para sincronizar: se ordena por fecha de modificación e id.
+     */
+    public interface Fila {
+        Long getId();
+
+        LocalDateTime getLastModifiedDate();
+
+        /** {@code false} si el registro fue dado de baja y debe enviarse como eliminado. */
+        boolean vigente();
+    }
+}
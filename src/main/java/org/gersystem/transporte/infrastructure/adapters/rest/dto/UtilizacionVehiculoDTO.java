@@ -0,0 +1,26 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+public class UtilizacionVehiculoDTO {
+    private Integer posicion;
+    private Long vehiculoId;
+    private String placa;
+    private BigDecimal capacidad;
+    private BigDecimal pesoEntregado;
+    private Long pedidosEntregados;
+
+    public UtilizacionVehiculoDTO(Long vehiculoId, String placa, BigDecimal capacidad,
+                                  BigDecimal pesoEntregado, Long pedidosEntregados) {
+        this.vehiculoId = vehiculoId;
+        this.placa = placa;
+        this.capacidad = capacidad;
+        this.pesoEntregado = pesoEntregado;
+        this.pedidosEntregados = pedidosEntregados;
+    }
+}
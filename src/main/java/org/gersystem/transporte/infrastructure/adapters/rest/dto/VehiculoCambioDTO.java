@@ -0,0 +1,25 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiculoCambioDTO implements SincronizacionDTO.Fila {
+    private Long id;
+    private String placa;
+    private BigDecimal capacidad;
+    private boolean activo;
+    private Long conductorId;
+    private LocalDateTime lastModifiedDate;
+
+    @Override
+    public boolean vigente() {
+        return activo;
+    }
+}
@@ -0,0 +1,16 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VentanaMantenimientoDTO {
+    private Long vehiculoId;
+    private LocalDateTime inicio;
+    private LocalDateTime fin;
+}
@@ -0,0 +1,19 @@
+package org.gersystem.transporte.infrastructure.adapters.rest.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class LimiteTasaExcedidoException extends RuntimeException {
+
+    private final long segundosEspera;
+
+    public LimiteTasaExcedidoException(String message, long segundosEspera) {
+        super(message);
+        this.segundosEspera = segundosEspera;
+    }
+
+    public long getSegundosEspera() {
+        return segundosEspera;
+    }
+}
@@ -10,8 +10,6 @@ import org.mapstruct.Mapping;
 public interface UsuarioMapper {
     
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "refreshToken", ignore = true)
-    @Mapping(target = "refreshTokenExpiryDate", ignore = true)
     @Mapping(target = "activo", constant = "true")
     Usuario toEntity(CreateUsuarioDTO createUsuarioDTO);
     
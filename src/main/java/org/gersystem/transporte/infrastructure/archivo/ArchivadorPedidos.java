@@ -0,0 +1,56 @@
+package org.gersystem.transporte.infrastructure.archivo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.service.ArchivoPedidosDomainService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mueve periódicamente los pedidos cerrados antiguos al archivo. Cada tramo es una transacción
+ * corta y entre tramos se hace una pausa, para no retener bloqueos sobre la tabla de pedidos
+ * mientras se procesa un atraso grande. Las pausas ocupan un hilo del planificador durante toda
+ * la pasada, por eso {@code spring.task.scheduling.pool.size} reserva uno por tarea.
+ */
+@Component
+public class ArchivadorPedidos {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchivadorPedidos.class);
+
+    private final ArchivoPedidosDomainService archivoPedidosDomainService;
+    private final int tamanoTramo;
+    private final long pausaMs;
+    private final Counter archivados;
+
+    public ArchivadorPedidos(ArchivoPedidosDomainService archivoPedidosDomainService,
+                             @Value("${transporte.pedidos.archivo.tamano-tramo:1000}") int tamanoTramo,
+                             @Value("${transporte.pedidos.archivo.pausa-ms:200}") long pausaMs,
+                             MeterRegistry meterRegistry) {
+        this.archivoPedidosDomainService = archivoPedidosDomainService;
+        this.tamanoTramo = tamanoTramo;
+        this.pausaMs = pausaMs;
+        this.archivados = Counter.builder("transporte.pedidos.archivados")
+                .description("Pedidos cerrados movidos al archivo")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${transporte.pedidos.archivo.cron:0 0 2 * * *}")
+    public void archivar() throws InterruptedException {
+        int total = 0;
+        int tramo;
+        do {
+            tramo = archivoPedidosDomainService.archivarTramo(tamanoTramo);
+            total += tramo;
+            archivados.increment(tramo);
+            if (tramo == tamanoTramo) {
+                Thread.sleep(pausaMs);
+            }
+        } while (tramo == tamanoTramo);
+        if (total > 0) {
+            logger.info("Se archivaron {} pedidos cerrados", total);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.gersystem.transporte.infrastructure.auditoria;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.model.RegistroAuditoria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escribe los registros de auditoría en lotes desde un hilo propio, para que las transacciones
+ * de negocio no esperen a la tabla de auditoría. Cada lote es un único INSERT por lotes de JDBC.
+ *
+ * Si la cola se llena, el registro se escribe en el hilo que lo generó: se prefiere frenar a
+ * quien escribe antes que perder auditoría. Al cerrar la aplicación se escribe lo pendiente.
+ */
+@Component
+public class EscritorAuditoria implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EscritorAuditoria.class);
+    private static final String INSERT = "INSERT INTO registro_auditoria "
+            + "(fecha, usuario, entidad, entidad_id, campo, valor_anterior, valor_nuevo) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<RegistroAuditoria> cola;
+    private final int tamanoLote;
+    private final long intervaloMs;
+    private final Counter escritos;
+    private final Counter fallidos;
+    private final Counter sincronos;
+    private final Thread hilo;
+    private volatile boolean activo = true;
+
+    public EscritorAuditoria(JdbcTemplate jdbcTemplate,
+                             @Value("${transporte.auditoria.capacidad-cola:10000}") int capacidadCola,
+                             @Value("${transporte.auditoria.tamano-lote:500}") int tamanoLote,
+                             @Value("${transporte.auditoria.intervalo-ms:1000}") long intervaloMs,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cola = new ArrayBlockingQueue<>(capacidadCola);
+        this.tamanoLote = tamanoLote;
+        this.intervaloMs = intervaloMs;
+
+        Gauge.builder("transporte.auditoria.pendientes", cola, BlockingQueue::size)
+                .description("Registros de auditoría en espera de escribirse")
+                .register(meterRegistry);
+        this.escritos = Counter.builder("transporte.auditoria.registros")
+                .tag("resultado", "escrito")
+                .description("Registros de auditoría procesados")
+                .register(meterRegistry);
+        this.fallidos = Counter.builder("transporte.auditoria.registros")
+                .tag("resultado", "fallido")
+                .description("Registros de auditoría procesados")
+                .register(meterRegistry);
+        this.sincronos = Counter.builder("transporte.auditoria.sincronos")
+                .description("Registros escritos por quien los generó porque la cola estaba llena")
+                .register(meterRegistry);
+
+        this.hilo = Thread.ofPlatform().name("auditoria-escritor").daemon().start(this::ejecutar);
+    }
+
+    public void registrar(RegistroAuditoria registro) {
+        if (!activo || !cola.offer(registro)) {
+            sincronos.increment();
+            escribir(List.of(registro));
+        }
+    }
+
+    private void ejecutar() {
+        List<RegistroAuditoria> lote = new ArrayList<>(tamanoLote);
+        while (activo) {
+            try {
+                // Espera el primer registro y junta lo que ya esté encolado, sin superar el lote
+                RegistroAuditoria primero = cola.poll(intervaloMs, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                lote.add(primero);
+                cola.drainTo(lote, tamanoLote - 1);
+                escribir(lote);
+                lote.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void escribir(List<RegistroAuditoria> lote) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, lote, lote.size(), (ps, registro) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(registro.getFecha()));
+                ps.setString(2, registro.getUsuario());
+                ps.setString(3, registro.getEntidad().name());
+                ps.setLong(4, registro.getEntidadId());
+                ps.setString(5, registro.getCampo());
+                ps.setString(6, registro.getValorAnterior());
+                ps.setString(7, registro.getValorNuevo());
+            });
+            escritos.increment(lote.size());
+        } catch (DataAccessException e) {
+            fallidos.increment(lote.size());
+            logger.error("No se pudieron escribir {} registros de auditoría", lote.size(), e);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        // Sin interrumpir: un lote a medio escribir termina y el hilo sale en la próxima espera
+        activo = false;
+        hilo.join(intervaloMs + TimeUnit.SECONDS.toMillis(10));
+        List<RegistroAuditoria> pendientes = new ArrayList<>();
+        while (cola.drainTo(pendientes, tamanoLote) > 0) {
+            escribir(pendientes);
+            pendientes.clear();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.gersystem.transporte.infrastructure.auditoria;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mantiene creadas las particiones mensuales de {@code registro_auditoria} para los próximos
+ * meses, dividiendo la partición {@code pmax} mientras todavía está vacía. Solo aplica en MySQL;
+ * en otras bases la tabla no está particionada.
+ *
+ * La retención elimina los meses vencidos enteros con {@link #eliminarAnteriores}.
+ */
+@Component
+public class ParticionesAuditoria {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticionesAuditoria.class);
+    private static final DateTimeFormatter NOMBRE = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String PARTICION_MAXIMA = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int mesesAdelantados;
+
+    public ParticionesAuditoria(JdbcTemplate jdbcTemplate,
+                                @Value("${transporte.auditoria.particiones.meses-adelantados:3}") int mesesAdelantados) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mesesAdelantados = mesesAdelantados;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        crearParticiones();
+    }
+
+    @Scheduled(cron = "${transporte.auditoria.particiones.cron:0 0 4 * * *}")
+    public void crearParticiones() {
+        try {
+            if (!esMySql()) {
+                return;
+            }
+            List<String> particiones = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'registro_auditoria' "
+                            + "AND PARTITION_NAME IS NOT NULL", String.class);
+            if (!particiones.contains(PARTICION_MAXIMA)) {
+                logger.warn("registro_auditoria no tiene la partición {}; no se agregan particiones", PARTICION_MAXIMA);
+                return;
+            }
+
+            YearMonth ultimo = YearMonth.now().minusMonths(1);
+            for (String particion : particiones) {
+                YearMonth mes = mesDe(particion);
+                if (mes != null && mes.isAfter(ultimo)) {
+                    ultimo = mes;
+                }
+            }
+            YearMonth hasta = YearMonth.now().plusMonths(mesesAdelantados);
+            for (YearMonth mes = ultimo.plusMonths(1); !mes.isAfter(hasta); mes = mes.plusMonths(1)) {
+                jdbcTemplate.execute(String.format(
+                        "ALTER TABLE registro_auditoria REORGANIZE PARTITION %s INTO ("
+                                + "PARTITION %s VALUES LESS THAN ('%s'), PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                        PARTICION_MAXIMA, mes.format(NOMBRE), mes.plusMonths(1).atDay(1), PARTICION_MAXIMA));
+                logger.info("Partición de auditoría {} creada", mes.format(NOMBRE));
+            }
+        } catch (DataAccessException e) {
+            logger.error("No se pudieron crear las particiones de auditoría", e);
+        }
+    }
+
+    /**
+     * Descarta las particiones mensuales cuyo mes termina antes del corte; borrar meses enteros
+     * así no recorre filas. Devuelve cuántas se eliminaron. Fuera de MySQL no hace nada y las
+     * filas antiguas se purgan por tramos.
+     */
+    public int eliminarAnteriores(LocalDateTime corte) {
+        if (!esMySql()) {
+            return 0;
+        }
+        int eliminadas = 0;
+        for (String particion : jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'registro_auditoria' "
+                        + "AND PARTITION_NAME IS NOT NULL", String.class)) {
+            YearMonth mes = mesDe(particion);
+            if (mes != null && !mes.plusMonths(1).atDay(1).atStartOfDay().isAfter(corte)) {
+                jdbcTemplate.execute("ALTER TABLE registro_auditoria DROP PARTITION " + particion);
+                logger.info("Partición de auditoría {} eliminada por retención", particion);
+                eliminadas++;
+            }
+        }
+        return eliminadas;
+    }
+
+    private boolean esMySql() {
+        String producto = jdbcTemplate.execute((ConnectionCallback<String>) conexion ->
+                conexion.getMetaData().getDatabaseProductName());
+        return producto != null && producto.toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    private static YearMonth mesDe(String particion) {
+        try {
+            return YearMonth.parse(particion, NOMBRE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
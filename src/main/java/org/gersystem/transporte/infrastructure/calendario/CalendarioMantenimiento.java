@@ -0,0 +1,156 @@
+package org.gersystem.transporte.infrastructure.calendario;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agenda en memoria de los mantenimientos vigentes de cada vehículo.
+ *
+ * - Cada mantenimiento ocupa la ventana {@code [inicio, inicio + 24h)}.
+ * - Las ventanas de un vehículo se guardan ordenadas por inicio, así que detectar un
+ *   solapamiento es una sola búsqueda O(log n).
+ * - Una reserva queda pendiente hasta que se registra el mantenimiento confirmado o se
+ *   libera; mientras tanto ocupa la ventana igual que uno confirmado.
+ *
+ * Las operaciones sobre un mismo vehículo se serializan con su agenda.
+ */
+public class CalendarioMantenimiento {
+
+    public static final Duration DURACION_VENTANA = Duration.ofHours(24);
+
+    private final Map<Long, Agenda> agendas = new ConcurrentHashMap<>();
+
+    /**
+     * Reserva la ventana si no se solapa con otra; devuelve {@code false} si hay conflicto.
+     */
+    public boolean reservar(Long vehiculoId, LocalDateTime inicio) {
+        Agenda agenda = agenda(vehiculoId);
+        synchronized (agenda) {
+            if (agenda.conflicto(inicio) != null) {
+                return false;
+            }
+            agenda.ocupar(inicio);
+            agenda.pendientes.merge(inicio, 1, Integer::sum);
+            return true;
+        }
+    }
+
+    /**
+     * Libera una reserva que no llegó a confirmarse.
+     */
+    public void liberarReserva(Long vehiculoId, LocalDateTime inicio) {
+        Agenda agenda = agenda(vehiculoId);
+        synchronized (agenda) {
+            if (agenda.pendientes.containsKey(inicio)) {
+                agenda.pendientes.computeIfPresent(inicio, (fecha, cantidad) -> cantidad > 1 ? cantidad - 1 : null);
+                agenda.desocupar(inicio);
+            }
+        }
+    }
+
+    /**
+     * Registra un mantenimiento confirmado, consumiendo la reserva pendiente de su ventana si
+     * existe y moviéndolo si cambió de fecha.
+     */
+    public void registrar(Long vehiculoId, Long mantenimientoId, LocalDateTime inicio) {
+        Agenda agenda = agenda(vehiculoId);
+        synchronized (agenda) {
+            LocalDateTime anterior = agenda.confirmados.put(mantenimientoId, inicio);
+            if (inicio.equals(anterior)) {
+                return;
+            }
+            if (anterior != null) {
+                agenda.desocupar(anterior);
+            }
+            if (agenda.pendientes.containsKey(inicio)) {
+                agenda.pendientes.computeIfPresent(inicio, (fecha, cantidad) -> cantidad > 1 ? cantidad - 1 : null);
+            } else {
+                agenda.ocupar(inicio);
+            }
+        }
+    }
+
+    public void eliminar(Long vehiculoId, Long mantenimientoId) {
+        Agenda agenda = agendas.get(vehiculoId);
+        if (agenda == null) {
+            return;
+        }
+        synchronized (agenda) {
+            LocalDateTime anterior = agenda.confirmados.remove(mantenimientoId);
+            if (anterior != null) {
+                agenda.desocupar(anterior);
+            }
+        }
+    }
+
+    /**
+     * Inicio de una ventana ocupada que se solapa con la indicada, si existe.
+     */
+    public Optional<LocalDateTime> conflicto(Long vehiculoId, LocalDateTime inicio) {
+        Agenda agenda = agendas.get(vehiculoId);
+        if (agenda == null) {
+            return Optional.empty();
+        }
+        synchronized (agenda) {
+            return Optional.ofNullable(agenda.conflicto(inicio));
+        }
+    }
+
+    /**
+     * Primer inicio a partir de {@code desde} cuya ventana de 24 horas está libre.
+     */
+    public LocalDateTime proximaVentanaLibre(Long vehiculoId, LocalDateTime desde) {
+        Agenda agenda = agendas.get(vehiculoId);
+        if (agenda == null) {
+            return desde;
+        }
+        synchronized (agenda) {
+            LocalDateTime candidato = desde;
+            LocalDateTime ocupada;
+            while ((ocupada = agenda.conflicto(candidato)) != null) {
+                candidato = ocupada.plus(DURACION_VENTANA);
+            }
+            return candidato;
+        }
+    }
+
+    public int tamano() {
+        return agendas.values().stream().mapToInt(agenda -> {
+            synchronized (agenda) {
+                return agenda.ocupacion.values().stream().mapToInt(Integer::intValue).sum();
+            }
+        }).sum();
+    }
+
+    private Agenda agenda(Long vehiculoId) {
+        return agendas.computeIfAbsent(vehiculoId, id -> new Agenda());
+    }
+
+    /**
+     * Ventanas de un vehículo. Se cuentan las ocupaciones por inicio para tolerar datos
+     * previos con dos mantenimientos a la misma hora.
+     */
+    private static final class Agenda {
+        private final TreeMap<LocalDateTime, Integer> ocupacion = new TreeMap<>();
+        private final Map<LocalDateTime, Integer> pendientes = new HashMap<>();
+        private final Map<Long, LocalDateTime> confirmados = new HashMap<>();
+
+        private LocalDateTime conflicto(LocalDateTime inicio) {
+            LocalDateTime siguiente = ocupacion.higherKey(inicio.minus(DURACION_VENTANA));
+            return siguiente != null && siguiente.isBefore(inicio.plus(DURACION_VENTANA)) ? siguiente : null;
+        }
+
+        private void ocupar(LocalDateTime inicio) {
+            ocupacion.merge(inicio, 1, Integer::sum);
+        }
+
+        private void desocupar(LocalDateTime inicio) {
+            ocupacion.computeIfPresent(inicio, (fecha, cantidad) -> cantidad > 1 ? cantidad - 1 : null);
+        }
+    }
+}
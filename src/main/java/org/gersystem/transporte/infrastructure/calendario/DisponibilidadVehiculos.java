@@ -0,0 +1,109 @@
+package org.gersystem.transporte.infrastructure.calendario;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mapa de bits por vehículo con las franjas horarias en que está en el taller.
+ *
+ * - La franja 0 empieza en {@code base}; cada bit cubre una hora y una franja ocupada en
+ *   parte cuenta como ocupada.
+ * - Un mantenimiento en proceso bloquea el vehículo sin importar la hora.
+ * - Cada cambio reconstruye el estado del vehículo y lo publica entero, de modo que las
+ *   consultas leen sin bloquear ni tocar la base.
+ */
+public class DisponibilidadVehiculos {
+
+    private final LocalDateTime base;
+    private final Map<Long, Estado> estados = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Bloqueo>> bloqueos = new HashMap<>();
+
+    public DisponibilidadVehiculos(LocalDateTime base) {
+        this.base = base.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    public synchronized void bloquearVentana(Long vehiculoId, Long mantenimientoId, LocalDateTime inicio,
+                                             Duration duracion) {
+        bloqueos.computeIfAbsent(vehiculoId, id -> new HashMap<>())
+                .put(mantenimientoId, new Bloqueo(inicio, inicio.plus(duracion)));
+        publicar(vehiculoId);
+    }
+
+    public synchronized void bloquearSinFin(Long vehiculoId, Long mantenimientoId) {
+        bloqueos.computeIfAbsent(vehiculoId, id -> new HashMap<>()).put(mantenimientoId, Bloqueo.SIN_FIN);
+        publicar(vehiculoId);
+    }
+
+    public synchronized void desbloquear(Long vehiculoId, Long mantenimientoId) {
+        Map<Long, Bloqueo> delVehiculo = bloqueos.get(vehiculoId);
+        if (delVehiculo != null && delVehiculo.remove(mantenimientoId) != null) {
+            publicar(vehiculoId);
+        }
+    }
+
+    public boolean enMantenimiento(Long vehiculoId, LocalDateTime instante) {
+        Estado estado = estados.get(vehiculoId);
+        if (estado == null) {
+            return false;
+        }
+        if (estado.sinFin) {
+            return true;
+        }
+        long franja = franja(instante);
+        return franja >= 0 && franja < Integer.MAX_VALUE && estado.franjas.get((int) franja);
+    }
+
+    private void publicar(Long vehiculoId) {
+        Map<Long, Bloqueo> delVehiculo = bloqueos.get(vehiculoId);
+        if (delVehiculo == null || delVehiculo.isEmpty()) {
+            bloqueos.remove(vehiculoId);
+            estados.remove(vehiculoId);
+            return;
+        }
+        BitSet franjas = new BitSet();
+        boolean sinFin = false;
+        for (Bloqueo bloqueo : delVehiculo.values()) {
+            if (bloqueo == Bloqueo.SIN_FIN) {
+                sinFin = true;
+                continue;
+            }
+            long desde = Math.max(0, franja(bloqueo.inicio));
+            long hasta = Math.min(Integer.MAX_VALUE, franja(bloqueo.fin.minusNanos(1)) + 1);
+            if (desde < hasta) {
+                franjas.set((int) desde, (int) hasta);
+            }
+        }
+        estados.put(vehiculoId, new Estado(franjas, sinFin));
+    }
+
+    private long franja(LocalDateTime instante) {
+        return Math.floorDiv(Duration.between(base, instante).getSeconds(), 3600);
+    }
+
+    private static final class Bloqueo {
+        private static final Bloqueo SIN_FIN = new Bloqueo(null, null);
+
+        private final LocalDateTime inicio;
+        private final LocalDateTime fin;
+
+        private Bloqueo(LocalDateTime inicio, LocalDateTime fin) {
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+    }
+
+    private static final class Estado {
+        private final BitSet franjas;
+        private final boolean sinFin;
+
+        private Estado(BitSet franjas, boolean sinFin) {
+            this.franjas = franjas;
+            this.sinFin = sinFin;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package org.gersystem.transporte.infrastructure.config;
 
 import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.domain.model.Usuario;
 import org.gersystem.transporte.domain.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -19,6 +22,9 @@ public class ApplicationConfig {
 
     private final UsuarioRepository usuarioRepository;
 
+    @Value("${transporte.seguridad.bcrypt.fuerza:10}")
+    private int fuerzaBcrypt;
+
     @Bean
     public UserDetailsService userDetailsService() {
         return usernameOrEmail -> usuarioRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
@@ -30,12 +36,27 @@ public class ApplicationConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(fuerzaBcrypt);
+    }
+
+    /**
+     * Guarda el hash recalculado cuando un usuario inicia sesión con una contraseña cifrada
+     * con menor fuerza que la configurada, de modo que subir la fuerza no obliga a migrar
+     * todas las contraseñas a la vez.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (usuario, nuevoHash) -> {
+            Usuario actualizado = (Usuario) usuario;
+            actualizado.setPassword(nuevoHash);
+            return usuarioRepository.save(actualizado);
+        };
     }
 
     @Bean
@@ -1,20 +1,29 @@
 package org.gersystem.transporte.infrastructure.config;
 
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+/**
+ * Usuario autenticado de la solicitud en curso; los procesos sin usuario (tareas programadas,
+ * cargas al arrancar) quedan registrados como SYSTEM.
+ */
 @Component("auditorAware")
 public class AuditorAwareImpl implements AuditorAware<String> {
 
+    private static final String SISTEMA = "SYSTEM";
+
     @Override
     public Optional<String> getCurrentAuditor() {
-        // PENDIENTE: Integrar con Spring Security para obtener el usuario autenticado
-        // Optional.ofNullable(SecurityContextHolder.getContext())
-        //         .map(SecurityContext::getAuthentication)
-        //         .filter(Authentication::isAuthenticated)
-        //         .map(Authentication::getName);
-        return Optional.of("SYSTEM");
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.of(SISTEMA);
+        }
+        return Optional.of(authentication.getName());
     }
-} 
+}
@@ -0,0 +1,153 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envuelve un convertidor de Jackson para registrar el tamaño de cada respuesta serializada,
+ * antes de la compresión, y el tiempo que toma escribirla, etiquetados por formato.
+ *
+ * El tiempo incluye el volcado al buffer de la respuesta; en respuestas mayores que el buffer
+ * también incluye la espera del socket.
+ */
+public class ConvertidorJacksonMedido implements GenericHttpMessageConverter<Object> {
+
+    private final AbstractJackson2HttpMessageConverter delegado;
+    private final DistributionSummary tamano;
+    private final Timer serializacion;
+
+    public ConvertidorJacksonMedido(AbstractJackson2HttpMessageConverter delegado, String formato,
+                                    MeterRegistry meterRegistry) {
+        this.delegado = delegado;
+        this.tamano = DistributionSummary.builder("transporte.respuesta.bytes")
+                .description("Tamaño del cuerpo serializado, sin comprimir")
+                .baseUnit("bytes")
+                .tag("formato", formato)
+                .register(meterRegistry);
+        this.serializacion = Timer.builder("transporte.respuesta.serializacion")
+                .description("Tiempo de serialización del cuerpo de la respuesta")
+                .tag("formato", formato)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegado.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return delegado.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegado.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return delegado.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegado.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegado.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        return delegado.read(clazz, inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return delegado.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    public void write(Object t, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        write(t, null, contentType, outputMessage);
+    }
+
+    @Override
+    public void write(Object t, Type type, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        MensajeContado mensaje = new MensajeContado(outputMessage);
+        long inicio = System.nanoTime();
+        delegado.write(t, type, contentType, mensaje);
+        serializacion.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        tamano.record(mensaje.getBytesEscritos());
+    }
+
+    private static class MensajeContado implements HttpOutputMessage {
+
+        private final HttpOutputMessage mensaje;
+        private ContadorBytes cuerpo;
+
+        MensajeContado(HttpOutputMessage mensaje) {
+            this.mensaje = mensaje;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (cuerpo == null) {
+                cuerpo = new ContadorBytes(mensaje.getBody());
+            }
+            return cuerpo;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return mensaje.getHeaders();
+        }
+
+        long getBytesEscritos() {
+            return cuerpo != null ? cuerpo.bytes : 0;
+        }
+    }
+
+    private static class ContadorBytes extends FilterOutputStream {
+
+        private long bytes;
+
+        ContadorBytes(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+}
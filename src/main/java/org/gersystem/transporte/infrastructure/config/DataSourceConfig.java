@@ -0,0 +1,94 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.gersystem.transporte.infrastructure.datasource.EnrutadorDataSource;
+import org.gersystem.transporte.infrastructure.datasource.MonitorReplica;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Enrutamiento de lecturas a una réplica de MySQL.
+ *
+ * Solo se activa con {@code transporte.datasource.replica.habilitada=true}; en ese caso las
+ * transacciones {@code @Transactional(readOnly = true)} usan la réplica mientras su retraso
+ * esté por debajo de {@code transporte.datasource.replica.retraso-maximo-ms}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transporte.datasource.replica.habilitada", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("transporte.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("transporte.datasource.replica.hikari")
+    public HikariDataSource dataSourceReplica() {
+        HikariDataSource dataSource = replicaDataSourceProperties().initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public MonitorReplica monitorReplica(
+            @Qualifier("dataSourcePrimaria") DataSource primaria,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            @Value("${transporte.datasource.replica.retraso-maximo-ms:5000}") long retrasoMaximoMs) {
+        return new MonitorReplica(primaria, replica, Duration.ofMillis(retrasoMaximoMs), Clock.systemUTC());
+    }
+
+    @Bean
+    public MeterBinder metricasReplica(MonitorReplica monitorReplica) {
+        return registry -> {
+            Gauge.builder("transporte.replica.retraso", monitorReplica, MonitorReplica::getRetrasoMs)
+                    .description("Retraso de la réplica en milisegundos (-1 si no responde)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("transporte.replica.disponible", monitorReplica, m -> m.isDisponible() ? 1 : 0)
+                    .description("Indica si la réplica recibe lecturas")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimaria") DataSource primaria,
+                                 @Qualifier("dataSourceReplica") DataSource replica,
+                                 MonitorReplica monitorReplica) {
+        return new LazyConnectionDataSourceProxy(new EnrutadorDataSource(primaria, replica, monitorReplica));
+    }
+
+    /**
+     * Con open-in-view la sesión de Hibernate vive toda la solicitud; se libera la conexión al
+     * terminar cada transacción para que la siguiente vuelva a pasar por el enrutador.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexionPorTransaccion() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,76 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración del modelo de ejecución de la aplicación.
+ *
+ * Por defecto se usan los pools de hilos de plataforma que configura Spring Boot.
+ * Con {@code transporte.hilos-virtuales.habilitado=true} las solicitudes HTTP, las tareas
+ * {@code @Async} y las tareas {@code @Scheduled} se ejecutan en hilos virtuales, y se limita
+ * el número de solicitudes concurrentes para que no se acumulen esperando conexión del pool.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class EjecucionConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "transporte.hilos-virtuales.habilitado", havingValue = "true")
+    static class HilosVirtualesConfig {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> ejecutorVirtualTomcat() {
+            return protocolHandler -> protocolHandler.setExecutor(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-v-", 0).factory()));
+        }
+
+        @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+        public SimpleAsyncTaskExecutor applicationTaskExecutor(
+                @Value("${transporte.hilos-virtuales.max-tareas-async:100}") int maxTareasAsync) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(
+                    Thread.ofVirtual().name("async-v-", 0).factory());
+            executor.setConcurrencyLimit(maxTareasAsync);
+            return executor;
+        }
+
+        @Bean
+        public ThreadPoolTaskScheduler taskScheduler(
+                @Value("${spring.task.scheduling.pool.size:6}") int tamanoPool) {
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setPoolSize(tamanoPool);
+            scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-v-", 0).factory());
+            return scheduler;
+        }
+
+        @Bean
+        public FilterRegistrationBean<LimiteConcurrenciaFilter> limiteConcurrenciaFilter(
+                @Value("${transporte.hilos-virtuales.max-solicitudes-concurrentes:200}") int maxSolicitudes,
+                @Value("${transporte.hilos-virtuales.espera-maxima-ms:2000}") long esperaMaximaMs,
+                MeterRegistry meterRegistry) {
+            LimiteConcurrenciaFilter filtro = new LimiteConcurrenciaFilter(maxSolicitudes, esperaMaximaMs);
+            Gauge.builder("transporte.solicitudes.en_curso", filtro, LimiteConcurrenciaFilter::getSolicitudesEnCurso)
+                    .description("Solicitudes HTTP en ejecución sobre hilos virtuales")
+                    .register(meterRegistry);
+
+            FilterRegistrationBean<LimiteConcurrenciaFilter> registro = new FilterRegistrationBean<>(filtro);
+            registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            registro.addUrlPatterns("/api/*");
+            return registro;
+        }
+    }
+}
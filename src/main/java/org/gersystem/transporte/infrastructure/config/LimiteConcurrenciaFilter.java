@@ -0,0 +1,66 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita las solicitudes que se procesan a la vez cuando cada solicitud tiene su propio hilo virtual.
+ * Sin este límite miles de hilos quedarían bloqueados esperando una conexión de Hikari y
+ * terminarían fallando por timeout; con él, el exceso espera poco y se rechaza con 503.
+ */
+public class LimiteConcurrenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimiteConcurrenciaFilter.class);
+
+    private final Semaphore permisos;
+    private final int maxSolicitudes;
+    private final long esperaMaximaMs;
+
+    public LimiteConcurrenciaFilter(int maxSolicitudes, long esperaMaximaMs) {
+        this.permisos = new Semaphore(maxSolicitudes, true);
+        this.maxSolicitudes = maxSolicitudes;
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean adquirido;
+        try {
+            adquirido = permisos.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirido = false;
+        }
+
+        if (!adquirido) {
+            logger.warn("Solicitud rechazada por saturación: {} {}", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"status\":503,\"error\":\"Service Unavailable\","
+                    + "\"message\":\"Servicio saturado, intente nuevamente\",\"path\":\"" + request.getRequestURI() + "\"}");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permisos.release();
+        }
+    }
+
+    public int getSolicitudesEnCurso() {
+        return maxSolicitudes - permisos.availablePermits();
+    }
+}
@@ -0,0 +1,119 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
+import org.gersystem.transporte.infrastructure.security.LimitadorTasa;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita la tasa de solicitudes por usuario autenticado o, si no lo hay, por IP del cliente.
+ * Se aplica la primera regla cuyo patrón coincide con la ruta; cada regla tiene sus propias
+ * cubetas, así que agotar el límite de una ruta no afecta a las demás.
+ *
+ * Debe ejecutarse después de {@code JwtAuthenticationFilter} para conocer al usuario. Detrás de
+ * un proxy la IP es la de {@code X-Forwarded-For} solo si {@code server.forward-headers-strategy}
+ * está configurado; si no, todos los clientes anónimos comparten la cubeta del proxy.
+ */
+public class LimiteTasaFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimiteTasaFilter.class);
+    private static final AntPathMatcher RUTAS = new AntPathMatcher();
+
+    private final List<Regla> reglas;
+    private final List<Counter> rechazos;
+    private final ObjectMapper objectMapper;
+
+    public LimiteTasaFilter(List<Regla> reglas, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.reglas = List.copyOf(reglas);
+        this.objectMapper = objectMapper;
+        this.rechazos = new ArrayList<>(reglas.size());
+        for (Regla regla : reglas) {
+            rechazos.add(Counter.builder("transporte.limite_tasa.rechazos")
+                    .description("Solicitudes rechazadas por exceder el límite de tasa")
+                    .tag("regla", regla.getNombre())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        for (int i = 0; i < reglas.size(); i++) {
+            Regla regla = reglas.get(i);
+            if (!RUTAS.match(regla.getPatron(), ruta)) {
+                continue;
+            }
+            long esperaNanos = regla.getLimitador().intentar(clave(request));
+            if (esperaNanos > 0) {
+                rechazos.get(i).increment();
+                rechazar(request, response, esperaNanos);
+                return;
+            }
+            break;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Identificador del cliente: el id del usuario autenticado o el hash de su IP,
+     * distinguidos por el bit menos significativo.
+     */
+    private long clave(HttpServletRequest request) {
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacion != null && autenticacion.getPrincipal() instanceof Usuario usuario && usuario.getId() != null) {
+            return usuario.getId() << 1;
+        }
+        return ((long) request.getRemoteAddr().hashCode() << 1) | 1;
+    }
+
+    private void rechazar(HttpServletRequest request, HttpServletResponse response, long esperaNanos) throws IOException {
+        long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        logger.warn("Solicitud rechazada por límite de tasa: {} {} desde {}",
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .code("RATE_LIMIT_EXCEEDED")
+                .message("Límite de solicitudes excedido, intente nuevamente")
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Regla {
+        private final String nombre;
+        private final String patron;
+        private final LimitadorTasa limitador;
+    }
+}
@@ -1,10 +1,13 @@
 package org.gersystem.transporte.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ErrorResponseDTO;
 import org.gersystem.transporte.infrastructure.security.JwtAuthenticationFilter;
+import org.gersystem.transporte.infrastructure.security.LimitadorTasa;
 import org.gersystem.transporte.infrastructure.security.SecurityExceptionLogger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,7 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -32,6 +36,31 @@ public class SecurityConfig {
     private final AuthenticationProvider authenticationProvider;
     private final ObjectMapper objectMapper;
     private final SecurityExceptionLogger securityExceptionLogger;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transporte.limite-tasa.habilitado:true}")
+    private boolean limiteTasaHabilitado;
+
+    @Value("${transporte.limite-tasa.ranuras:65536}")
+    private int ranurasLimiteTasa;
+
+    @Value("${transporte.limite-tasa.login.capacidad:100}")
+    private int loginCapacidad;
+
+    @Value("${transporte.limite-tasa.login.por-minuto:300}")
+    private int loginPorMinuto;
+
+    @Value("${transporte.limite-tasa.pedidos.capacidad:100}")
+    private int pedidosCapacidad;
+
+    @Value("${transporte.limite-tasa.pedidos.por-minuto:600}")
+    private int pedidosPorMinuto;
+
+    @Value("${transporte.limite-tasa.general.capacidad:300}")
+    private int generalCapacidad;
+
+    @Value("${transporte.limite-tasa.general.por-minuto:3000}")
+    private int generalPorMinuto;
 
     private static final String[] AUTH_WHITELIST = {
         "/api/v1/auth/**",
@@ -59,6 +88,7 @@ public class SecurityConfig {
             .and()
             .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(limiteTasaFilter(), JwtAuthenticationFilter.class)
             .exceptionHandling()
                 .authenticationEntryPoint(authenticationEntryPoint())
                 .accessDeniedHandler(accessDeniedHandler());
@@ -66,6 +96,25 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Reglas de límite de tasa, de la más específica a la más general; cada solicitud
+     * consume solo de la primera que coincide. La regla de login es por IP y solo frena
+     * avalanchas; los intentos por cuenta los limita {@code LimiteIntentosLogin}.
+     */
+    private LimiteTasaFilter limiteTasaFilter() {
+        if (!limiteTasaHabilitado) {
+            return new LimiteTasaFilter(List.of(), meterRegistry, objectMapper);
+        }
+        return new LimiteTasaFilter(List.of(
+                new LimiteTasaFilter.Regla("login", "/api/v1/auth/login",
+                        new LimitadorTasa(loginCapacidad, loginPorMinuto, ranurasLimiteTasa)),
+                new LimiteTasaFilter.Regla("pedidos", "/api/v1/pedidos/**",
+                        new LimitadorTasa(pedidosCapacidad, pedidosPorMinuto, ranurasLimiteTasa)),
+                new LimiteTasaFilter.Regla("api", "/api/**",
+                        new LimitadorTasa(generalCapacidad, generalPorMinuto, ranurasLimiteTasa))
+        ), meterRegistry, objectMapper);
+    }
+
     @Bean
     public AuthenticationEntryPoint authenticationEntryPoint() {
         return (request, response, authException) -> {
@@ -0,0 +1,65 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos de respuesta negociados con el encabezado {@code Accept}: JSON por defecto, y Smile
+ * ({@code application/x-jackson-smile}) o CBOR ({@code application/cbor}) para clientes que
+ * prefieren un formato binario más compacto. Los tres usan la configuración de Jackson de la
+ * aplicación, de modo que producen los mismos campos y fechas.
+ */
+@Configuration
+public class SerializacionConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public SerializacionConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Reemplaza cada convertidor de Jackson por su versión medida, en la misma posición para
+     * no alterar la precedencia frente a los demás convertidores.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof AbstractJackson2HttpMessageConverter jackson) {
+                converters.set(i, new ConvertidorJacksonMedido(jackson, formato(jackson), meterRegistry));
+            }
+        }
+    }
+
+    private static String formato(AbstractJackson2HttpMessageConverter converter) {
+        if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+            return "smile";
+        }
+        if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+            return "cbor";
+        }
+        return converter instanceof MappingJackson2HttpMessageConverter ? "json" : converter.getClass().getSimpleName();
+    }
+}
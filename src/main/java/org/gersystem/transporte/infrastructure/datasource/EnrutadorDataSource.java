@@ -0,0 +1,42 @@
+package org.gersystem.transporte.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Envía las transacciones de solo lectura a la réplica y el resto a la base primaria.
+ * Si la réplica está atrasada o no responde, las lecturas vuelven a la primaria.
+ *
+ * Debe envolverse en un {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * para que la conexión se pida cuando la transacción ya está marcada como de solo lectura.
+ */
+public class EnrutadorDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino {
+        PRIMARIA,
+        REPLICA
+    }
+
+    private final MonitorReplica monitorReplica;
+
+    public EnrutadorDataSource(DataSource primaria, DataSource replica, MonitorReplica monitorReplica) {
+        this.monitorReplica = monitorReplica;
+        setTargetDataSources(Map.of(Destino.PRIMARIA, primaria, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primaria);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return destinoActual();
+    }
+
+    public Destino destinoActual() {
+        boolean soloLectura = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return soloLectura && monitorReplica.isDisponible() ? Destino.REPLICA : Destino.PRIMARIA;
+    }
+}
@@ -0,0 +1,107 @@
+package org.gersystem.transporte.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Mide el retraso de la réplica mediante un latido: cada verificación escribe la hora actual
+ * en la tabla {@code replica_latido} de la primaria y compara la última marca de la primaria
+ * con la que ya llegó a la réplica. Si el retraso supera el máximo o la réplica no responde,
+ * la réplica deja de recibir lecturas hasta la siguiente verificación correcta.
+ */
+public class MonitorReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorReplica.class);
+
+    private static final String CONSULTAR_LATIDO = "SELECT marca FROM replica_latido WHERE id = 1";
+    private static final String ACTUALIZAR_LATIDO = "UPDATE replica_latido SET marca = ? WHERE id = 1";
+    private static final String INSERTAR_LATIDO = "INSERT INTO replica_latido (id, marca) VALUES (1, ?)";
+
+    private final JdbcTemplate primaria;
+    private final JdbcTemplate replica;
+    private final Duration retrasoMaximo;
+    private final Clock reloj;
+
+    private volatile boolean disponible;
+    private volatile long retrasoMs = -1;
+
+    public MonitorReplica(DataSource primaria, DataSource replica, Duration retrasoMaximo, Clock reloj) {
+        this.primaria = new JdbcTemplate(primaria);
+        this.replica = new JdbcTemplate(replica);
+        this.retrasoMaximo = retrasoMaximo;
+        this.reloj = reloj;
+    }
+
+    @Scheduled(fixedDelayString = "${transporte.datasource.replica.intervalo-verificacion-ms:5000}")
+    public void verificar() {
+        Timestamp marcaPrimaria;
+        try {
+            marcaPrimaria = leerLatido(primaria);
+            registrarLatido(new Timestamp(reloj.millis()));
+        } catch (DataAccessException e) {
+            logger.warn("No se pudo registrar el latido en la base primaria: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            Timestamp marcaReplica = leerLatido(replica);
+            if (marcaPrimaria == null) {
+                actualizarEstado(0);
+            } else if (marcaReplica == null) {
+                marcarNoDisponible("la réplica todavía no recibió ningún latido");
+            } else {
+                actualizarEstado(Math.max(0, marcaPrimaria.getTime() - marcaReplica.getTime()));
+            }
+        } catch (DataAccessException e) {
+            marcarNoDisponible(e.getMessage());
+        }
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    /**
+     * Último retraso medido en milisegundos, o -1 si la réplica no respondió.
+     */
+    public long getRetrasoMs() {
+        return retrasoMs;
+    }
+
+    private void actualizarEstado(long retraso) {
+        boolean estabaDisponible = disponible;
+        retrasoMs = retraso;
+        disponible = retraso <= retrasoMaximo.toMillis();
+        if (estabaDisponible != disponible) {
+            logger.info("Réplica {} para lecturas (retraso {} ms)", disponible ? "habilitada" : "deshabilitada", retraso);
+        }
+    }
+
+    private void marcarNoDisponible(String motivo) {
+        if (disponible) {
+            logger.warn("Réplica deshabilitada para lecturas: {}", motivo);
+        }
+        retrasoMs = -1;
+        disponible = false;
+    }
+
+    private Timestamp leerLatido(JdbcTemplate jdbcTemplate) {
+        List<Timestamp> marcas = jdbcTemplate.queryForList(CONSULTAR_LATIDO, Timestamp.class);
+        return marcas.isEmpty() ? null : marcas.get(0);
+    }
+
+    private void registrarLatido(Timestamp marca) {
+        if (primaria.update(ACTUALIZAR_LATIDO, marca) == 0) {
+            primaria.update(INSERTAR_LATIDO, marca);
+        }
+    }
+}
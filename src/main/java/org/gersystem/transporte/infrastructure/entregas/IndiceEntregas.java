@@ -0,0 +1,183 @@
+package org.gersystem.transporte.infrastructure.entregas;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pedidos en curso agrupados por conductor, con una versión por cambio para que cada cliente
+ * descargue solo lo que cambió desde su última consulta.
+ *
+ * Cada alta, modificación o retiro recibe una versión creciente. Los retiros se conservan como
+ * marcas hasta {@code maxRetirosPorConductor}; un cliente cuya versión es anterior a la marca
+ * más antigua ya descartada recibe la lista completa. Las versiones parten del instante de
+ * creación del índice, de modo que una versión obtenida antes de un reinicio también provoca
+ * una lista completa.
+ *
+ * Las lecturas solo bloquean al conductor consultado; las escrituras se serializan entre sí.
+ */
+public class IndiceEntregas<T> {
+
+    private final int maxRetirosPorConductor;
+    private final long base;
+    private long version;
+
+    private final Map<Long, Bandeja<T>> bandejas = new ConcurrentHashMap<>();
+    private final Map<Long, Long> conductorPorPedido = new ConcurrentHashMap<>();
+
+    public IndiceEntregas(int maxRetirosPorConductor) {
+        this(maxRetirosPorConductor, System.currentTimeMillis() * 1000);
+    }
+
+    IndiceEntregas(int maxRetirosPorConductor, long base) {
+        this.maxRetirosPorConductor = maxRetirosPorConductor;
+        this.base = base;
+        this.version = base;
+    }
+
+    /**
+     * Agrega o reemplaza el pedido en la bandeja del conductor; si estaba asignado a otro
+     * conductor, se retira de la bandeja anterior.
+     */
+    public synchronized void actualizar(Long pedidoId, Long conductorId, T valor) {
+        Long anterior = conductorPorPedido.put(pedidoId, conductorId);
+        if (anterior != null && !anterior.equals(conductorId)) {
+            bandejas.get(anterior).retirar(pedidoId, ++version, maxRetirosPorConductor);
+        }
+        bandejas.computeIfAbsent(conductorId, id -> new Bandeja<>(base)).poner(pedidoId, valor, ++version);
+    }
+
+    /**
+     * Quita el pedido de su bandeja, si estaba en alguna.
+     */
+    public synchronized void retirar(Long pedidoId) {
+        Long conductorId = conductorPorPedido.remove(pedidoId);
+        if (conductorId != null) {
+            bandejas.get(conductorId).retirar(pedidoId, ++version, maxRetirosPorConductor);
+        }
+    }
+
+    public synchronized void limpiar() {
+        bandejas.clear();
+        conductorPorPedido.clear();
+    }
+
+    public int tamano() {
+        return conductorPorPedido.size();
+    }
+
+    /**
+     * Cambios de la bandeja del conductor posteriores a {@code desde}. Sin versión, o con una que
+     * ya no se puede responder con cambios, devuelve la lista completa.
+     */
+    public Cambios<T> cambiosDesde(Long conductorId, Long desde) {
+        Bandeja<T> bandeja = bandejas.get(conductorId);
+        if (bandeja == null) {
+            return new Cambios<>(base, desde == null || desde < base, List.of(), List.of());
+        }
+        return bandeja.cambiosDesde(desde);
+    }
+
+    public static final class Cambios<T> {
+        private final long version;
+        private final boolean completo;
+        private final List<T> vigentes;
+        private final List<Long> retirados;
+
+        Cambios(long version, boolean completo, List<T> vigentes, List<Long> retirados) {
+            this.version = version;
+            this.completo = completo;
+            this.vigentes = vigentes;
+            this.retirados = retirados;
+        }
+
+        /** Versión a enviar en la próxima consulta. */
+        public long getVersion() {
+            return version;
+        }
+
+        /** {@code true} si {@link #getVigentes()} reemplaza todo lo que el cliente tenía. */
+        public boolean isCompleto() {
+            return completo;
+        }
+
+        public List<T> getVigentes() {
+            return vigentes;
+        }
+
+        public List<Long> getRetirados() {
+            return retirados;
+        }
+    }
+
+    private static final class Bandeja<T> {
+        private final Map<Long, Registro<T>> vigentes = new HashMap<>();
+        // En orden de versión: el primero es siempre el más antiguo
+        private final LinkedHashMap<Long, Long> retiros = new LinkedHashMap<>();
+        private long horizonte;
+        private long ultimaVersion;
+
+        Bandeja(long base) {
+            this.horizonte = base;
+            this.ultimaVersion = base;
+        }
+
+        synchronized void poner(Long pedidoId, T valor, long version) {
+            retiros.remove(pedidoId);
+            vigentes.put(pedidoId, new Registro<>(pedidoId, valor, version));
+            ultimaVersion = version;
+        }
+
+        synchronized void retirar(Long pedidoId, long version, int maxRetiros) {
+            if (vigentes.remove(pedidoId) == null) {
+                return;
+            }
+            retiros.put(pedidoId, version);
+            ultimaVersion = version;
+            Iterator<Long> antiguos = retiros.values().iterator();
+            while (retiros.size() > maxRetiros) {
+                horizonte = antiguos.next();
+                antiguos.remove();
+            }
+        }
+
+        synchronized Cambios<T> cambiosDesde(Long desde) {
+            boolean completo = desde == null || desde < horizonte;
+            List<Registro<T>> cambiados = new ArrayList<>();
+            for (Registro<T> registro : vigentes.values()) {
+                if (completo || registro.version > desde) {
+                    cambiados.add(registro);
+                }
+            }
+            cambiados.sort((a, b) -> Long.compare(a.pedidoId, b.pedidoId));
+            List<T> valores = new ArrayList<>(cambiados.size());
+            cambiados.forEach(registro -> valores.add(registro.valor));
+
+            List<Long> retirados = new ArrayList<>();
+            if (!completo) {
+                retiros.forEach((pedidoId, version) -> {
+                    if (version > desde) {
+                        retirados.add(pedidoId);
+                    }
+                });
+            }
+            return new Cambios<>(ultimaVersion, completo, valores, retirados);
+        }
+    }
+
+    private static final class Registro<T> {
+        private final Long pedidoId;
+        private final T valor;
+        private final long version;
+
+        Registro(Long pedidoId, T valor, long version) {
+            this.pedidoId = pedidoId;
+            this.valor = valor;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.gersystem.transporte.infrastructure.eventos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ServicioSaturadoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reparte eventos a los suscriptores SSE. Cada evento se serializa una sola vez y se encola en
+ * una cola acotada por suscriptor; quien publica nunca espera a la red.
+ *
+ * Cada suscriptor se vacía en su propio hilo virtual, uno a la vez, así que un navegador lento
+ * solo retrasa su propia cola. Cuando esa cola se llena se aplica la {@link PoliticaDesborde}
+ * configurada.
+ */
+@Component
+public class DifusorEventos implements AutoCloseable {
+
+    /**
+     * Qué hacer con un suscriptor cuya cola está llena.
+     */
+    public enum PoliticaDesborde {
+        /** Descarta el evento más antiguo de la cola para hacer lugar. */
+        DESCARTAR_ANTIGUOS,
+        /** Cierra la conexión; el cliente debe reconectarse y volver a consultar el estado. */
+        DESCONECTAR
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(DifusorEventos.class);
+
+    private final ObjectMapper objectMapper;
+    private final int capacidadCola;
+    private final int maxSuscriptores;
+    private final long timeoutMs;
+    private final PoliticaDesborde politica;
+
+    private final Set<Suscriptor> suscriptores = ConcurrentHashMap.newKeySet();
+    /** Lugares reservados; se reserva antes de registrar para no superar el máximo con conexiones simultáneas. */
+    private final AtomicInteger lugares = new AtomicInteger();
+    private final AtomicLong secuencia = new AtomicLong();
+    private final ExecutorService envios = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-", 0).factory());
+    private final Counter descartados;
+    private final Counter desconectados;
+
+    public DifusorEventos(ObjectMapper objectMapper,
+                          @Value("${transporte.eventos.capacidad-cola:256}") int capacidadCola,
+                          @Value("${transporte.eventos.max-suscriptores:500}") int maxSuscriptores,
+                          @Value("${transporte.eventos.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${transporte.eventos.politica-desborde:DESCARTAR_ANTIGUOS}") PoliticaDesborde politica,
+                          MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.capacidadCola = capacidadCola;
+        this.maxSuscriptores = maxSuscriptores;
+        this.timeoutMs = timeoutMs;
+        this.politica = politica;
+
+        Gauge.builder("transporte.eventos.suscriptores", suscriptores, Set::size)
+                .description("Conexiones SSE abiertas")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("transporte.eventos.descartados")
+                .description("Eventos descartados por colas llenas")
+                .register(meterRegistry);
+        this.desconectados = Counter.builder("transporte.eventos.desconectados")
+                .description("Suscriptores desconectados por no consumir a tiempo")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter suscribir() {
+        int ocupados;
+        do {
+            ocupados = lugares.get();
+            if (ocupados >= maxSuscriptores) {
+                throw new ServicioSaturadoException("Se alcanzó el máximo de suscriptores de eventos, intente más tarde");
+            }
+        } while (!lugares.compareAndSet(ocupados, ocupados + 1));
+
+        SseEmitter emitter;
+        try {
+            emitter = crearEmitter(timeoutMs);
+        } catch (RuntimeException e) {
+            lugares.decrementAndGet();
+            throw e;
+        }
+        Suscriptor suscriptor = new Suscriptor(emitter, capacidadCola);
+        emitter.onCompletion(() -> retirar(suscriptor));
+        emitter.onTimeout(() -> cerrar(suscriptor));
+        emitter.onError(error -> cerrar(suscriptor));
+        suscriptores.add(suscriptor);
+        return emitter;
+    }
+
+    /**
+     * Encola el evento para todos los suscriptores. No bloquea.
+     */
+    public void publicar(String nombre, Object datos) {
+        if (suscriptores.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(datos);
+        } catch (JsonProcessingException e) {
+            logger.error("No se pudo serializar el evento {}", nombre, e);
+            return;
+        }
+        Mensaje mensaje = new Mensaje(secuencia.incrementAndGet(), nombre, json);
+        for (Suscriptor suscriptor : suscriptores) {
+            encolar(suscriptor, mensaje);
+        }
+    }
+
+    /**
+     * Comentario periódico para que proxies y navegadores no cierren conexiones inactivas y
+     * para detectar las que ya se cerraron del otro lado. Si la cola está llena no hace falta.
+     */
+    @Scheduled(fixedDelayString = "${transporte.eventos.latido-ms:15000}")
+    public void enviarLatido() {
+        for (Suscriptor suscriptor : suscriptores) {
+            if (suscriptor.cola.offer(Mensaje.LATIDO)) {
+                programar(suscriptor);
+            }
+        }
+    }
+
+    public int getCantidadSuscriptores() {
+        return suscriptores.size();
+    }
+
+    SseEmitter crearEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void encolar(Suscriptor suscriptor, Mensaje mensaje) {
+        while (!suscriptor.cola.offer(mensaje)) {
+            if (politica == PoliticaDesborde.DESCONECTAR) {
+                desconectados.increment();
+                logger.warn("Suscriptor SSE desconectado: {} eventos pendientes", suscriptor.cola.size());
+                cerrar(suscriptor);
+                return;
+            }
+            if (suscriptor.cola.poll() != null) {
+                descartados.increment();
+            }
+        }
+        programar(suscriptor);
+    }
+
+    private void programar(Suscriptor suscriptor) {
+        if (suscriptor.enviando.compareAndSet(false, true)) {
+            envios.execute(() -> vaciar(suscriptor));
+        }
+    }
+
+    private void vaciar(Suscriptor suscriptor) {
+        do {
+            Mensaje mensaje;
+            while (!suscriptor.cerrado && (mensaje = suscriptor.cola.poll()) != null) {
+                try {
+                    suscriptor.emitter.send(mensaje == Mensaje.LATIDO
+                            ? SseEmitter.event().comment("latido")
+                            : SseEmitter.event().id(Long.toString(mensaje.id)).name(mensaje.nombre)
+                                    .data(mensaje.json, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    // El cliente se fue; Spring completa el emitter y lo retira
+                    cerrar(suscriptor);
+                    return;
+                }
+            }
+            suscriptor.enviando.set(false);
+            // Un evento encolado justo antes de liberar la marca no programó otro envío
+        } while (!suscriptor.cerrado && !suscriptor.cola.isEmpty() && suscriptor.enviando.compareAndSet(false, true));
+    }
+
+    private void cerrar(Suscriptor suscriptor) {
+        suscriptor.cerrado = true;
+        suscriptor.cola.clear();
+        if (retirar(suscriptor)) {
+            suscriptor.emitter.complete();
+        }
+    }
+
+    /**
+     * Quita al suscriptor y libera su lugar; solo la primera llamada tiene efecto.
+     */
+    private boolean retirar(Suscriptor suscriptor) {
+        if (suscriptores.remove(suscriptor)) {
+            lugares.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        suscriptores.forEach(this::cerrar);
+        envios.shutdown();
+    }
+
+    private static final class Suscriptor {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Mensaje> cola;
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private volatile boolean cerrado;
+
+        Suscriptor(SseEmitter emitter, int capacidad) {
+            this.emitter = emitter;
+            this.cola = new ArrayBlockingQueue<>(capacidad);
+        }
+    }
+
+    private static final class Mensaje {
+        static final Mensaje LATIDO = new Mensaje(0, null, null);
+
+        private final long id;
+        private final String nombre;
+        private final String json;
+
+        Mensaje(long id, String nombre, String json) {
+            this.id = id;
+            this.nombre = nombre;
+            this.json = json;
+        }
+    }
+}
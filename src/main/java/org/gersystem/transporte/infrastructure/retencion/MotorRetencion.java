@@ -0,0 +1,112 @@
+package org.gersystem.transporte.infrastructure.retencion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.model.ProgresoRetencion.Entidad;
+import org.gersystem.transporte.domain.service.RetencionDomainService;
+import org.gersystem.transporte.domain.service.RetencionDomainService.Tramo;
+import org.gersystem.transporte.infrastructure.auditoria.ParticionesAuditoria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Purga periódica de datos vencidos: tokens de renovación expirados, mantenimientos cancelados,
+ * vehículos dados de baja sin historial y registros de auditoría antiguos.
+ *
+ * Cada tipo se elimina por tramos cortos, con una pausa entre tramos para no retener bloqueos
+ * sobre tablas con escrituras frecuentes. El avance de cada tipo queda guardado, así que una
+ * pasada interrumpida por un reinicio continúa en la siguiente ejecución. Un tipo con días
+ * negativos no se purga. La pasada completa ocupa un hilo del planificador, que
+ * {@code spring.task.scheduling.pool.size} reserva junto a los de las demás tareas.
+ */
+@Component
+public class MotorRetencion {
+
+    private static final Logger logger = LoggerFactory.getLogger(MotorRetencion.class);
+
+    private final RetencionDomainService retencionDomainService;
+    private final ParticionesAuditoria particionesAuditoria;
+    private final int tamanoTramo;
+    private final long pausaMs;
+    private final Map<Entidad, Integer> dias = new EnumMap<>(Entidad.class);
+    private final Map<Entidad, Counter> eliminados = new EnumMap<>(Entidad.class);
+
+    public MotorRetencion(RetencionDomainService retencionDomainService,
+                          ParticionesAuditoria particionesAuditoria,
+                          @Value("${transporte.retencion.tamano-tramo:500}") int tamanoTramo,
+                          @Value("${transporte.retencion.pausa-ms:500}") long pausaMs,
+                          @Value("${transporte.retencion.refresh-tokens.dias:0}") int diasRefreshTokens,
+                          @Value("${transporte.retencion.mantenimientos-cancelados.dias:90}") int diasMantenimientos,
+                          @Value("${transporte.retencion.vehiculos-inactivos.dias:365}") int diasVehiculos,
+                          @Value("${transporte.retencion.auditoria.dias:730}") int diasAuditoria,
+                          MeterRegistry meterRegistry) {
+        this.retencionDomainService = retencionDomainService;
+        this.particionesAuditoria = particionesAuditoria;
+        this.tamanoTramo = tamanoTramo;
+        this.pausaMs = pausaMs;
+        dias.put(Entidad.REFRESH_TOKEN, diasRefreshTokens);
+        dias.put(Entidad.MANTENIMIENTO_CANCELADO, diasMantenimientos);
+        dias.put(Entidad.VEHICULO_INACTIVO, diasVehiculos);
+        dias.put(Entidad.AUDITORIA, diasAuditoria);
+        for (Entidad entidad : Entidad.values()) {
+            eliminados.put(entidad, Counter.builder("transporte.retencion.eliminados")
+                    .tag("entidad", entidad.name().toLowerCase())
+                    .description("Filas eliminadas por la política de retención")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Recorre los tipos en orden: los mantenimientos cancelados se eliminan antes que los
+     * vehículos, para que un vehículo dado de baja que solo tenía cancelados quede libre. Una
+     * falla en un tipo no impide purgar los siguientes.
+     */
+    @Scheduled(cron = "${transporte.retencion.cron:0 30 3 * * *}")
+    public void purgar() throws InterruptedException {
+        for (Entidad entidad : Entidad.values()) {
+            int retencion = dias.get(entidad);
+            if (retencion < 0) {
+                continue;
+            }
+            try {
+                purgar(entidad, retencion);
+            } catch (RuntimeException e) {
+                // El tramo fallido se revirtió junto con su avance; se reintenta en la próxima ejecución
+                // y los tipos siguientes se purgan igual
+                logger.error("Falló la purga de {}; se reintentará en la próxima ejecución", entidad, e);
+            }
+        }
+    }
+
+    /**
+     * Completa la pasada en curso del tipo indicado, o una nueva si no había ninguna.
+     *
+     * @return filas eliminadas
+     */
+    public long purgar(Entidad entidad, int retencion) throws InterruptedException {
+        if (entidad == Entidad.AUDITORIA) {
+            particionesAuditoria.eliminarAnteriores(LocalDateTime.now().minusDays(retencion));
+        }
+        long total = 0;
+        Tramo tramo;
+        do {
+            tramo = retencionDomainService.purgarTramo(entidad, retencion, tamanoTramo);
+            total += tramo.getEliminados();
+            eliminados.get(entidad).increment(tramo.getEliminados());
+            if (!tramo.isTerminado()) {
+                Thread.sleep(pausaMs);
+            }
+        } while (!tramo.isTerminado());
+        if (total > 0) {
+            logger.info("Retención de {}: se eliminaron {} filas", entidad, total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,309 @@
+package org.gersystem.transporte.infrastructure.routing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Grafo dirigido e inmutable de rutas activas en formato CSR (arreglos primitivos de adyacencia).
+ *
+ * - Cada punto tiene un índice estable asignado por {@link RegistroPuntos}.
+ * - Las aristas de un punto ocupan el rango {@code [inicio[p], inicio[p + 1])} de los arreglos.
+ * - El camino más corto se calcula con Dijkstra sobre un montículo indexado de primitivos,
+ *   terminando en cuanto se extrae el destino.
+ *
+ * Las rutas no guardan coordenadas, por lo que no hay heurística admisible para A*.
+ */
+public final class GrafoRutas {
+
+    public enum Criterio {
+        DISTANCIA,
+        TIEMPO
+    }
+
+    private static final int MAXIMO_ESPACIOS_LIBRES = 64;
+
+    private final int cantidadPuntos;
+    private final int[] inicio;
+    private final int[] destinos;
+    private final double[] distancias;
+    private final int[] tiempos;
+    private final Arista[] aristas;
+
+    private final ConcurrentLinkedQueue<EspacioBusqueda> espaciosLibres = new ConcurrentLinkedQueue<>();
+
+    private GrafoRutas(int cantidadPuntos, int[] inicio, Arista[] aristas) {
+        this.cantidadPuntos = cantidadPuntos;
+        this.inicio = inicio;
+        this.aristas = aristas;
+        this.destinos = new int[aristas.length];
+        this.distancias = new double[aristas.length];
+        this.tiempos = new int[aristas.length];
+        for (int i = 0; i < aristas.length; i++) {
+            destinos[i] = aristas[i].getDestino();
+            distancias[i] = aristas[i].getDistanciaKm();
+            tiempos[i] = aristas[i].getTiempoMinutos();
+        }
+    }
+
+    /**
+     * Construye el grafo a partir de las aristas activas; {@code cantidadPuntos} debe cubrir
+     * todos los índices de origen y destino usados.
+     */
+    public static GrafoRutas construir(int cantidadPuntos, Collection<Arista> aristasActivas) {
+        int[] inicio = new int[cantidadPuntos + 1];
+        for (Arista arista : aristasActivas) {
+            inicio[arista.getOrigen() + 1]++;
+        }
+        for (int p = 0; p < cantidadPuntos; p++) {
+            inicio[p + 1] += inicio[p];
+        }
+
+        Arista[] ordenadas = new Arista[aristasActivas.size()];
+        int[] siguiente = new int[cantidadPuntos];
+        System.arraycopy(inicio, 0, siguiente, 0, cantidadPuntos);
+        for (Arista arista : aristasActivas) {
+            ordenadas[siguiente[arista.getOrigen()]++] = arista;
+        }
+        return new GrafoRutas(cantidadPuntos, inicio, ordenadas);
+    }
+
+    public int getCantidadPuntos() {
+        return cantidadPuntos;
+    }
+
+    public int getCantidadAristas() {
+        return aristas.length;
+    }
+
+    /**
+     * Camino de menor costo entre dos puntos, o {@code null} si el destino no es alcanzable.
+     */
+    public Camino caminoMasCorto(int origen, int destino, Criterio criterio) {
+        if (origen < 0 || origen >= cantidadPuntos || destino < 0 || destino >= cantidadPuntos) {
+            return null;
+        }
+        if (origen == destino) {
+            return new Camino(0, 0, Collections.emptyList());
+        }
+
+        EspacioBusqueda espacio = obtenerEspacio();
+        try {
+            return explorar(espacio, origen, destino, criterio) ? reconstruir(espacio, destino) : null;
+        } finally {
+            liberarEspacio(espacio);
+        }
+    }
+
+    /**
+     * Costo mínimo desde el origen hacia cada punto del grafo según el criterio; los puntos no
+     * alcanzables quedan en {@link Double#POSITIVE_INFINITY}.
+     */
+    public double[] costosDesde(int origen, Criterio criterio) {
+        double[] resultado = new double[cantidadPuntos];
+        Arrays.fill(resultado, Double.POSITIVE_INFINITY);
+        if (origen < 0 || origen >= cantidadPuntos) {
+            return resultado;
+        }
+
+        EspacioBusqueda espacio = obtenerEspacio();
+        try {
+            explorar(espacio, origen, -1, criterio);
+            for (int p = 0; p < cantidadPuntos; p++) {
+                if (espacio.alcanzado(p)) {
+                    resultado[p] = espacio.costo(p);
+                }
+            }
+            return resultado;
+        } finally {
+            liberarEspacio(espacio);
+        }
+    }
+
+    /**
+     * Dijkstra desde el origen; con {@code destino} negativo recorre todo lo alcanzable.
+     * Devuelve {@code true} si se extrajo el destino.
+     */
+    private boolean explorar(EspacioBusqueda espacio, int origen, int destino, Criterio criterio) {
+        espacio.iniciar();
+        espacio.mejorar(origen, 0, -1);
+        while (!espacio.vacio()) {
+            int punto = espacio.extraerMinimo();
+            if (punto == destino) {
+                return true;
+            }
+            double costoActual = espacio.costo(punto);
+            for (int a = inicio[punto]; a < inicio[punto + 1]; a++) {
+                double peso = criterio == Criterio.DISTANCIA ? distancias[a] : tiempos[a];
+                espacio.mejorar(destinos[a], costoActual + peso, a);
+            }
+        }
+        return false;
+    }
+
+    private Camino reconstruir(EspacioBusqueda espacio, int destino) {
+        List<Arista> tramos = new ArrayList<>();
+        double distanciaTotal = 0;
+        int tiempoTotal = 0;
+        for (int a = espacio.aristaPrevia(destino); a >= 0; a = espacio.aristaPrevia(aristas[a].getOrigen())) {
+            tramos.add(aristas[a]);
+            distanciaTotal += distancias[a];
+            tiempoTotal += tiempos[a];
+        }
+        Collections.reverse(tramos);
+        return new Camino(distanciaTotal, tiempoTotal, tramos);
+    }
+
+    private EspacioBusqueda obtenerEspacio() {
+        EspacioBusqueda espacio = espaciosLibres.poll();
+        return espacio != null ? espacio : new EspacioBusqueda(cantidadPuntos);
+    }
+
+    private void liberarEspacio(EspacioBusqueda espacio) {
+        if (espaciosLibres.size() < MAXIMO_ESPACIOS_LIBRES) {
+            espaciosLibres.offer(espacio);
+        }
+    }
+
+    /**
+     * Arista dirigida correspondiente a una ruta activa.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Arista {
+        private final long rutaId;
+        private final String nombre;
+        private final int origen;
+        private final int destino;
+        private final double distanciaKm;
+        private final int tiempoMinutos;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Camino {
+        private final double distanciaKm;
+        private final int tiempoMinutos;
+        private final List<Arista> tramos;
+    }
+
+    /**
+     * Arreglos de trabajo de una búsqueda, reutilizados entre consultas. Una marca de
+     * generación evita reinicializarlos en cada búsqueda.
+     */
+    private static final class EspacioBusqueda {
+        private final double[] costos;
+        private final int[] aristaPrevia;
+        private final int[] generacion;
+        private final int[] posicionEnMonticulo;
+        private final int[] monticulo;
+        private int tamanoMonticulo;
+        private int generacionActual;
+
+        private EspacioBusqueda(int cantidadPuntos) {
+            costos = new double[cantidadPuntos];
+            aristaPrevia = new int[cantidadPuntos];
+            generacion = new int[cantidadPuntos];
+            posicionEnMonticulo = new int[cantidadPuntos];
+            monticulo = new int[cantidadPuntos];
+        }
+
+        private void iniciar() {
+            tamanoMonticulo = 0;
+            if (++generacionActual == Integer.MAX_VALUE) {
+                Arrays.fill(generacion, 0);
+                generacionActual = 1;
+            }
+        }
+
+        private boolean vacio() {
+            return tamanoMonticulo == 0;
+        }
+
+        private double costo(int punto) {
+            return costos[punto];
+        }
+
+        private boolean alcanzado(int punto) {
+            return generacion[punto] == generacionActual;
+        }
+
+        private int aristaPrevia(int punto) {
+            return aristaPrevia[punto];
+        }
+
+        /**
+         * Registra un costo para el punto si mejora el conocido; los puntos ya extraídos
+         * (posición -1) no se vuelven a abrir porque los pesos no son negativos.
+         */
+        private void mejorar(int punto, double costo, int arista) {
+            if (generacion[punto] != generacionActual) {
+                generacion[punto] = generacionActual;
+                costos[punto] = costo;
+                aristaPrevia[punto] = arista;
+                posicionEnMonticulo[punto] = tamanoMonticulo;
+                monticulo[tamanoMonticulo++] = punto;
+                subir(posicionEnMonticulo[punto]);
+            } else if (posicionEnMonticulo[punto] >= 0 && costo < costos[punto]) {
+                costos[punto] = costo;
+                aristaPrevia[punto] = arista;
+                subir(posicionEnMonticulo[punto]);
+            }
+        }
+
+        private int extraerMinimo() {
+            int minimo = monticulo[0];
+            posicionEnMonticulo[minimo] = -1;
+            tamanoMonticulo--;
+            if (tamanoMonticulo > 0) {
+                monticulo[0] = monticulo[tamanoMonticulo];
+                posicionEnMonticulo[monticulo[0]] = 0;
+                bajar(0);
+            }
+            return minimo;
+        }
+
+        private void subir(int posicion) {
+            int punto = monticulo[posicion];
+            while (posicion > 0) {
+                int padre = (posicion - 1) >>> 1;
+                if (costos[monticulo[padre]] <= costos[punto]) {
+                    break;
+                }
+                colocar(posicion, monticulo[padre]);
+                posicion = padre;
+            }
+            colocar(posicion, punto);
+        }
+
+        private void bajar(int posicion) {
+            int punto = monticulo[posicion];
+            while (true) {
+                int hijo = 2 * posicion + 1;
+                if (hijo >= tamanoMonticulo) {
+                    break;
+                }
+                if (hijo + 1 < tamanoMonticulo && costos[monticulo[hijo + 1]] < costos[monticulo[hijo]]) {
+                    hijo++;
+                }
+                if (costos[monticulo[hijo]] >= costos[punto]) {
+                    break;
+                }
+                colocar(posicion, monticulo[hijo]);
+                posicion = hijo;
+            }
+            colocar(posicion, punto);
+        }
+
+        private void colocar(int posicion, int punto) {
+            monticulo[posicion] = punto;
+            posicionEnMonticulo[punto] = posicion;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.gersystem.transporte.infrastructure.routing;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matriz precalculada de distancia y tiempo mínimos desde los puntos consultados con más
+ * frecuencia hacia todos los demás, asociada a una versión concreta del {@link GrafoRutas}.
+ *
+ * - Cada fila guarda arreglos primitivos indexados por el índice estable del punto destino.
+ * - Se conservan como máximo {@code maximoFilas} filas; por encima de ese límite las filas
+ *   se calculan para la consulta y no se guardan.
+ * - Al publicar un grafo nuevo solo se recalculan las filas cuyo árbol de caminos mínimos
+ *   puede verse afectado por las aristas agregadas o eliminadas.
+ */
+public final class MatrizRutas {
+
+    private final GrafoRutas grafo;
+    private final int maximoFilas;
+    private final Map<Integer, Fila> filas;
+
+    private MatrizRutas(GrafoRutas grafo, int maximoFilas, Map<Integer, Fila> filas) {
+        this.grafo = grafo;
+        this.maximoFilas = maximoFilas;
+        this.filas = filas;
+    }
+
+    public static MatrizRutas vacia(GrafoRutas grafo, int maximoFilas) {
+        return new MatrizRutas(grafo, maximoFilas, new ConcurrentHashMap<>());
+    }
+
+    public GrafoRutas getGrafo() {
+        return grafo;
+    }
+
+    public int getCantidadFilas() {
+        return filas.size();
+    }
+
+    /**
+     * Fila del origen indicado, calculándola y guardándola si aún no existe y hay lugar.
+     */
+    public Fila fila(int origen) {
+        Fila fila = filas.get(origen);
+        if (fila != null) {
+            return fila;
+        }
+        if (filas.size() >= maximoFilas) {
+            return calcular(grafo, origen);
+        }
+        return filas.computeIfAbsent(origen, o -> calcular(grafo, o));
+    }
+
+    /**
+     * Matriz para el grafo nuevo, reutilizando las filas que los cambios no pueden alterar.
+     */
+    public MatrizRutas actualizar(GrafoRutas nuevoGrafo, Collection<GrafoRutas.Arista> eliminadas,
+                                  Collection<GrafoRutas.Arista> agregadas) {
+        Map<Integer, Fila> nuevasFilas = new ConcurrentHashMap<>();
+        filas.forEach((origen, fila) -> nuevasFilas.put(origen,
+                fila.afectadaPor(eliminadas, agregadas) ? calcular(nuevoGrafo, origen) : fila));
+        return new MatrizRutas(nuevoGrafo, maximoFilas, nuevasFilas);
+    }
+
+    private static Fila calcular(GrafoRutas grafo, int origen) {
+        double[] distancias = grafo.costosDesde(origen, GrafoRutas.Criterio.DISTANCIA);
+        double[] costosTiempo = grafo.costosDesde(origen, GrafoRutas.Criterio.TIEMPO);
+        int[] tiempos = new int[costosTiempo.length];
+        for (int p = 0; p < tiempos.length; p++) {
+            tiempos[p] = Double.isInfinite(costosTiempo[p]) ? Fila.INALCANZABLE : (int) costosTiempo[p];
+        }
+        return new Fila(distancias, tiempos);
+    }
+
+    /**
+     * Distancia mínima y tiempo mínimo desde un origen. Ambos se minimizan por separado,
+     * así que pueden corresponder a caminos distintos.
+     */
+    public static final class Fila {
+
+        static final int INALCANZABLE = -1;
+
+        private final double[] distancias;
+        private final int[] tiempos;
+
+        private Fila(double[] distancias, int[] tiempos) {
+            this.distancias = distancias;
+            this.tiempos = tiempos;
+        }
+
+        /**
+         * Distancia mínima hacia el punto, o {@link Double#POSITIVE_INFINITY} si no es alcanzable.
+         */
+        public double distanciaHacia(int destino) {
+            return destino >= 0 && destino < distancias.length ? distancias[destino] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Tiempo mínimo hacia el punto, o -1 si no es alcanzable.
+         */
+        public int tiempoHacia(int destino) {
+            return destino >= 0 && destino < tiempos.length ? tiempos[destino] : INALCANZABLE;
+        }
+
+        /**
+         * Una arista eliminada solo importa si estaba ajustada (formaba parte de un camino
+         * mínimo); una agregada, si acorta el costo conocido hacia su destino.
+         */
+        private boolean afectadaPor(Collection<GrafoRutas.Arista> eliminadas,
+                                    Collection<GrafoRutas.Arista> agregadas) {
+            for (GrafoRutas.Arista arista : eliminadas) {
+                double distanciaOrigen = distanciaHacia(arista.getOrigen());
+                int tiempoOrigen = tiempoHacia(arista.getOrigen());
+                int tiempoDestino = tiempoHacia(arista.getDestino());
+                if ((!Double.isInfinite(distanciaOrigen)
+                        && distanciaOrigen + arista.getDistanciaKm() <= distanciaHacia(arista.getDestino()))
+                        || (tiempoOrigen != INALCANZABLE && tiempoDestino != INALCANZABLE
+                        && (long) tiempoOrigen + arista.getTiempoMinutos() <= tiempoDestino)) {
+                    return true;
+                }
+            }
+            for (GrafoRutas.Arista arista : agregadas) {
+                double distanciaOrigen = distanciaHacia(arista.getOrigen());
+                int tiempoOrigen = tiempoHacia(arista.getOrigen());
+                int tiempoDestino = tiempoHacia(arista.getDestino());
+                if (distanciaOrigen + arista.getDistanciaKm() < distanciaHacia(arista.getDestino())
+                        || (tiempoOrigen != INALCANZABLE && (tiempoDestino == INALCANZABLE
+                        || (long) tiempoOrigen + arista.getTiempoMinutos() < tiempoDestino))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.gersystem.transporte.infrastructure.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asigna a cada punto de origen o destino un índice entero estable.
+ * Los índices no se reutilizan aunque el punto se quede sin rutas activas, de modo que
+ * siguen siendo válidos entre reconstrucciones del grafo.
+ */
+public class RegistroPuntos {
+
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+    private final List<String> nombres = new ArrayList<>();
+
+    public synchronized int registrar(String punto) {
+        String clave = normalizar(punto);
+        Integer indice = indices.get(clave);
+        if (indice != null) {
+            return indice;
+        }
+        nombres.add(punto.trim());
+        indices.put(clave, nombres.size() - 1);
+        return nombres.size() - 1;
+    }
+
+    /**
+     * Índice del punto, o -1 si nunca fue registrado.
+     */
+    public int indiceDe(String punto) {
+        if (punto == null) {
+            return -1;
+        }
+        return indices.getOrDefault(normalizar(punto), -1);
+    }
+
+    public synchronized String nombreDe(int indice) {
+        return nombres.get(indice);
+    }
+
+    public synchronized int tamano() {
+        return nombres.size();
+    }
+
+    static String normalizar(String punto) {
+        return punto.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,191 @@
+package org.gersystem.transporte.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de búsqueda en memoria basado en n-gramas.
+ *
+ * - Consultas de 1 o 2 caracteres: coincidencia por prefijo de palabra.
+ * - Consultas de 3 o más caracteres: intersección de trigramas y verificación de subcadena.
+ * - Ranking: coincidencia exacta, prefijo del texto, prefijo de palabra y finalmente subcadena;
+ *   a igual puntuación se prefiere el texto más corto.
+ *
+ * Las lecturas no bloquean; las escrituras se serializan entre sí.
+ */
+public class IndiceBusqueda<T> {
+
+    private static final int TAMANO_NGRAMA = 3;
+    private static final String MARCA_PREFIJO = "^";
+
+    private static final Comparator<Coincidencia<?>> ORDEN_RELEVANCIA = Comparator
+            .<Coincidencia<?>>comparingInt(c -> c.puntuacion)
+            .thenComparingInt(c -> c.entrada.texto.length())
+            .thenComparing(c -> c.entrada.texto)
+            .thenComparing(c -> c.entrada.id);
+
+    private final Map<Long, Entrada<T>> entradas = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> ngramas = new ConcurrentHashMap<>();
+
+    public synchronized void indexar(Long id, String texto, T valor) {
+        eliminar(id);
+        String normalizado = normalizar(texto);
+        if (normalizado.isEmpty()) {
+            return;
+        }
+        for (String ngrama : extraerNgramas(normalizado)) {
+            ngramas.computeIfAbsent(ngrama, clave -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        entradas.put(id, new Entrada<>(id, normalizado, valor));
+    }
+
+    public synchronized void eliminar(Long id) {
+        Entrada<T> anterior = entradas.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String ngrama : extraerNgramas(anterior.texto)) {
+            Set<Long> ids = ngramas.get(ngrama);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    ngramas.remove(ngrama);
+                }
+            }
+        }
+    }
+
+    public synchronized void limpiar() {
+        entradas.clear();
+        ngramas.clear();
+    }
+
+    public int tamano() {
+        return entradas.size();
+    }
+
+    public List<T> buscar(String consulta, int limite) {
+        String normalizada = normalizar(consulta);
+        if (normalizada.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> candidatos = normalizada.length() < TAMANO_NGRAMA
+                ? ngramas.getOrDefault(MARCA_PREFIJO + normalizada, Collections.emptySet())
+                : intersectarTrigramas(normalizada);
+
+        // Montículo acotado: la cima es la peor coincidencia retenida
+        PriorityQueue<Coincidencia<T>> mejores = new PriorityQueue<>(limite + 1, ORDEN_RELEVANCIA.reversed());
+        for (Long id : candidatos) {
+            Entrada<T> entrada = entradas.get(id);
+            if (entrada == null) {
+                continue;
+            }
+            int puntuacion = puntuar(entrada.texto, normalizada);
+            if (puntuacion < 0) {
+                continue;
+            }
+            mejores.offer(new Coincidencia<>(entrada, puntuacion));
+            if (mejores.size() > limite) {
+                mejores.poll();
+            }
+        }
+
+        List<Coincidencia<T>> ordenadas = new ArrayList<>(mejores);
+        ordenadas.sort(ORDEN_RELEVANCIA);
+        List<T> resultado = new ArrayList<>(ordenadas.size());
+        for (Coincidencia<T> coincidencia : ordenadas) {
+            resultado.add(coincidencia.entrada.valor);
+        }
+        return resultado;
+    }
+
+    private Set<Long> intersectarTrigramas(String consulta) {
+        List<Set<Long>> listas = new ArrayList<>();
+        for (int i = 0; i + TAMANO_NGRAMA <= consulta.length(); i++) {
+            Set<Long> ids = ngramas.get(consulta.substring(i, i + TAMANO_NGRAMA));
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            listas.add(ids);
+        }
+        listas.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> resultado = new LinkedHashSet<>();
+        for (Long id : listas.get(0)) {
+            boolean enTodas = true;
+            for (int i = 1; i < listas.size() && enTodas; i++) {
+                enTodas = listas.get(i).contains(id);
+            }
+            if (enTodas) {
+                resultado.add(id);
+            }
+        }
+        return resultado;
+    }
+
+    private static int puntuar(String texto, String consulta) {
+        if (texto.equals(consulta)) {
+            return 0;
+        }
+        if (texto.startsWith(consulta)) {
+            return 1;
+        }
+        if (texto.contains(" " + consulta)) {
+            return 2;
+        }
+        return texto.contains(consulta) ? 3 : -1;
+    }
+
+    private static Set<String> extraerNgramas(String texto) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (String palabra : texto.split(" ")) {
+            for (int longitud = 1; longitud < TAMANO_NGRAMA && longitud <= palabra.length(); longitud++) {
+                resultado.add(MARCA_PREFIJO + palabra.substring(0, longitud));
+            }
+        }
+        for (int i = 0; i + TAMANO_NGRAMA <= texto.length(); i++) {
+            resultado.add(texto.substring(i, i + TAMANO_NGRAMA));
+        }
+        return resultado;
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return sinAcentos.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    private static final class Entrada<T> {
+        private final Long id;
+        private final String texto;
+        private final T valor;
+
+        private Entrada(Long id, String texto, T valor) {
+            this.id = id;
+            this.texto = texto;
+            this.valor = valor;
+        }
+    }
+
+    private static final class Coincidencia<T> {
+        private final Entrada<T> entrada;
+        private final int puntuacion;
+
+        private Coincidencia(Entrada<T> entrada, int puntuacion) {
+            this.entrada = entrada;
+            this.puntuacion = puntuacion;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ServicioSaturadoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool acotado para la verificación de contraseñas. BCrypt consume CPU durante decenas de
+ * milisegundos por intento, así que los inicios de sesión se ejecutan fuera de los hilos
+ * HTTP; si los hilos y la cola están ocupados se rechaza al instante con
+ * {@link ServicioSaturadoException} en lugar de acumular solicitudes.
+ */
+@Component
+public class EjecutorAutenticacion implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EjecutorAutenticacion.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rechazos;
+
+    public EjecutorAutenticacion(@Value("${transporte.seguridad.login.hilos:0}") int hilos,
+                                 @Value("${transporte.seguridad.login.capacidad-cola:200}") int capacidadCola,
+                                 MeterRegistry meterRegistry) {
+        int tamano = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(tamano, tamano, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola), tarea -> {
+                    Thread hilo = new Thread(tarea, "login-" + contador.getAndIncrement());
+                    hilo.setDaemon(true);
+                    return hilo;
+                });
+
+        Gauge.builder("transporte.login.cola", executor, e -> e.getQueue().size())
+                .description("Inicios de sesión esperando verificación")
+                .register(meterRegistry);
+        Gauge.builder("transporte.login.en_curso", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Inicios de sesión verificándose")
+                .register(meterRegistry);
+        this.rechazos = Counter.builder("transporte.login.rechazados")
+                .description("Inicios de sesión rechazados por saturación")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> ejecutar(Supplier<T> tarea) {
+        try {
+            return CompletableFuture.supplyAsync(tarea, executor);
+        } catch (RejectedExecutionException e) {
+            rechazos.increment();
+            logger.warn("Inicio de sesión rechazado: {} en cola", executor.getQueue().size());
+            throw new ServicioSaturadoException("Demasiados inicios de sesión simultáneos, intente nuevamente");
+        }
+    }
+
+    public int getTamanoCola() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,71 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Cubetas de tokens sin bloqueos sobre una tabla de tamaño fijo.
+ *
+ * Cada ranura guarda un único {@code long}, el instante teórico en que la cubeta vuelve a
+ * estar llena (algoritmo GCRA), y se actualiza con compare-and-set. La clave se reparte por
+ * hash entre las ranuras, así que la memoria no crece con la cantidad de clientes; dos claves
+ * que caen en la misma ranura comparten el límite, algo poco probable con tablas de decenas
+ * de miles de ranuras.
+ */
+public class LimitadorTasa {
+
+    private final AtomicLongArray llenaEn;
+    private final int bitsRanura;
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final LongSupplier reloj;
+
+    /**
+     * @param capacidad solicitudes que se aceptan seguidas con la cubeta llena
+     * @param porMinuto solicitudes por minuto que repone la cubeta
+     * @param ranuras   tamaño de la tabla; se redondea a la siguiente potencia de dos
+     */
+    public LimitadorTasa(int capacidad, int porMinuto, int ranuras) {
+        this(capacidad, porMinuto, ranuras, nanosDesde(System.nanoTime()));
+    }
+
+    LimitadorTasa(int capacidad, int porMinuto, int ranuras, LongSupplier reloj) {
+        if (capacidad < 1 || porMinuto < 1 || ranuras < 1) {
+            throw new IllegalArgumentException("La capacidad, la tasa y las ranuras deben ser positivas");
+        }
+        this.bitsRanura = Math.max(1, 32 - Integer.numberOfLeadingZeros(ranuras - 1));
+        this.llenaEn = new AtomicLongArray(1 << bitsRanura);
+        this.intervaloNanos = TimeUnit.MINUTES.toNanos(1) / porMinuto;
+        this.toleranciaNanos = intervaloNanos * (capacidad - 1);
+        this.reloj = reloj;
+    }
+
+    /**
+     * Consume un token de la cubeta de la clave. Devuelve 0 si había token, o los
+     * nanosegundos que faltan para que haya uno.
+     */
+    public long intentar(long clave) {
+        int ranura = (int) ((clave * 0x9E3779B97F4A7C15L) >>> (64 - bitsRanura));
+        while (true) {
+            long ahora = reloj.getAsLong();
+            long actual = llenaEn.get(ranura);
+            long desde = Math.max(actual, ahora);
+            long espera = desde - ahora - toleranciaNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (llenaEn.compareAndSet(ranura, actual, desde + intervaloNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public int getRanuras() {
+        return llenaEn.length();
+    }
+
+    private static LongSupplier nanosDesde(long inicio) {
+        return () -> System.nanoTime() - inicio;
+    }
+}
@@ -0,0 +1,65 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.LimiteTasaExcedidoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de intentos de inicio de sesión por cuenta y dirección IP.
+ *
+ * El filtro de límite de tasa solo conoce la IP, y muchos conductores inician sesión a la vez
+ * detrás del NAT de un mismo depósito; por eso allí el límite de login es amplio y la
+ * protección contra la prueba de contraseñas se hace aquí, con una cubeta por cada par
+ * usuario e IP. Se comprueba antes de verificar la contraseña, así que los intentos
+ * rechazados no consumen BCrypt.
+ */
+@Component
+public class LimiteIntentosLogin {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimiteIntentosLogin.class);
+
+    private final boolean habilitado;
+    private final LimitadorTasa limitador;
+    private final Counter rechazos;
+
+    public LimiteIntentosLogin(@Value("${transporte.limite-tasa.habilitado:true}") boolean habilitado,
+                               @Value("${transporte.limite-tasa.login.cuenta.capacidad:10}") int capacidad,
+                               @Value("${transporte.limite-tasa.login.cuenta.por-minuto:10}") int porMinuto,
+                               @Value("${transporte.limite-tasa.ranuras:65536}") int ranuras,
+                               MeterRegistry meterRegistry) {
+        this.habilitado = habilitado;
+        this.limitador = new LimitadorTasa(capacidad, porMinuto, ranuras);
+        this.rechazos = Counter.builder("transporte.limite_tasa.rechazos")
+                .description("Solicitudes rechazadas por exceder el límite de tasa")
+                .tag("regla", "login-cuenta")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consume un intento del usuario desde la IP indicada.
+     *
+     * @throws LimiteTasaExcedidoException si se agotaron los intentos de ese par
+     */
+    public void registrarIntento(String usuario, String ip) {
+        if (!habilitado) {
+            return;
+        }
+        String cuenta = usuario == null ? "" : usuario.trim().toLowerCase(Locale.ROOT);
+        long clave = ((long) cuenta.hashCode() << 32) | (ip.hashCode() & 0xFFFFFFFFL);
+        long esperaNanos = limitador.intentar(clave);
+        if (esperaNanos > 0) {
+            rechazos.increment();
+            logger.warn("Inicio de sesión rechazado por límite de intentos: {} desde {}", cuenta, ip);
+            long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new LimiteTasaExcedidoException(
+                    "Demasiados intentos de inicio de sesión para esta cuenta, intente nuevamente", segundos);
+        }
+    }
+}
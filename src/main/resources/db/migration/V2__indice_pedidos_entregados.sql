@@ -0,0 +1,2 @@
+-- Índice para los rankings de entregas por estado y fecha de modificación
+CREATE INDEX idx_pedido_estado_modificacion ON pedido (estado, last_modified_date);
@@ -0,0 +1,7 @@
+-- Latido escrito en la primaria para medir el retraso de la réplica de lectura
+CREATE TABLE replica_latido (
+    id INT NOT NULL PRIMARY KEY,
+    marca TIMESTAMP(3) NOT NULL
+);
+
+INSERT INTO replica_latido (id, marca) VALUES (1, CURRENT_TIMESTAMP(3));
@@ -0,0 +1,19 @@
+-- Tokens de renovación por sesión, guardados como hash SHA-256
+CREATE TABLE refresh_token (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash CHAR(64) NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    fecha_expiracion TIMESTAMP NOT NULL,
+    created_by VARCHAR(50),
+    created_date TIMESTAMP,
+    last_modified_by VARCHAR(50),
+    last_modified_date TIMESTAMP,
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    FOREIGN KEY (usuario_id) REFERENCES usuario(id)
+);
+
+CREATE INDEX idx_refresh_token_expiracion ON refresh_token (fecha_expiracion);
+
+-- Los tokens en texto plano dejan de ser válidos; cada usuario vuelve a iniciar sesión
+ALTER TABLE usuario DROP COLUMN refresh_token;
+ALTER TABLE usuario DROP COLUMN refresh_token_expiry_date;
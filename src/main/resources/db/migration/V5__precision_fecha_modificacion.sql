@@ -0,0 +1,4 @@
+-- Microsegundos en la fecha de modificación: forma parte de los ETag de vehículos, conductores y rutas
+ALTER TABLE conductor MODIFY last_modified_date TIMESTAMP(6) NULL;
+ALTER TABLE vehiculo MODIFY last_modified_date TIMESTAMP(6) NULL;
+ALTER TABLE ruta MODIFY last_modified_date TIMESTAMP(6) NULL;
@@ -0,0 +1,9 @@
+-- Sincronización por fecha de modificación: InnoDB agrega la clave primaria a cada índice
+-- secundario, así que estos índices también cubren el desempate por id
+UPDATE conductor SET last_modified_date = COALESCE(created_date, CURRENT_TIMESTAMP(6)) WHERE last_modified_date IS NULL;
+UPDATE vehiculo SET last_modified_date = COALESCE(created_date, CURRENT_TIMESTAMP(6)) WHERE last_modified_date IS NULL;
+UPDATE ruta SET last_modified_date = COALESCE(created_date, CURRENT_TIMESTAMP(6)) WHERE last_modified_date IS NULL;
+
+CREATE INDEX idx_conductor_modificacion ON conductor (last_modified_date);
+CREATE INDEX idx_vehiculo_modificacion ON vehiculo (last_modified_date);
+CREATE INDEX idx_ruta_modificacion ON ruta (last_modified_date);
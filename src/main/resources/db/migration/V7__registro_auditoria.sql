@@ -0,0 +1,22 @@
+-- Historial de auditoría: solo recibe inserciones. Se guarda comprimido y particionado por mes,
+-- para que las consultas por rango lean solo los meses pedidos y la retención descarte meses
+-- enteros. ParticionesAuditoria agrega los meses siguientes antes de que se necesiten.
+CREATE TABLE registro_auditoria (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    fecha DATETIME(6) NOT NULL,
+    usuario VARCHAR(100) NOT NULL,
+    entidad VARCHAR(20) NOT NULL,
+    entidad_id BIGINT NOT NULL,
+    campo VARCHAR(30) NOT NULL,
+    valor_anterior VARCHAR(100),
+    valor_nuevo VARCHAR(100),
+    PRIMARY KEY (id, fecha),
+    INDEX idx_auditoria_fecha (fecha),
+    INDEX idx_auditoria_entidad (entidad, entidad_id, fecha)
+) ENGINE=InnoDB ROW_FORMAT=COMPRESSED
+PARTITION BY RANGE COLUMNS (fecha) (
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
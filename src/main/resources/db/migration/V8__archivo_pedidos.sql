@@ -0,0 +1,30 @@
+-- Archivo de pedidos cerrados: misma forma que pedido, con el id original. Los pedidos
+-- entregados o cancelados antiguos se copian aquí y se eliminan de pedido por tramos.
+CREATE TABLE pedido_archivado (
+    id BIGINT NOT NULL PRIMARY KEY,
+    descripcion TEXT NOT NULL,
+    peso DECIMAL(10,2) NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    vehiculo_id BIGINT,
+    conductor_id BIGINT,
+    created_by VARCHAR(50),
+    created_date TIMESTAMP NULL,
+    last_modified_by VARCHAR(50),
+    last_modified_date TIMESTAMP NULL,
+    fecha_archivo TIMESTAMP NOT NULL,
+    INDEX idx_pedido_archivado_creacion (created_date),
+    INDEX idx_pedido_archivado_estado_modificacion (estado, last_modified_date),
+    FOREIGN KEY (vehiculo_id) REFERENCES vehiculo(id),
+    FOREIGN KEY (conductor_id) REFERENCES conductor(id)
+) ENGINE=InnoDB ROW_FORMAT=COMPRESSED;
+
+-- Totales de lo archivado por conductor y estado, actualizados en la misma transacción que
+-- cada tramo, para que las estadísticas no recorran el archivo
+CREATE TABLE pedido_archivado_total (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    conductor_id BIGINT,
+    estado VARCHAR(20) NOT NULL,
+    cantidad BIGINT NOT NULL,
+    peso DECIMAL(19,2) NOT NULL,
+    CONSTRAINT uk_pedido_archivado_total UNIQUE (conductor_id, estado)
+);
@@ -0,0 +1,7 @@
+-- Avance de la purga de cada tipo de dato, para continuar una pasada interrumpida
+CREATE TABLE retencion_progreso (
+    entidad VARCHAR(30) NOT NULL PRIMARY KEY,
+    corte TIMESTAMP(6) NULL,
+    ultimo_id BIGINT NOT NULL DEFAULT 0,
+    actualizado TIMESTAMP(6) NULL
+);
@@ -8,6 +8,8 @@ import org.gersystem.transporte.domain.service.ConductorDomainService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConductorDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConteoVehiculosDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.CreateConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.PageDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.UpdateConductorDTO;
 import org.gersystem.transporte.infrastructure.adapters.rest.mapper.ConductorMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -219,34 +221,40 @@ class ConductorApplicationServiceTest {
     @DisplayName("Debe obtener conductores sin vehículos")
     void obtenerConductoresSinVehiculos_DebeObtenerExitosamente() {
         // Arrange
-        List<Conductor> conductoresSinVehiculos = Arrays.asList(conductor);
-        when(conductorRepository.findByVehiculosIsEmpty()).thenReturn(conductoresSinVehiculos);
-        when(conductorMapper.toDto(any(Conductor.class))).thenReturn(conductorDTO);
+        Pageable pageable = PageRequest.of(0, 20);
+        EstadisticasDTO.ConductorSimpleDTO conductorSimple =
+                new EstadisticasDTO.ConductorSimpleDTO(1L, "Juan Pérez", "A12345");
+        when(conductorRepository.findConductoresSinVehiculos(pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(conductorSimple), pageable, 1));
 
         // Act
-        List<ConductorDTO> resultado = conductorApplicationService.obtenerConductoresSinVehiculos();
+        PageDTO<EstadisticasDTO.ConductorSimpleDTO> resultado =
+                conductorApplicationService.obtenerConductoresSinVehiculos(pageable);
 
         // Assert
         assertThat(resultado).isNotNull();
-        assertThat(resultado).hasSize(1);
-        verify(conductorRepository).findByVehiculosIsEmpty();
+        assertThat(resultado.getContent()).hasSize(1);
+        assertThat(resultado.getTotalElements()).isEqualTo(1L);
+        verify(conductorRepository).findConductoresSinVehiculos(pageable);
     }
 
     @Test
     @DisplayName("Debe contar vehículos por conductor")
     void contarVehiculosPorConductor_DebeContarExitosamente() {
         // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
         ConteoVehiculosDTO conteo = new ConteoVehiculosDTO(1L, "Juan Pérez", 2L);
-        when(conductorRepository.countVehiculosByConductor()).thenReturn(Arrays.asList(conteo));
+        when(conductorRepository.countVehiculosByConductor(pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(conteo), pageable, 1));
 
         // Act
-        List<ConteoVehiculosDTO> resultado = conductorApplicationService.contarVehiculosPorConductor();
+        PageDTO<ConteoVehiculosDTO> resultado = conductorApplicationService.contarVehiculosPorConductor(pageable);
 
         // Assert
         assertThat(resultado).isNotNull();
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getCantidadVehiculos()).isEqualTo(2L);
-        verify(conductorRepository).countVehiculosByConductor();
+        assertThat(resultado.getContent()).hasSize(1);
+        assertThat(resultado.getContent().get(0).getCantidadVehiculos()).isEqualTo(2L);
+        verify(conductorRepository).countVehiculosByConductor(pageable);
     }
 
     @Test
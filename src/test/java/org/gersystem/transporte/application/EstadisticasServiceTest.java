@@ -1,21 +1,26 @@
 package org.gersystem.transporte.application;
 
-import org.gersystem.transporte.domain.model.EstadoPedido;
 import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
 import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.ResumenConteo;
+import org.gersystem.transporte.domain.repository.ResumenPedidos;
+import org.gersystem.transporte.domain.repository.TotalPedidosArchivadosRepository;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.domain.service.ArchivoPedidosDomainService;
+import org.gersystem.transporte.domain.service.EstadisticasDomainService;
 import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,25 +35,53 @@ class EstadisticasServiceTest {
     @Mock
     private PedidoRepository pedidoRepository;
 
-    @InjectMocks
+    @Mock
+    private PedidoArchivadoRepository pedidoArchivadoRepository;
+
+    @Mock
+    private TotalPedidosArchivadosRepository totalPedidosArchivadosRepository;
+
+    @Mock
+    private ArchivoPedidosDomainService archivoPedidosDomainService;
+
     private EstadisticasService estadisticasService;
 
     @BeforeEach
     void setUp() {
+        estadisticasService = new EstadisticasService(
+                new EstadisticasDomainService(pedidoRepository, vehiculoRepository, conductorRepository,
+                        totalPedidosArchivadosRepository),
+                pedidoRepository, pedidoArchivadoRepository, archivoPedidosDomainService);
+
         // Configurar comportamiento base de los mocks
-        when(conductorRepository.count()).thenReturn(10L);
-        when(conductorRepository.countByActivoTrue()).thenReturn(8L);
-        when(vehiculoRepository.count()).thenReturn(15L);
-        when(vehiculoRepository.countByActivoTrue()).thenReturn(12L);
-        when(pedidoRepository.count()).thenReturn(100L);
-        when(pedidoRepository.countByEstado(EstadoPedido.EN_PROCESO)).thenReturn(20L);
-        when(pedidoRepository.countByEstado(EstadoPedido.ENTREGADO)).thenReturn(70L);
-        when(pedidoRepository.calcularPesoTotalTransportado()).thenReturn(new BigDecimal("5000.00"));
+        when(conductorRepository.obtenerResumenConteo()).thenReturn(conteo(10L, 8L));
+        when(vehiculoRepository.obtenerResumenConteo()).thenReturn(conteo(15L, 12L));
+        when(pedidoRepository.obtenerResumen(any()))
+                .thenReturn(resumenPedidos(100L, 20L, 70L, new BigDecimal("5000.00")));
+        when(totalPedidosArchivadosRepository.obtenerResumen())
+                .thenReturn(resumenPedidos(0L, null, 0L, BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("Debe sumar los pedidos archivados a los totales")
+    void obtenerEstadisticasGenerales_DebeSumarArchivados() {
+        when(totalPedidosArchivadosRepository.obtenerResumen())
+                .thenReturn(resumenPedidos(30L, null, 25L, new BigDecimal("1000.00")));
+
+        EstadisticasDTO estadisticas = estadisticasService.obtenerEstadisticasGenerales();
+
+        assertThat(estadisticas.getTotalPedidos()).isEqualTo(130L);
+        assertThat(estadisticas.getPedidosEnProceso()).isEqualTo(20L);
+        assertThat(estadisticas.getPedidosEntregados()).isEqualTo(95L);
+        assertThat(estadisticas.getPesoTotalTransportado()).isEqualByComparingTo("6000.00");
     }
 
     @Test
     @DisplayName("Debe calcular estadísticas generales correctamente")
     void obtenerEstadisticasGenerales_DebeCalcularCorrectamente() {
+        // Arrange
+        when(conductorRepository.contarConductoresSinVehiculos()).thenReturn(3L);
+
         // Act
         EstadisticasDTO estadisticas = estadisticasService.obtenerEstadisticasGenerales();
 
@@ -64,13 +97,14 @@ class EstadisticasServiceTest {
         assertThat(estadisticas.getPesoTotalTransportado())
                 .isEqualByComparingTo(new BigDecimal("5000.00"));
         assertThat(estadisticas.getPromedioVehiculosPorConductor()).isEqualTo(1.5);
+        assertThat(estadisticas.getTotalConductoresSinVehiculos()).isEqualTo(3L);
     }
 
     @Test
     @DisplayName("Debe manejar caso sin conductores activos")
     void obtenerEstadisticasGenerales_DebeManejarSinConductores() {
         // Arrange
-        when(conductorRepository.countByActivoTrue()).thenReturn(0L);
+        when(conductorRepository.obtenerResumenConteo()).thenReturn(conteo(10L, 0L));
 
         // Act
         EstadisticasDTO estadisticas = estadisticasService.obtenerEstadisticasGenerales();
@@ -84,10 +118,7 @@ class EstadisticasServiceTest {
     @DisplayName("Debe manejar caso sin pedidos")
     void obtenerEstadisticasGenerales_DebeManejarSinPedidos() {
         // Arrange
-        when(pedidoRepository.count()).thenReturn(0L);
-        when(pedidoRepository.countByEstado(EstadoPedido.EN_PROCESO)).thenReturn(0L);
-        when(pedidoRepository.countByEstado(EstadoPedido.ENTREGADO)).thenReturn(0L);
-        when(pedidoRepository.calcularPesoTotalTransportado()).thenReturn(BigDecimal.ZERO);
+        when(pedidoRepository.obtenerResumen(any())).thenReturn(resumenPedidos(0L, 0L, 0L, BigDecimal.ZERO));
 
         // Act
         EstadisticasDTO estadisticas = estadisticasService.obtenerEstadisticasGenerales();
@@ -121,8 +152,7 @@ class EstadisticasServiceTest {
     @DisplayName("Debe manejar caso sin vehículos")
     void obtenerEstadisticasGenerales_DebeManejarSinVehiculos() {
         // Arrange
-        when(vehiculoRepository.count()).thenReturn(0L);
-        when(vehiculoRepository.countByActivoTrue()).thenReturn(0L);
+        when(vehiculoRepository.obtenerResumenConteo()).thenReturn(conteo(0L, 0L));
 
         // Act
         EstadisticasDTO estadisticas = estadisticasService.obtenerEstadisticasGenerales();
@@ -134,4 +164,52 @@ class EstadisticasServiceTest {
         assertThat(estadisticas.getPorcentajeVehiculosActivos()).isEqualTo(0.0);
         assertThat(estadisticas.getPromedioVehiculosPorConductor()).isEqualTo(0.0);
     }
-} 
+
+    private static ResumenConteo conteo(Long total, Long activos) {
+        return new ResumenConteo() {
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getActivos() {
+                return activos;
+            }
+        };
+    }
+
+    private static ResumenPedidos resumenPedidos(Long total, Long enProceso, Long entregados, BigDecimal peso) {
+        return new ResumenPedidos() {
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getEnProceso() {
+                return enProceso;
+            }
+
+            @Override
+            public Long getEntregados() {
+                return entregados;
+            }
+
+            @Override
+            public Long getCancelados() {
+                return 0L;
+            }
+
+            @Override
+            public Long getDelMes() {
+                return total;
+            }
+
+            @Override
+            public BigDecimal getPesoEntregado() {
+                return peso;
+            }
+        };
+    }
+}
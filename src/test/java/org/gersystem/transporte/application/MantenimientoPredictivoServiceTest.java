@@ -0,0 +1,178 @@
+package org.gersystem.transporte.application;
+
+import org.gersystem.transporte.application.exception.ValidationException;
+import org.gersystem.transporte.domain.event.MantenimientoModificadoEvent;
+import org.gersystem.transporte.domain.event.PedidoModificadoEvent;
+import org.gersystem.transporte.domain.event.VehiculoModificadoEvent;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.DesgasteVehiculo;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.DesgasteVehiculoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MantenimientoPredictivoServiceTest {
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    @Mock
+    private PedidoArchivadoRepository pedidoArchivadoRepository;
+
+    @Mock
+    private VehiculoRepository vehiculoRepository;
+
+    @Mock
+    private CalendarioMantenimientoService calendarioMantenimientoService;
+
+    @InjectMocks
+    private MantenimientoPredictivoService mantenimientoPredictivoService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mantenimientoPredictivoService, "pesoLimiteKg", 10000.0);
+        ReflectionTestUtils.setField(mantenimientoPredictivoService, "viajesLimite", 10L);
+        ReflectionTestUtils.setField(mantenimientoPredictivoService, "umbralSugerencia", 80.0);
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por desgaste y sugerir ventana a los vehículos sobre el umbral")
+    void obtenerRanking_DebeOrdenarPorDesgaste() {
+        // Arrange - Vehículo 1 al 50% por peso, vehículo 2 al 70% por viajes
+        when(pedidoRepository.desgastePorVehiculo(EstadoPedido.ENTREGADO, EstadoMantenimiento.COMPLETADO))
+                .thenReturn(List.of(desgaste(1L, 2L, "5000"), desgaste(2L, 7L, "700")));
+        when(vehiculoRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(vehiculo(1L, "ABC123"), vehiculo(2L, "DEF456")));
+        LocalDateTime ventana = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(calendarioMantenimientoService.proximaVentanaLibre(eq(2L), any())).thenReturn(ventana);
+        mantenimientoPredictivoService.cargarDesgaste();
+
+        // Act - Una entrega más lleva al vehículo 2 al 80%
+        mantenimientoPredictivoService.registrarEntrega(
+                new PedidoModificadoEvent(10L, 2L, null, null, new BigDecimal("100"), EstadoPedido.EN_PROCESO, EstadoPedido.ENTREGADO, null));
+        List<DesgasteVehiculoDTO> ranking = mantenimientoPredictivoService.obtenerRanking(10);
+
+        // Assert
+        assertThat(ranking).extracting(DesgasteVehiculoDTO::getVehiculoId).containsExactly(2L, 1L);
+        assertThat(ranking.get(0).getPuntaje()).isEqualTo(80.0);
+        assertThat(ranking.get(0).getViajes()).isEqualTo(8L);
+        assertThat(ranking.get(0).isMantenimientoSugerido()).isTrue();
+        assertThat(ranking.get(0).getVentanaSugerida()).isEqualTo(ventana);
+        assertThat(ranking.get(1).getPlaca()).isEqualTo("ABC123");
+        assertThat(ranking.get(1).isMantenimientoSugerido()).isFalse();
+        assertThat(ranking.get(1).getVentanaSugerida()).isNull();
+    }
+
+    @Test
+    @DisplayName("Un mantenimiento completado debe reiniciar el desgaste una sola vez")
+    void registrarMantenimiento_DebeReiniciarDesgaste() {
+        // Arrange
+        when(pedidoRepository.desgastePorVehiculo(EstadoPedido.ENTREGADO, EstadoMantenimiento.COMPLETADO))
+                .thenReturn(List.of(desgaste(1L, 4L, "2000")));
+        when(vehiculoRepository.findAllById(anyIterable())).thenReturn(List.of(vehiculo(1L, "ABC123")));
+        mantenimientoPredictivoService.cargarDesgaste();
+        LocalDateTime realizado = LocalDateTime.now().plusMinutes(1);
+
+        // Act - Se completa el mantenimiento, hay una entrega y el evento se repite
+        mantenimientoPredictivoService.registrarMantenimiento(mantenimientoCompletado(realizado));
+        mantenimientoPredictivoService.registrarEntrega(
+                new PedidoModificadoEvent(10L, 1L, null, null, new BigDecimal("300"), EstadoPedido.EN_PROCESO, EstadoPedido.ENTREGADO, null));
+        mantenimientoPredictivoService.registrarMantenimiento(mantenimientoCompletado(realizado));
+        // Una modificación de un pedido ya entregado no vuelve a contar
+        mantenimientoPredictivoService.registrarEntrega(
+                new PedidoModificadoEvent(10L, 1L, null, null, new BigDecimal("300"), EstadoPedido.ENTREGADO, EstadoPedido.ENTREGADO, null));
+
+        // Assert
+        DesgasteVehiculoDTO desgaste = mantenimientoPredictivoService.obtenerRanking(1).get(0);
+        assertThat(desgaste.getViajes()).isEqualTo(1L);
+        assertThat(desgaste.getPesoEntregado()).isEqualByComparingTo("300");
+        assertThat(desgaste.getPuntaje()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("Los vehículos dados de baja no deben aparecer en el ranking")
+    void obtenerRanking_DebeExcluirVehiculosInactivos() {
+        // Arrange - El vehículo 3 ya estaba dado de baja al arrancar
+        when(pedidoRepository.desgastePorVehiculo(EstadoPedido.ENTREGADO, EstadoMantenimiento.COMPLETADO))
+                .thenReturn(List.of(desgaste(1L, 2L, "5000"), desgaste(2L, 9L, "900"), desgaste(3L, 10L, "1000")));
+        when(vehiculoRepository.findIdsInactivos()).thenReturn(List.of(3L));
+        when(vehiculoRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(vehiculo(1L, "ABC123"), vehiculo(2L, "DEF456")));
+        mantenimientoPredictivoService.cargarDesgaste();
+        assertThat(mantenimientoPredictivoService.obtenerRanking(10))
+                .extracting(DesgasteVehiculoDTO::getVehiculoId).containsExactly(2L, 1L);
+
+        // Act & Assert - Se da de baja el vehículo 2
+        mantenimientoPredictivoService.registrarVehiculo(
+                new VehiculoModificadoEvent(2L, "DEF456", new BigDecimal("1000"), false, null, null));
+        assertThat(mantenimientoPredictivoService.obtenerRanking(1))
+                .extracting(DesgasteVehiculoDTO::getVehiculoId).containsExactly(1L);
+
+        // Act & Assert - Al reactivarlo vuelve con su acumulado
+        mantenimientoPredictivoService.registrarVehiculo(
+                new VehiculoModificadoEvent(2L, "DEF456", new BigDecimal("1000"), true, null, null));
+        List<DesgasteVehiculoDTO> ranking = mantenimientoPredictivoService.obtenerRanking(10);
+        assertThat(ranking).extracting(DesgasteVehiculoDTO::getVehiculoId).containsExactly(2L, 1L);
+        assertThat(ranking.get(0).getViajes()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar límites fuera de rango")
+    void obtenerRanking_DebeRechazarLimiteInvalido() {
+        assertThatThrownBy(() -> mantenimientoPredictivoService.obtenerRanking(0))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("límite");
+    }
+
+    private MantenimientoModificadoEvent mantenimientoCompletado(LocalDateTime realizado) {
+        return new MantenimientoModificadoEvent(5L, 1L, realizado.minusDays(1), EstadoMantenimiento.COMPLETADO, realizado);
+    }
+
+    private Vehiculo vehiculo(Long id, String placa) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setId(id);
+        vehiculo.setPlaca(placa);
+        return vehiculo;
+    }
+
+    private DesgasteVehiculo desgaste(Long vehiculoId, Long viajes, String peso) {
+        return new DesgasteVehiculo() {
+            @Override
+            public Long getVehiculoId() {
+                return vehiculoId;
+            }
+
+            @Override
+            public Long getViajes() {
+                return viajes;
+            }
+
+            @Override
+            public BigDecimal getPesoEntregado() {
+                return new BigDecimal(peso);
+            }
+        };
+    }
+}
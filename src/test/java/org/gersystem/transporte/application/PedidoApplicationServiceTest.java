@@ -148,12 +148,12 @@ class PedidoApplicationServiceTest {
         LocalDateTime fechaFin = LocalDateTime.now();
 
         when(pedidoDomainService.buscarPedidos(
-            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, pageable)
+            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, false, pageable)
         ).thenReturn(pedidosPage);
 
         // Act
         Page<Pedido> resultado = pedidoApplicationService.buscarPedidos(
-            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, pageable
+            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, false, pageable
         );
 
         // Assert
@@ -161,7 +161,7 @@ class PedidoApplicationServiceTest {
         assertThat(resultado.getContent()).hasSize(1);
         assertThat(resultado.getContent().get(0).getEstado()).isEqualTo(EstadoPedido.PENDIENTE);
         verify(pedidoDomainService).buscarPedidos(
-            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, pageable
+            EstadoPedido.PENDIENTE, 1L, null, fechaInicio, fechaFin, false, pageable
         );
     }
 } 
@@ -49,6 +49,9 @@ class VehiculoApplicationServiceTest {
     @Mock
     private VehiculoSpecification vehiculoSpecification;
 
+    @Mock
+    private CalendarioMantenimientoService calendarioMantenimientoService;
+
     @InjectMocks
     private VehiculoApplicationService vehiculoApplicationService;
 
@@ -208,6 +211,26 @@ class VehiculoApplicationServiceTest {
         verify(vehiculoRepository).findVehiculosLibres();
     }
 
+    @Test
+    @DisplayName("Debe excluir de los libres a los vehículos en mantenimiento")
+    void obtenerVehiculosLibres_DebeExcluirVehiculosEnMantenimiento() {
+        // Arrange
+        Vehiculo enTaller = new Vehiculo();
+        enTaller.setId(2L);
+        enTaller.setPlaca("XYZ789");
+        when(vehiculoRepository.findVehiculosLibres()).thenReturn(Arrays.asList(vehiculo, enTaller));
+        when(calendarioMantenimientoService.enMantenimiento(eq(1L), any())).thenReturn(false);
+        when(calendarioMantenimientoService.enMantenimiento(eq(2L), any())).thenReturn(true);
+        when(vehiculoMapper.toDto(vehiculo)).thenReturn(vehiculoDTO);
+
+        // Act
+        List<VehiculoDTO> resultado = vehiculoApplicationService.obtenerVehiculosLibres();
+
+        // Assert
+        assertThat(resultado).containsExactly(vehiculoDTO);
+        verify(vehiculoMapper, never()).toDto(enTaller);
+    }
+
     @Test
     @DisplayName("Debe eliminar un vehículo lógicamente")
     void eliminarVehiculo_DebeEliminarLogicamente() {
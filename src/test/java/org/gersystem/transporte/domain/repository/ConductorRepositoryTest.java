@@ -4,6 +4,8 @@ import org.gersystem.transporte.config.BaseRepositoryTest;
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.model.Vehiculo;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ConteoVehiculosDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -246,7 +249,7 @@ class ConductorRepositoryTest extends BaseRepositoryTest {
         vehiculoRepository.save(vehiculo);
 
         // Act
-        var conteoVehiculos = conductorRepository.countVehiculosByConductor();
+        var conteoVehiculos = conductorRepository.countVehiculosByConductor(PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertThat(conteoVehiculos).hasSize(3);
@@ -255,4 +258,48 @@ class ConductorRepositoryTest extends BaseRepositoryTest {
         assertThat(conteoVehiculos).anyMatch(cv -> 
             cv.getConductorId().equals(conductor2.getId()) && cv.getCantidadVehiculos() == 0);
     }
-} 
+
+    @Test
+    @DisplayName("Debe paginar los conductores sin vehículos usando la proyección")
+    void findConductoresSinVehiculos_DebePaginarProyeccion() {
+        // Crear un vehículo para conductor1
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor1);
+        vehiculoRepository.save(vehiculo);
+
+        // Act
+        Page<EstadisticasDTO.ConductorSimpleDTO> pagina =
+                conductorRepository.findConductoresSinVehiculos(PageRequest.of(0, 1, Sort.by("nombre")));
+
+        // Assert
+        assertThat(pagina.getTotalElements()).isEqualTo(2);
+        assertThat(pagina.getContent()).hasSize(1);
+        assertThat(pagina.getContent().get(0).getNombre()).isEqualTo("Carlos López");
+        assertThat(pagina.getContent().get(0).getLicencia()).isEqualTo("C11111");
+    }
+
+    @Test
+    @DisplayName("Debe paginar el conteo de vehículos por conductor")
+    void countVehiculosByConductor_DebePaginarConteo() {
+        // Crear un vehículo para conductor2
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("DEF456");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor2);
+        vehiculoRepository.save(vehiculo);
+
+        // Act
+        Page<ConteoVehiculosDTO> pagina =
+                conductorRepository.countVehiculosByConductor(PageRequest.of(0, 2, Sort.by("id")));
+
+        // Assert
+        assertThat(pagina.getTotalElements()).isEqualTo(3);
+        assertThat(pagina.getContent()).hasSize(2);
+        assertThat(pagina.getContent().get(1).getConductorId()).isEqualTo(conductor2.getId());
+        assertThat(pagina.getContent().get(1).getCantidadVehiculos()).isEqualTo(1L);
+    }
+}
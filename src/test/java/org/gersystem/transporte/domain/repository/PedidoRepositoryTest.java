@@ -0,0 +1,129 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.config.BaseRepositoryTest;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.UtilizacionVehiculoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de integración para las consultas agregadas de PedidoRepository.
+ */
+class PedidoRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    private Conductor conductor1;
+    private Conductor conductor2;
+    private Vehiculo vehiculo1;
+    private Vehiculo vehiculo2;
+    private Vehiculo vehiculo3;
+
+    @BeforeEach
+    void setUp() {
+        conductor1 = crearConductor("Juan Pérez", "A12345");
+        conductor2 = crearConductor("María García", "B67890");
+
+        vehiculo1 = crearVehiculo("ABC123", conductor1);
+        vehiculo2 = crearVehiculo("DEF456", conductor2);
+        vehiculo3 = crearVehiculo("GHI789", null);
+
+        crearPedido(new BigDecimal("100.00"), EstadoPedido.ENTREGADO, vehiculo1, conductor1);
+        crearPedido(new BigDecimal("150.00"), EstadoPedido.ENTREGADO, vehiculo1, conductor1);
+        crearPedido(new BigDecimal("400.00"), EstadoPedido.ENTREGADO, vehiculo2, conductor2);
+        crearPedido(new BigDecimal("900.00"), EstadoPedido.PENDIENTE, vehiculo1, conductor1);
+    }
+
+    @Test
+    @DisplayName("Debe ordenar los conductores por peso entregado")
+    void rankingConductoresPorPeso_DebeOrdenarPorPesoEntregado() {
+        // Act
+        List<RankingConductorDTO> ranking = pedidoRepository.rankingConductoresPorPeso(
+                EstadoPedido.ENTREGADO, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(ranking).hasSize(2);
+        assertThat(ranking.get(0).getConductor().getNombre()).isEqualTo("María García");
+        assertThat(ranking.get(0).getPesoEntregado()).isEqualByComparingTo("400.00");
+        assertThat(ranking.get(1).getConductor().getId()).isEqualTo(conductor1.getId());
+        assertThat(ranking.get(1).getPesoEntregado()).isEqualByComparingTo("250.00");
+        assertThat(ranking.get(1).getPedidosEntregados()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite y la fecha del ranking de conductores")
+    void rankingConductoresPorPeso_DebeRespetarLimiteYFecha() {
+        // Act
+        List<RankingConductorDTO> top1 = pedidoRepository.rankingConductoresPorPeso(
+                EstadoPedido.ENTREGADO, LocalDateTime.now().minusDays(1), PageRequest.of(0, 1));
+        List<RankingConductorDTO> futuro = pedidoRepository.rankingConductoresPorPeso(
+                EstadoPedido.ENTREGADO, LocalDateTime.now().plusDays(1), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(top1).hasSize(1);
+        assertThat(top1.get(0).getConductor().getId()).isEqualTo(conductor2.getId());
+        assertThat(futuro).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe listar primero los vehículos sin entregas")
+    void vehiculosMenosUtilizados_DebeListarPrimeroVehiculosSinEntregas() {
+        // Act
+        List<UtilizacionVehiculoDTO> ranking = pedidoRepository.vehiculosMenosUtilizados(
+                EstadoPedido.ENTREGADO, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(ranking).extracting(UtilizacionVehiculoDTO::getPlaca)
+                .containsExactly("GHI789", "ABC123", "DEF456");
+        assertThat(ranking.get(0).getPesoEntregado()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(ranking.get(0).getPedidosEntregados()).isZero();
+        assertThat(ranking.get(1).getPedidosEntregados()).isEqualTo(2L);
+    }
+
+    private Conductor crearConductor(String nombre, String licencia) {
+        Conductor conductor = new Conductor();
+        conductor.setNombre(nombre);
+        conductor.setLicencia(licencia);
+        conductor.setActivo(true);
+        return conductorRepository.save(conductor);
+    }
+
+    private Vehiculo crearVehiculo(String placa, Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private void crearPedido(BigDecimal peso, EstadoPedido estado, Vehiculo vehiculo, Conductor conductor) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido de prueba");
+        pedido.setPeso(peso);
+        pedido.setEstado(estado);
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedidoRepository.save(pedido);
+    }
+}
@@ -0,0 +1,95 @@
+package org.gersystem.transporte.domain.repository;
+
+import org.gersystem.transporte.config.BaseRepositoryTest;
+import org.gersystem.transporte.domain.model.ProgresoRetencion;
+import org.gersystem.transporte.domain.model.RefreshToken;
+import org.gersystem.transporte.domain.model.Rol;
+import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.domain.service.RetencionDomainService;
+import org.gersystem.transporte.domain.service.UsuarioDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de integración para RefreshTokenRepository junto con la gestión de sesiones
+ * de UsuarioDomainService.
+ */
+class RefreshTokenRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private UsuarioDomainService usuarioDomainService;
+
+    @Autowired
+    private RetencionDomainService retencionDomainService;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = new Usuario();
+        usuario.setUsername("sesiones");
+        usuario.setEmail("sesiones@example.com");
+        usuario.setPassword("password123");
+        usuario.setNombre("Usuario Sesiones");
+        usuario.setRoles(List.of(Rol.CLIENTE));
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    @DisplayName("Debe mantener varias sesiones por usuario y rotar solo la usada")
+    void rotarRefreshToken_DebeConservarOtrasSesiones() {
+        // Arrange - Inicio de sesión en dos dispositivos
+        String primerDispositivo = usuarioDomainService.generarRefreshToken(usuario);
+        String segundoDispositivo = usuarioDomainService.generarRefreshToken(usuario);
+
+        // Act
+        UsuarioDomainService.SesionRenovada sesion = usuarioDomainService.rotarRefreshToken(primerDispositivo);
+
+        // Assert
+        assertThat(sesion.getUsuario().getId()).isEqualTo(usuario.getId());
+        assertThat(usuarioDomainService.validarRefreshToken(segundoDispositivo).getId()).isEqualTo(usuario.getId());
+        assertThat(usuarioDomainService.validarRefreshToken(sesion.getRefreshToken()).getId()).isEqualTo(usuario.getId());
+        assertThatThrownBy(() -> usuarioDomainService.validarRefreshToken(primerDispositivo))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Refresh token inválido");
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("La purga debe eliminar solo los tokens vencidos")
+    void purgarRefreshTokensExpirados_DebeEliminarSoloVencidos() {
+        // Arrange
+        String vigente = usuarioDomainService.generarRefreshToken(usuario);
+        for (int i = 0; i < 3; i++) {
+            RefreshToken vencido = new RefreshToken();
+            vencido.setTokenHash(String.format("%064d", i));
+            vencido.setUsuario(usuario);
+            vencido.setFechaExpiracion(LocalDateTime.now().minusDays(i + 1));
+            refreshTokenRepository.save(vencido);
+        }
+
+        // Act
+        RetencionDomainService.Tramo tramo = retencionDomainService.purgarTramo(
+                ProgresoRetencion.Entidad.REFRESH_TOKEN, 0, 100);
+
+        // Assert
+        assertThat(tramo.getEliminados()).isEqualTo(3);
+        assertThat(tramo.isTerminado()).isTrue();
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(usuarioDomainService.validarRefreshToken(vigente).getId()).isEqualTo(usuario.getId());
+    }
+}
@@ -1,9 +1,12 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import org.gersystem.transporte.application.CalendarioMantenimientoService;
+import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.*;
 import org.gersystem.transporte.domain.repository.MantenimientoRepository;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.repository.MantenimientoLoteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +18,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +37,12 @@ class MantenimientoDomainServiceTest {
     @Mock
     private VehiculoRepository vehiculoRepository;
 
+    @Mock
+    private CalendarioMantenimientoService calendarioMantenimientoService;
+
+    @Mock
+    private MantenimientoLoteRepository mantenimientoLoteRepository;
+
     @InjectMocks
     private MantenimientoDomainService mantenimientoDomainService;
 
@@ -61,17 +70,28 @@ class MantenimientoDomainServiceTest {
     @Test
     void programarMantenimiento_DebeGuardarMantenimiento() {
         when(vehiculoRepository.findById(VEHICULO_ID)).thenReturn(Optional.of(vehiculo));
-        when(mantenimientoRepository.findByVehiculoIdAndEstadoAndFechaProgramadaBetween(
-                eq(VEHICULO_ID), any(), any(), any())).thenReturn(Collections.emptyList());
         when(mantenimientoRepository.save(any(Mantenimiento.class))).thenReturn(mantenimiento);
 
         Mantenimiento resultado = mantenimientoDomainService.programarMantenimiento(mantenimiento, VEHICULO_ID, FECHA_PROGRAMADA);
 
         assertNotNull(resultado);
         assertEquals(MANTENIMIENTO_ID, resultado.getId());
+        verify(calendarioMantenimientoService).reservar(eq(VEHICULO_ID), any(LocalDateTime.class));
         verify(mantenimientoRepository).save(mantenimiento);
     }
 
+    @Test
+    void programarMantenimiento_DebeFallarSiLaVentanaEstaOcupada() {
+        when(vehiculoRepository.findById(VEHICULO_ID)).thenReturn(Optional.of(vehiculo));
+        doThrow(new BusinessException("Ya existe un mantenimiento programado para este vehículo en un rango de 24 horas"))
+                .when(calendarioMantenimientoService).reservar(eq(VEHICULO_ID), any(LocalDateTime.class));
+
+        assertThrows(BusinessException.class, () ->
+            mantenimientoDomainService.programarMantenimiento(mantenimiento, VEHICULO_ID, FECHA_PROGRAMADA)
+        );
+        verify(mantenimientoRepository, never()).save(any());
+    }
+
     @Test
     void programarMantenimiento_DebeFallarSiVehiculoNoExiste() {
         when(vehiculoRepository.findById(VEHICULO_ID)).thenReturn(Optional.empty());
@@ -91,6 +111,26 @@ class MantenimientoDomainServiceTest {
         );
     }
 
+    @Test
+    void planificarMantenimientos_DebeRespetarCapacidadYVentanasOcupadas() {
+        LocalDate inicio = LocalDate.now().plusDays(7);
+        when(vehiculoRepository.findIdsActivos()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(calendarioMantenimientoService.intentarReservar(any(), any())).thenReturn(true);
+        when(calendarioMantenimientoService.intentarReservar(2L, inicio.atStartOfDay())).thenReturn(false);
+
+        MantenimientoDomainService.Planificacion planificacion = mantenimientoDomainService.planificarMantenimientos(
+            TipoMantenimiento.PREVENTIVO, inicio, 2, 2, "Revisión trimestral");
+
+        assertEquals(List.of(
+                inicio.atStartOfDay(), inicio.plusDays(1).atStartOfDay(),
+                inicio.atStartOfDay(), inicio.plusDays(1).atStartOfDay()),
+            planificacion.getProgramados().stream().map(Mantenimiento::getFechaProgramada).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+            planificacion.getProgramados().stream().map(m -> m.getVehiculo().getId()).toList());
+        assertEquals(List.of(5L), planificacion.getVehiculosSinCupo());
+        verify(mantenimientoLoteRepository).insertarTodos(planificacion.getProgramados());
+    }
+
     @Test
     void actualizarEstadoMantenimiento_DebeActualizarEstado() {
         when(mantenimientoRepository.findById(MANTENIMIENTO_ID)).thenReturn(Optional.of(mantenimiento));
@@ -1,6 +1,7 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import org.gersystem.transporte.application.CalendarioMantenimientoService;
 import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.Conductor;
 import org.gersystem.transporte.domain.model.EstadoPedido;
@@ -24,6 +25,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +44,12 @@ class PedidoDomainServiceTest {
     @Mock
     private ConductorDomainService conductorDomainService;
 
+    @Mock
+    private CalendarioMantenimientoService calendarioMantenimientoService;
+
+    @Mock
+    private ArchivoPedidosDomainService archivoPedidosDomainService;
+
     @InjectMocks
     private PedidoDomainService pedidoDomainService;
 
@@ -112,6 +121,20 @@ class PedidoDomainServiceTest {
                 .hasMessage("El vehículo no está activo");
     }
 
+    @Test
+    @DisplayName("Crear pedido debe fallar cuando el vehículo está en mantenimiento")
+    void crearPedido_CuandoVehiculoEnMantenimiento_DebeLanzarExcepcion() {
+        // Arrange
+        when(vehiculoRepository.findById(1L)).thenReturn(Optional.of(vehiculo));
+        when(calendarioMantenimientoService.enMantenimiento(eq(1L), any())).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> pedidoDomainService.crearPedido(pedido, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("El vehículo está en mantenimiento");
+        verifyNoInteractions(pedidoRepository);
+    }
+
     @Test
     @DisplayName("Crear pedido debe fallar cuando excede la capacidad del vehículo")
     void crearPedido_CuandoExcedeCapacidad_DebeLanzarExcepcion() {
@@ -1,13 +1,16 @@
 package org.gersystem.transporte.domain.service;
 
 import javax.persistence.EntityNotFoundException;
+import org.gersystem.transporte.domain.model.RefreshToken;
 import org.gersystem.transporte.domain.model.Rol;
 import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.domain.repository.RefreshTokenRepository;
 import org.gersystem.transporte.domain.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,6 +35,9 @@ class UsuarioDomainServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @InjectMocks
     private UsuarioDomainService usuarioDomainService;
 
@@ -91,29 +97,27 @@ class UsuarioDomainServiceTest {
     }
 
     @Test
-    @DisplayName("Debe generar refresh token exitosamente")
+    @DisplayName("Debe generar refresh token guardando solo su hash")
     void generarRefreshToken_DebeGenerarExitosamente() {
-        // Arrange
-        when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
-
         // Act
         String refreshToken = usuarioDomainService.generarRefreshToken(usuario);
 
         // Assert
+        ArgumentCaptor<RefreshToken> guardado = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(guardado.capture());
         assertThat(refreshToken).isNotNull();
-        assertThat(usuario.getRefreshToken()).isNotNull();
-        assertThat(usuario.getRefreshTokenExpiryDate()).isAfter(LocalDateTime.now());
-        verify(usuarioRepository).save(usuario);
+        assertThat(guardado.getValue().getTokenHash()).hasSize(64).isNotEqualTo(refreshToken);
+        assertThat(guardado.getValue().getUsuario()).isSameAs(usuario);
+        assertThat(guardado.getValue().getFechaExpiracion()).isAfter(LocalDateTime.now());
+        assertThat(usuarioDomainService.generarRefreshToken(usuario)).isNotEqualTo(refreshToken);
     }
 
     @Test
     @DisplayName("Debe validar refresh token exitosamente")
     void validarRefreshToken_DebeValidarExitosamente() {
         // Arrange
-        usuario.setRefreshToken("valid.refresh.token");
-        usuario.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(7));
-        when(usuarioRepository.findByRefreshToken("valid.refresh.token"))
-                .thenReturn(Optional.of(usuario));
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(refreshToken(LocalDateTime.now().plusDays(7))));
 
         // Act
         Usuario resultado = usuarioDomainService.validarRefreshToken("valid.refresh.token");
@@ -127,10 +131,8 @@ class UsuarioDomainServiceTest {
     @DisplayName("Debe rechazar refresh token expirado")
     void validarRefreshToken_DebeRechazarTokenExpirado() {
         // Arrange
-        usuario.setRefreshToken("expired.refresh.token");
-        usuario.setRefreshTokenExpiryDate(LocalDateTime.now().minusDays(1));
-        when(usuarioRepository.findByRefreshToken("expired.refresh.token"))
-                .thenReturn(Optional.of(usuario));
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(refreshToken(LocalDateTime.now().minusDays(1))));
 
         // Act & Assert
         assertThatThrownBy(() -> usuarioDomainService.validarRefreshToken("expired.refresh.token"))
@@ -138,22 +140,49 @@ class UsuarioDomainServiceTest {
                 .hasMessageContaining("Refresh token expirado");
     }
 
+    @Test
+    @DisplayName("Debe rotar el refresh token invalidando el usado")
+    void rotarRefreshToken_DebeInvalidarTokenUsado() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(refreshToken(LocalDateTime.now().plusDays(7))));
+        when(refreshTokenRepository.eliminarPorHash(anyString())).thenReturn(1, 0);
+
+        // Act
+        UsuarioDomainService.SesionRenovada sesion = usuarioDomainService.rotarRefreshToken("token.actual");
+
+        // Assert - Se entrega un token nuevo y el usado ya no se puede rotar
+        assertThat(sesion.getUsuario()).isSameAs(usuario);
+        assertThat(sesion.getRefreshToken()).isNotEqualTo("token.actual");
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        assertThatThrownBy(() -> usuarioDomainService.rotarRefreshToken("token.actual"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Refresh token inválido");
+    }
+
     @Test
     @DisplayName("Debe revocar refresh token exitosamente")
     void revocarRefreshToken_DebeRevocarExitosamente() {
         // Arrange
-        usuario.setRefreshToken("token.to.revoke");
-        when(usuarioRepository.findByRefreshToken("token.to.revoke"))
-                .thenReturn(Optional.of(usuario));
-        when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
+        when(refreshTokenRepository.eliminarPorHash(anyString())).thenReturn(1);
 
         // Act
         usuarioDomainService.revocarRefreshToken("token.to.revoke");
 
         // Assert
-        assertThat(usuario.getRefreshToken()).isNull();
-        assertThat(usuario.getRefreshTokenExpiryDate()).isNull();
-        verify(usuarioRepository).save(usuario);
+        verify(refreshTokenRepository).eliminarPorHash(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la revocación de un token inexistente")
+    void revocarRefreshToken_DebeRechazarTokenInexistente() {
+        // Arrange
+        when(refreshTokenRepository.eliminarPorHash(anyString())).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> usuarioDomainService.revocarRefreshToken("token.desconocido"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Token no encontrado");
     }
 
     @Test
@@ -173,6 +202,7 @@ class UsuarioDomainServiceTest {
         assertThat(resultado.getPassword()).isEqualTo("encodedNewPassword");
         verify(passwordEncoder).matches("oldPassword", "password123");
         verify(passwordEncoder).encode("newPassword");
+        verify(refreshTokenRepository).eliminarPorUsuario(1L);
         verify(usuarioRepository).save(usuario);
     }
 
@@ -200,4 +230,11 @@ class UsuarioDomainServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Usuario no encontrado");
     }
+
+    private RefreshToken refreshToken(LocalDateTime fechaExpiracion) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUsuario(usuario);
+        refreshToken.setFechaExpiracion(fechaExpiracion);
+        return refreshToken;
+    }
 } 
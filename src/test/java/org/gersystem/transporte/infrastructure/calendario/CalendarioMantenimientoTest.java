@@ -0,0 +1,95 @@
+package org.gersystem.transporte.infrastructure.calendario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarioMantenimientoTest {
+
+    private static final Long VEHICULO_ID = 1L;
+    private static final LocalDateTime LUNES = LocalDateTime.of(2030, 1, 7, 8, 0);
+
+    private CalendarioMantenimiento calendario;
+
+    @BeforeEach
+    void setUp() {
+        calendario = new CalendarioMantenimiento();
+        calendario.registrar(VEHICULO_ID, 10L, LUNES);
+    }
+
+    @Test
+    @DisplayName("Debe detectar solapamientos de ventanas de 24 horas por vehículo")
+    void reservar_DebeRechazarVentanasSolapadas() {
+        assertThat(calendario.reservar(VEHICULO_ID, LUNES.plusHours(23))).isFalse();
+        assertThat(calendario.reservar(VEHICULO_ID, LUNES.minusHours(23))).isFalse();
+        assertThat(calendario.conflicto(VEHICULO_ID, LUNES.plusHours(12))).contains(LUNES);
+
+        assertThat(calendario.reservar(VEHICULO_ID, LUNES.plusHours(24))).isTrue();
+        assertThat(calendario.reservar(2L, LUNES)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe encadenar ventanas ocupadas hasta encontrar una libre")
+    void proximaVentanaLibre_DebeSaltarVentanasOcupadas() {
+        calendario.registrar(VEHICULO_ID, 11L, LUNES.plusHours(30));
+        calendario.registrar(VEHICULO_ID, 12L, LUNES.plusDays(5));
+
+        assertThat(calendario.proximaVentanaLibre(VEHICULO_ID, LUNES.minusHours(2))).isEqualTo(LUNES.plusHours(54));
+        assertThat(calendario.proximaVentanaLibre(VEHICULO_ID, LUNES.minusDays(2))).isEqualTo(LUNES.minusDays(2));
+        assertThat(calendario.proximaVentanaLibre(3L, LUNES)).isEqualTo(LUNES);
+    }
+
+    @Test
+    @DisplayName("Una reserva liberada deja la ventana libre y una confirmada la mantiene")
+    void reservar_DebeLiberarOConsolidarLaReserva() {
+        LocalDateTime martes = LUNES.plusDays(1);
+        LocalDateTime miercoles = LUNES.plusDays(2);
+        assertThat(calendario.reservar(VEHICULO_ID, martes)).isTrue();
+        assertThat(calendario.reservar(VEHICULO_ID, miercoles)).isTrue();
+
+        calendario.liberarReserva(VEHICULO_ID, martes);
+        calendario.registrar(VEHICULO_ID, 11L, miercoles);
+        calendario.liberarReserva(VEHICULO_ID, miercoles);
+
+        assertThat(calendario.conflicto(VEHICULO_ID, martes)).isEmpty();
+        assertThat(calendario.conflicto(VEHICULO_ID, miercoles)).contains(miercoles);
+        assertThat(calendario.tamano()).isEqualTo(2);
+
+        calendario.eliminar(VEHICULO_ID, 10L);
+        assertThat(calendario.reservar(VEHICULO_ID, LUNES.plusHours(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Solo una de varias reservas concurrentes sobre la misma ventana debe prosperar")
+    void reservar_DebeSerAtomica() throws InterruptedException {
+        int hilos = 16;
+        LocalDateTime jueves = LUNES.plusDays(3);
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        AtomicInteger exitosas = new AtomicInteger();
+        for (int i = 0; i < hilos; i++) {
+            int desfase = i;
+            executor.submit(() -> {
+                salida.await();
+                if (calendario.reservar(VEHICULO_ID, jueves.plusMinutes(desfase))) {
+                    exitosas.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        salida.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(exitosas.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,61 @@
+package org.gersystem.transporte.infrastructure.calendario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisponibilidadVehiculosTest {
+
+    private static final Long VEHICULO_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private DisponibilidadVehiculos disponibilidad;
+
+    @BeforeEach
+    void setUp() {
+        disponibilidad = new DisponibilidadVehiculos(BASE);
+    }
+
+    @Test
+    @DisplayName("Un mantenimiento programado bloquea solo las franjas de su ventana")
+    void enMantenimiento_DebeBloquearLaVentanaProgramada() {
+        LocalDateTime inicio = BASE.plusDays(2).plusHours(8).plusMinutes(30);
+        disponibilidad.bloquearVentana(VEHICULO_ID, 10L, inicio, Duration.ofHours(24));
+
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, inicio.minusHours(1))).isFalse();
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, inicio)).isTrue();
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, inicio.plusHours(23).plusMinutes(59))).isTrue();
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, inicio.plusHours(25))).isFalse();
+        assertThat(disponibilidad.enMantenimiento(2L, inicio)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Un mantenimiento en proceso bloquea el vehículo hasta que se quita")
+    void enMantenimiento_DebeBloquearMientrasEsteEnProceso() {
+        disponibilidad.bloquearVentana(VEHICULO_ID, 10L, BASE.plusDays(1), Duration.ofHours(24));
+        disponibilidad.bloquearSinFin(VEHICULO_ID, 10L);
+
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, BASE.minusDays(30))).isTrue();
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, BASE.plusDays(30))).isTrue();
+
+        disponibilidad.desbloquear(VEHICULO_ID, 10L);
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, BASE.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quitar un mantenimiento conserva los demás bloqueos del vehículo")
+    void desbloquear_DebeConservarOtrosBloqueos() {
+        disponibilidad.bloquearVentana(VEHICULO_ID, 10L, BASE.plusDays(1), Duration.ofHours(24));
+        disponibilidad.bloquearVentana(VEHICULO_ID, 11L, BASE.plusDays(3), Duration.ofHours(24));
+
+        disponibilidad.desbloquear(VEHICULO_ID, 10L);
+
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, BASE.plusDays(1))).isFalse();
+        assertThat(disponibilidad.enMantenimiento(VEHICULO_ID, BASE.plusDays(3).plusHours(5))).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EjecucionConfigTest {
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    private List<ScheduledTaskHolder> tareasProgramadas;
+
+    @Test
+    @DisplayName("El planificador debe tener un hilo por tarea programada")
+    void planificador_DebeTenerUnHiloPorTarea() {
+        int tareas = tareasProgramadas.stream().mapToInt(holder -> holder.getScheduledTasks().size()).sum();
+
+        assertThat(tareas).isPositive();
+        assertThat(taskScheduler.getPoolSize()).isGreaterThanOrEqualTo(tareas);
+    }
+}
@@ -0,0 +1,48 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimiteConcurrenciaFilterTest {
+
+    @Test
+    @DisplayName("Debe dejar pasar la solicitud y liberar el permiso al terminar")
+    void doFilter_DebeLiberarPermisoAlTerminar() throws Exception {
+        LimiteConcurrenciaFilter filtro = new LimiteConcurrenciaFilter(1, 0);
+        AtomicInteger enCursoDuranteSolicitud = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filtro.doFilter(new MockHttpServletRequest("GET", "/api/v1/vehiculos"), response,
+                (req, res) -> enCursoDuranteSolicitud.set(filtro.getSolicitudesEnCurso()));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(enCursoDuranteSolicitud.get()).isEqualTo(1);
+        assertThat(filtro.getSolicitudesEnCurso()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 503 cuando se alcanza el límite de solicitudes concurrentes")
+    void doFilter_DebeRechazarCuandoNoHayPermisos() throws Exception {
+        LimiteConcurrenciaFilter filtro = new LimiteConcurrenciaFilter(1, 0);
+        MockHttpServletResponse rechazada = new MockHttpServletResponse();
+        MockFilterChain cadenaRechazada = new MockFilterChain();
+
+        // La segunda solicitud llega mientras la primera todavía ocupa el único permiso
+        filtro.doFilter(new MockHttpServletRequest("GET", "/api/v1/vehiculos"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(new MockHttpServletRequest("GET", "/api/v1/pedidos"),
+                        rechazada, cadenaRechazada));
+
+        assertThat(rechazada.getStatus()).isEqualTo(503);
+        assertThat(rechazada.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rechazada.getContentAsString()).contains("/api/v1/pedidos");
+        assertThat(cadenaRechazada.getRequest()).isNull();
+        assertThat(filtro.getSolicitudesEnCurso()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package org.gersystem.transporte.infrastructure.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.infrastructure.security.LimitadorTasa;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimiteTasaFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LimiteTasaFilter filtro = new LimiteTasaFilter(List.of(
+            new LimiteTasaFilter.Regla("login", "/api/v1/auth/login", new LimitadorTasa(1, 1, 64)),
+            new LimiteTasaFilter.Regla("api", "/api/**", new LimitadorTasa(2, 1, 64))
+    ), meterRegistry, objectMapper);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 429 por IP al agotar la regla que coincide")
+    void doFilter_DebeRechazarPorIp() throws Exception {
+        assertThat(filtrar("/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rechazada = filtrar("/api/v1/auth/login", "10.0.0.1");
+        assertThat(rechazada.getStatus()).isEqualTo(429);
+        assertThat(rechazada.getHeader("Retry-After")).isEqualTo("60");
+        JsonNode cuerpo = objectMapper.readTree(rechazada.getContentAsByteArray());
+        assertThat(cuerpo.get("status").asInt()).isEqualTo(429);
+        assertThat(cuerpo.get("code").asText()).isEqualTo("RATE_LIMIT_EXCEEDED");
+        assertThat(cuerpo.get("path").asText()).isEqualTo("/api/v1/auth/login");
+        assertThat(meterRegistry.get("transporte.limite_tasa.rechazos").tag("regla", "login").counter().count())
+                .isEqualTo(1.0);
+
+        // Otra IP y otra regla conservan sus propias cubetas
+        assertThat(filtrar("/api/v1/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(filtrar("/api/v1/vehiculos", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Debe limitar por usuario autenticado aunque cambie la IP")
+    void doFilter_DebeLimitarPorUsuario() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setId(5L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+
+        assertThat(filtrar("/api/v1/pedidos", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(filtrar("/api/v1/pedidos", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(filtrar("/api/v1/pedidos", "10.0.0.3").getStatus()).isEqualTo(429);
+        // Las rutas sin regla no se limitan
+        assertThat(filtrar("/actuator/health", "10.0.0.3").getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse filtrar(String ruta, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ruta);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,131 @@
+package org.gersystem.transporte.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dos bases H2 en memoria hacen de primaria y réplica; cada una identifica su origen
+ * en la tabla {@code origen} para saber a cuál se envió cada consulta.
+ */
+class EnrutadorDataSourceTest {
+
+    private static final Instant AHORA = Instant.parse("2026-01-15T10:00:00Z");
+
+    private JdbcTemplate primaria;
+    private JdbcTemplate replica;
+    private MonitorReplica monitor;
+    private JdbcTemplate enrutado;
+    private TransactionTemplate lectura;
+    private TransactionTemplate escritura;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSourcePrimaria = crearBase("primaria");
+        DriverManagerDataSource dataSourceReplica = crearBase("replica");
+        primaria = new JdbcTemplate(dataSourcePrimaria);
+        replica = new JdbcTemplate(dataSourceReplica);
+
+        monitor = new MonitorReplica(dataSourcePrimaria, dataSourceReplica,
+                Duration.ofSeconds(5), Clock.fixed(AHORA, ZoneOffset.UTC));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new EnrutadorDataSource(dataSourcePrimaria, dataSourceReplica, monitor));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        enrutado = new JdbcTemplate(dataSource);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        escritura = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaria.execute("DROP ALL OBJECTS");
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura deben ir a la réplica y las de escritura a la primaria")
+    void enrutar_DebeSepararLecturasDeEscrituras() {
+        registrarLatidos(AHORA, AHORA);
+        monitor.verificar();
+
+        assertThat(monitor.isDisponible()).isTrue();
+        assertThat(origenEn(lectura)).isEqualTo("replica");
+        assertThat(origenEn(escritura)).isEqualTo("primaria");
+        assertThat(origen()).isEqualTo("primaria");
+    }
+
+    @Test
+    @DisplayName("Las lecturas deben volver a la primaria cuando la réplica supera el retraso máximo")
+    void enrutar_DebeUsarPrimariaConReplicaAtrasada() {
+        registrarLatidos(AHORA.minusSeconds(1), AHORA.minusSeconds(30));
+        monitor.verificar();
+
+        assertThat(monitor.isDisponible()).isFalse();
+        assertThat(monitor.getRetrasoMs()).isEqualTo(29_000L);
+        assertThat(origenEn(lectura)).isEqualTo("primaria");
+    }
+
+    @Test
+    @DisplayName("Las lecturas deben volver a la primaria cuando la réplica no responde")
+    void enrutar_DebeUsarPrimariaConReplicaCaida() {
+        registrarLatidos(AHORA, AHORA);
+        monitor.verificar();
+        replica.execute("DROP TABLE replica_latido");
+
+        monitor.verificar();
+
+        assertThat(monitor.isDisponible()).isFalse();
+        assertThat(monitor.getRetrasoMs()).isEqualTo(-1L);
+        assertThat(origenEn(lectura)).isEqualTo("primaria");
+    }
+
+    @Test
+    @DisplayName("La verificación debe registrar el latido en la primaria")
+    void verificar_DebeRegistrarLatidoEnPrimaria() {
+        registrarLatidos(AHORA.minusSeconds(2), AHORA.minusSeconds(2));
+
+        monitor.verificar();
+
+        Timestamp marca = primaria.queryForObject("SELECT marca FROM replica_latido WHERE id = 1", Timestamp.class);
+        assertThat(marca.toInstant()).isEqualTo(AHORA);
+    }
+
+    private String origenEn(TransactionTemplate transaccion) {
+        return transaccion.execute(estado -> origen());
+    }
+
+    private String origen() {
+        return enrutado.queryForObject("SELECT nombre FROM origen", String.class);
+    }
+
+    private void registrarLatidos(Instant enPrimaria, Instant enReplica) {
+        primaria.update("INSERT INTO replica_latido (id, marca) VALUES (1, ?)", Timestamp.from(enPrimaria));
+        replica.update("INSERT INTO replica_latido (id, marca) VALUES (1, ?)", Timestamp.from(enReplica));
+    }
+
+    private static DriverManagerDataSource crearBase(String nombre) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nombre + "_enrutador;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origen (nombre VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO origen (nombre) VALUES (?)", nombre);
+        jdbcTemplate.execute("CREATE TABLE replica_latido (id INT PRIMARY KEY, marca TIMESTAMP(3) NOT NULL)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,62 @@
+package org.gersystem.transporte.infrastructure.entregas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndiceEntregasTest {
+
+    private static final long BASE = 1_000;
+
+    @Test
+    @DisplayName("Debe devolver solo lo cambiado desde la versión indicada, incluidos los retiros")
+    void cambiosDesde_DebeDevolverDelta() {
+        IndiceEntregas<String> indice = new IndiceEntregas<>(10, BASE);
+        indice.actualizar(1L, 7L, "p1");
+        indice.actualizar(2L, 7L, "p2");
+        indice.actualizar(3L, 8L, "p3");
+
+        IndiceEntregas.Cambios<String> inicial = indice.cambiosDesde(7L, null);
+        assertThat(inicial.isCompleto()).isTrue();
+        assertThat(inicial.getVigentes()).containsExactly("p1", "p2");
+
+        indice.actualizar(2L, 7L, "p2-en-proceso");
+        indice.retirar(1L);
+        // Reasignado desde otro conductor
+        indice.actualizar(3L, 7L, "p3");
+
+        IndiceEntregas.Cambios<String> delta = indice.cambiosDesde(7L, inicial.getVersion());
+        assertThat(delta.isCompleto()).isFalse();
+        assertThat(delta.getVigentes()).containsExactly("p2-en-proceso", "p3");
+        assertThat(delta.getRetirados()).containsExactly(1L);
+        assertThat(indice.cambiosDesde(8L, inicial.getVersion()).getRetirados()).containsExactly(3L);
+
+        IndiceEntregas.Cambios<String> sinCambios = indice.cambiosDesde(7L, delta.getVersion());
+        assertThat(sinCambios.getVigentes()).isEmpty();
+        assertThat(sinCambios.getRetirados()).isEmpty();
+        assertThat(sinCambios.getVersion()).isEqualTo(delta.getVersion());
+    }
+
+    @Test
+    @DisplayName("Debe devolver la lista completa si la versión es anterior a los retiros conservados")
+    void cambiosDesde_ConVersionVencida_DebeDevolverListaCompleta() {
+        IndiceEntregas<String> indice = new IndiceEntregas<>(2, BASE);
+        indice.actualizar(1L, 7L, "p1");
+        long version = indice.cambiosDesde(7L, null).getVersion();
+        for (long id = 2; id <= 5; id++) {
+            indice.actualizar(id, 7L, "p" + id);
+            indice.retirar(id);
+        }
+
+        IndiceEntregas.Cambios<String> cambios = indice.cambiosDesde(7L, version);
+        assertThat(cambios.isCompleto()).isTrue();
+        assertThat(cambios.getVigentes()).containsExactly("p1");
+        assertThat(cambios.getRetirados()).isEmpty();
+
+        // Una versión de antes de un reinicio también pide la lista completa
+        assertThat(indice.cambiosDesde(7L, BASE - 1).isCompleto()).isTrue();
+        assertThat(indice.cambiosDesde(99L, BASE - 1).isCompleto()).isTrue();
+        assertThat(indice.cambiosDesde(99L, BASE).isCompleto()).isFalse();
+    }
+}
@@ -0,0 +1,193 @@
+package org.gersystem.transporte.infrastructure.eventos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ServicioSaturadoException;
+import org.gersystem.transporte.infrastructure.eventos.DifusorEventos.PoliticaDesborde;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DifusorEventosTest {
+
+    private static final Pattern NUMERO = Pattern.compile("\"n\":(\\d+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<EmitterDePrueba> emitters = new CopyOnWriteArrayList<>();
+    private DifusorEventos difusor;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.liberar.countDown());
+        difusor.close();
+    }
+
+    @Test
+    @DisplayName("Debe entregar cada evento a todos los suscriptores, en orden")
+    void publicar_DebeRepartirATodos() throws Exception {
+        difusor = crearDifusor(16, 3, PoliticaDesborde.DESCARTAR_ANTIGUOS);
+        for (int i = 0; i < 3; i++) {
+            difusor.suscribir();
+        }
+        emitters.forEach(emitter -> emitter.liberar.countDown());
+
+        for (int n = 1; n <= 5; n++) {
+            difusor.publicar("pedido", Map.of("n", n));
+        }
+
+        esperar(() -> emitters.stream().allMatch(emitter -> emitter.enviados.size() == 5));
+        for (EmitterDePrueba emitter : emitters) {
+            assertThat(numeros(emitter)).containsExactly(1, 2, 3, 4, 5);
+            assertThat(emitter.enviados.get(0)).contains("event:pedido");
+        }
+        assertThatThrownBy(() -> difusor.suscribir()).isInstanceOf(ServicioSaturadoException.class);
+    }
+
+    @Test
+    @DisplayName("Con la cola llena debe descartar los eventos más antiguos sin afectar al resto")
+    void publicar_ConColaLlena_DebeDescartarAntiguos() throws Exception {
+        difusor = crearDifusor(2, 10, PoliticaDesborde.DESCARTAR_ANTIGUOS);
+        difusor.suscribir();
+        EmitterDePrueba lento = emitters.get(0);
+
+        difusor.publicar("pedido", Map.of("n", 1));
+        assertThat(lento.enEnvio.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int n = 2; n <= 5; n++) {
+            difusor.publicar("pedido", Map.of("n", n));
+        }
+        lento.liberar.countDown();
+
+        esperar(() -> lento.enviados.size() == 3);
+        assertThat(numeros(lento)).containsExactly(1, 4, 5);
+        assertThat(meterRegistry.counter("transporte.eventos.descartados").count()).isEqualTo(2);
+        assertThat(difusor.getCantidadSuscriptores()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Con la política DESCONECTAR debe cerrar al suscriptor que no consume")
+    void publicar_ConColaLlena_DebeDesconectar() throws Exception {
+        difusor = crearDifusor(1, 10, PoliticaDesborde.DESCONECTAR);
+        difusor.suscribir();
+        EmitterDePrueba lento = emitters.get(0);
+
+        difusor.publicar("pedido", Map.of("n", 1));
+        assertThat(lento.enEnvio.await(5, TimeUnit.SECONDS)).isTrue();
+        difusor.publicar("pedido", Map.of("n", 2));
+        difusor.publicar("pedido", Map.of("n", 3));
+
+        assertThat(difusor.getCantidadSuscriptores()).isZero();
+        assertThat(meterRegistry.counter("transporte.eventos.desconectados").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transporte.eventos.suscriptores").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Las suscripciones simultáneas no deben superar el máximo y al cerrarse deben liberar su lugar")
+    void suscribir_Concurrente_DebeRespetarMaximo() throws Exception {
+        difusor = crearDifusor(1, 5, PoliticaDesborde.DESCONECTAR);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Boolean>> intentos = new ArrayList<>();
+        try (ExecutorService hilos = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 64; i++) {
+                intentos.add(hilos.submit(() -> {
+                    largada.await();
+                    try {
+                        difusor.suscribir();
+                        return true;
+                    } catch (ServicioSaturadoException e) {
+                        return false;
+                    }
+                }));
+            }
+            largada.countDown();
+        }
+        long aceptados = 0;
+        for (Future<Boolean> intento : intentos) {
+            aceptados += intento.get() ? 1 : 0;
+        }
+        assertThat(aceptados).isEqualTo(5);
+        assertThat(difusor.getCantidadSuscriptores()).isEqualTo(5);
+
+        // Al desconectar a los que no consumen se liberan sus lugares
+        difusor.publicar("pedido", Map.of("n", 1));
+        esperar(() -> emitters.stream().allMatch(emitter -> emitter.enEnvio.getCount() == 0));
+        difusor.publicar("pedido", Map.of("n", 2));
+        difusor.publicar("pedido", Map.of("n", 3));
+        assertThat(difusor.getCantidadSuscriptores()).isZero();
+        difusor.suscribir();
+        assertThat(difusor.getCantidadSuscriptores()).isEqualTo(1);
+    }
+
+    private DifusorEventos crearDifusor(int capacidadCola, int maxSuscriptores, PoliticaDesborde politica) {
+        return new DifusorEventos(new ObjectMapper(), capacidadCola, maxSuscriptores, 60_000, politica, meterRegistry) {
+            @Override
+            SseEmitter crearEmitter(long timeoutMs) {
+                EmitterDePrueba emitter = new EmitterDePrueba(timeoutMs);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static List<Integer> numeros(EmitterDePrueba emitter) {
+        List<Integer> numeros = new ArrayList<>();
+        for (String evento : emitter.enviados) {
+            Matcher matcher = NUMERO.matcher(evento);
+            if (matcher.find()) {
+                numeros.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return numeros;
+    }
+
+    private static void esperar(BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(condicion.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Registra lo enviado y retiene cada envío hasta que se libera, como un cliente lento.
+     */
+    private static class EmitterDePrueba extends SseEmitter {
+        private final List<String> enviados = new CopyOnWriteArrayList<>();
+        private final CountDownLatch enEnvio = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        EmitterDePrueba(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            enEnvio.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            StringBuilder texto = new StringBuilder();
+            builder.build().forEach(parte -> texto.append(parte.getData()));
+            enviados.add(texto.toString());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.gersystem.transporte.infrastructure.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GrafoRutasTest {
+
+    // Puntos: 0 = Terminal Norte, 1 = Centro, 2 = Terminal Sur, 3 = Aeropuerto
+    private static final List<GrafoRutas.Arista> ARISTAS = List.of(
+            new GrafoRutas.Arista(1L, "Norte-Centro", 0, 1, 10.0, 30),
+            new GrafoRutas.Arista(2L, "Centro-Sur", 1, 2, 10.0, 30),
+            new GrafoRutas.Arista(3L, "Norte-Sur directa", 0, 2, 25.0, 40),
+            new GrafoRutas.Arista(4L, "Sur-Aeropuerto", 2, 3, 5.0, 10));
+
+    @Test
+    @DisplayName("Debe encadenar rutas minimizando la distancia")
+    void caminoMasCorto_DebeMinimizarDistancia() {
+        GrafoRutas grafo = GrafoRutas.construir(4, ARISTAS);
+
+        GrafoRutas.Camino camino = grafo.caminoMasCorto(0, 3, GrafoRutas.Criterio.DISTANCIA);
+
+        assertThat(camino.getDistanciaKm()).isEqualTo(25.0);
+        assertThat(camino.getTiempoMinutos()).isEqualTo(70);
+        assertThat(camino.getTramos()).extracting(GrafoRutas.Arista::getRutaId).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Debe elegir otro camino cuando se minimiza el tiempo")
+    void caminoMasCorto_DebeMinimizarTiempo() {
+        GrafoRutas grafo = GrafoRutas.construir(4, ARISTAS);
+
+        GrafoRutas.Camino camino = grafo.caminoMasCorto(0, 3, GrafoRutas.Criterio.TIEMPO);
+
+        assertThat(camino.getTiempoMinutos()).isEqualTo(50);
+        assertThat(camino.getDistanciaKm()).isEqualTo(30.0);
+        assertThat(camino.getTramos()).extracting(GrafoRutas.Arista::getRutaId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Las rutas son dirigidas y un punto aislado no es alcanzable")
+    void caminoMasCorto_DebeRespetarSentidoDeLasRutas() {
+        GrafoRutas grafo = GrafoRutas.construir(5, ARISTAS);
+
+        assertThat(grafo.caminoMasCorto(3, 0, GrafoRutas.Criterio.DISTANCIA)).isNull();
+        assertThat(grafo.caminoMasCorto(0, 4, GrafoRutas.Criterio.DISTANCIA)).isNull();
+        assertThat(grafo.caminoMasCorto(0, 9, GrafoRutas.Criterio.DISTANCIA)).isNull();
+        assertThat(grafo.caminoMasCorto(2, 2, GrafoRutas.Criterio.DISTANCIA).getTramos()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con Bellman-Ford en un grafo aleatorio y reutilizar el espacio de búsqueda")
+    void caminoMasCorto_DebeCoincidirConReferencia() {
+        Random random = new Random(42);
+        int puntos = 300;
+        List<GrafoRutas.Arista> aristas = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            aristas.add(new GrafoRutas.Arista(i, "R" + i, random.nextInt(puntos), random.nextInt(puntos),
+                    1 + random.nextInt(100), 1 + random.nextInt(60)));
+        }
+        GrafoRutas grafo = GrafoRutas.construir(puntos, aristas);
+
+        for (int origen = 0; origen < 5; origen++) {
+            double[] referencia = bellmanFord(puntos, aristas, origen);
+            for (int destino = 0; destino < puntos; destino++) {
+                GrafoRutas.Camino camino = grafo.caminoMasCorto(origen, destino, GrafoRutas.Criterio.DISTANCIA);
+                if (Double.isInfinite(referencia[destino])) {
+                    assertThat(camino).isNull();
+                } else {
+                    assertThat(camino.getDistanciaKm()).isCloseTo(referencia[destino], within(1e-9));
+                }
+            }
+        }
+    }
+
+    private static double[] bellmanFord(int puntos, List<GrafoRutas.Arista> aristas, int origen) {
+        double[] costos = new double[puntos];
+        Arrays.fill(costos, Double.POSITIVE_INFINITY);
+        costos[origen] = 0;
+        for (int i = 0; i < puntos - 1; i++) {
+            for (GrafoRutas.Arista arista : aristas) {
+                if (costos[arista.getOrigen()] + arista.getDistanciaKm() < costos[arista.getDestino()]) {
+                    costos[arista.getDestino()] = costos[arista.getOrigen()] + arista.getDistanciaKm();
+                }
+            }
+        }
+        return costos;
+    }
+}
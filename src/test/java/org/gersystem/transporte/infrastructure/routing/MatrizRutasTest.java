@@ -0,0 +1,92 @@
+package org.gersystem.transporte.infrastructure.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatrizRutasTest {
+
+    @Test
+    @DisplayName("Debe reutilizar las filas que una arista nueva no mejora")
+    void actualizar_DebeReutilizarFilasNoAfectadas() {
+        List<GrafoRutas.Arista> aristas = new ArrayList<>(List.of(
+                new GrafoRutas.Arista(1L, "A-B", 0, 1, 10.0, 30),
+                new GrafoRutas.Arista(2L, "C-D", 2, 3, 5.0, 10)));
+        MatrizRutas matriz = MatrizRutas.vacia(GrafoRutas.construir(4, aristas), 10);
+        MatrizRutas.Fila filaA = matriz.fila(0);
+        MatrizRutas.Fila filaC = matriz.fila(2);
+        assertThat(filaA.distanciaHacia(3)).isInfinite();
+
+        GrafoRutas.Arista nueva = new GrafoRutas.Arista(3L, "B-C", 1, 2, 1.0, 1);
+        aristas.add(nueva);
+        MatrizRutas actualizada = matriz.actualizar(GrafoRutas.construir(4, aristas), List.of(), List.of(nueva));
+
+        assertThat(actualizada.fila(2)).isSameAs(filaC);
+        assertThat(actualizada.fila(0)).isNotSameAs(filaA);
+        assertThat(actualizada.fila(0).distanciaHacia(3)).isEqualTo(16.0);
+        assertThat(actualizada.fila(0).tiempoHacia(3)).isEqualTo(41);
+    }
+
+    @Test
+    @DisplayName("Las filas actualizadas incrementalmente deben coincidir con un cálculo completo")
+    void actualizar_DebeCoincidirConRecalculoCompleto() {
+        Random random = new Random(7);
+        int puntos = 60;
+        List<GrafoRutas.Arista> aristas = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            aristas.add(aristaAleatoria(random, i, puntos));
+        }
+        MatrizRutas matriz = MatrizRutas.vacia(GrafoRutas.construir(puntos, aristas), puntos);
+        for (int origen = 0; origen < puntos; origen++) {
+            matriz.fila(origen);
+        }
+
+        for (int cambio = 0; cambio < 200; cambio++) {
+            List<GrafoRutas.Arista> eliminadas = new ArrayList<>();
+            List<GrafoRutas.Arista> agregadas = new ArrayList<>();
+            if (random.nextBoolean() && !aristas.isEmpty()) {
+                eliminadas.add(aristas.remove(random.nextInt(aristas.size())));
+            } else {
+                GrafoRutas.Arista arista = aristaAleatoria(random, 1000 + cambio, puntos);
+                aristas.add(arista);
+                agregadas.add(arista);
+            }
+            GrafoRutas grafo = GrafoRutas.construir(puntos, aristas);
+            matriz = matriz.actualizar(grafo, eliminadas, agregadas);
+
+            MatrizRutas referencia = MatrizRutas.vacia(grafo, puntos);
+            for (int origen = 0; origen < puntos; origen++) {
+                for (int destino = 0; destino < puntos; destino++) {
+                    assertThat(matriz.fila(origen).distanciaHacia(destino))
+                            .isEqualTo(referencia.fila(origen).distanciaHacia(destino));
+                    assertThat(matriz.fila(origen).tiempoHacia(destino))
+                            .isEqualTo(referencia.fila(origen).tiempoHacia(destino));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Por encima del máximo las filas se calculan sin guardarse")
+    void fila_DebeRespetarMaximoDeFilas() {
+        MatrizRutas matriz = MatrizRutas.vacia(GrafoRutas.construir(3, List.of(
+                new GrafoRutas.Arista(1L, "A-B", 0, 1, 10.0, 30))), 1);
+
+        matriz.fila(0);
+        MatrizRutas.Fila sinGuardar = matriz.fila(1);
+
+        assertThat(matriz.getCantidadFilas()).isEqualTo(1);
+        assertThat(sinGuardar.distanciaHacia(1)).isZero();
+        assertThat(sinGuardar.tiempoHacia(0)).isEqualTo(-1);
+    }
+
+    private static GrafoRutas.Arista aristaAleatoria(Random random, long id, int puntos) {
+        return new GrafoRutas.Arista(id, "R" + id, random.nextInt(puntos), random.nextInt(puntos),
+                1 + random.nextInt(50), 1 + random.nextInt(60));
+    }
+}
@@ -0,0 +1,78 @@
+package org.gersystem.transporte.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndiceBusquedaTest {
+
+    private IndiceBusqueda<String> indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceBusqueda<>();
+        indice.indexar(1L, "Juan Pérez", "Juan Pérez");
+        indice.indexar(2L, "María Juana López", "María Juana López");
+        indice.indexar(3L, "Carlos Juárez", "Carlos Juárez");
+        indice.indexar(4L, "Juan", "Juan");
+    }
+
+    @Test
+    @DisplayName("Debe buscar por prefijo de palabra con consultas cortas")
+    void buscar_DebeBuscarPorPrefijoDePalabra() {
+        // Act
+        List<String> resultado = indice.buscar("ju", 10);
+
+        // Assert
+        assertThat(resultado).containsExactly("Juan", "Juan Pérez", "Carlos Juárez", "María Juana López");
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por relevancia ignorando mayúsculas y acentos")
+    void buscar_DebeOrdenarPorRelevancia() {
+        // Act
+        List<String> resultado = indice.buscar("JUAN", 10);
+
+        // Assert
+        assertThat(resultado).containsExactly("Juan", "Juan Pérez", "María Juana López");
+        assertThat(indice.buscar("perez", 10)).containsExactly("Juan Pérez");
+    }
+
+    @Test
+    @DisplayName("Debe encontrar subcadenas en medio del texto")
+    void buscar_DebeEncontrarSubcadenas() {
+        // Act
+        List<String> resultado = indice.buscar("uare", 10);
+
+        // Assert
+        assertThat(resultado).containsExactly("Carlos Juárez");
+        assertThat(indice.buscar("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe respetar el límite de resultados")
+    void buscar_DebeRespetarLimite() {
+        // Act
+        List<String> resultado = indice.buscar("ju", 2);
+
+        // Assert
+        assertThat(resultado).containsExactly("Juan", "Juan Pérez");
+    }
+
+    @Test
+    @DisplayName("Debe reflejar actualizaciones y eliminaciones")
+    void indexar_DebeReflejarActualizacionesYEliminaciones() {
+        // Act
+        indice.indexar(1L, "Pedro Gómez", "Pedro Gómez");
+        indice.eliminar(4L);
+
+        // Assert
+        assertThat(indice.buscar("juan", 10)).containsExactly("María Juana López");
+        assertThat(indice.buscar("gom", 10)).containsExactly("Pedro Gómez");
+        assertThat(indice.tamano()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,57 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ServicioSaturadoException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EjecutorAutenticacionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EjecutorAutenticacion ejecutor = new EjecutorAutenticacion(1, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        ejecutor.close();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar de inmediato cuando el hilo y la cola están ocupados")
+    void ejecutar_DebeRechazarAlSaturarse() throws Exception {
+        // Arrange - Una verificación en curso y otra en cola
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<String> enCurso = ejecutor.ejecutar(() -> {
+            esperar(liberar);
+            return "primero";
+        });
+        CompletableFuture<String> enCola = ejecutor.ejecutar(() -> "segundo");
+
+        // Act & Assert
+        assertThatThrownBy(() -> ejecutor.ejecutar(() -> "tercero"))
+                .isInstanceOf(ServicioSaturadoException.class);
+        assertThat(ejecutor.getTamanoCola()).isEqualTo(1);
+        assertThat(meterRegistry.get("transporte.login.cola").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("transporte.login.rechazados").counter().count()).isEqualTo(1.0);
+
+        liberar.countDown();
+        assertThat(enCurso.get(5, TimeUnit.SECONDS)).isEqualTo("primero");
+        assertThat(enCola.get(5, TimeUnit.SECONDS)).isEqualTo("segundo");
+        assertThat(ejecutor.ejecutar(() -> "cuarto").get(5, TimeUnit.SECONDS)).isEqualTo("cuarto");
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimitadorTasaTest {
+
+    private final AtomicLong reloj = new AtomicLong();
+
+    @Test
+    @DisplayName("Debe aceptar la ráfaga configurada y reponer tokens con el tiempo")
+    void intentar_DebeRespetarCapacidadYReposicion() {
+        // 3 de ráfaga, 60 por minuto: un token por segundo
+        LimitadorTasa limitador = new LimitadorTasa(3, 60, 1024, reloj::get);
+
+        assertThat(limitador.intentar(7L)).isZero();
+        assertThat(limitador.intentar(7L)).isZero();
+        assertThat(limitador.intentar(7L)).isZero();
+        assertThat(limitador.intentar(7L)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        // Otra clave tiene su propia cubeta
+        assertThat(limitador.intentar(8L)).isZero();
+
+        reloj.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limitador.intentar(7L)).isZero();
+        assertThat(limitador.intentar(7L)).isPositive();
+
+        // Tras una pausa larga la cubeta se llena, pero no por encima de su capacidad
+        reloj.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        for (int i = 0; i < 3; i++) {
+            assertThat(limitador.intentar(7L)).isZero();
+        }
+        assertThat(limitador.intentar(7L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Con accesos concurrentes no debe aceptar más solicitudes que la capacidad")
+    void intentar_DebeSerSeguroEntreHilos() throws Exception {
+        LimitadorTasa limitador = new LimitadorTasa(100, 1, 16, reloj::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch inicio = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (int hilo = 0; hilo < 8; hilo++) {
+                resultados.add(executor.submit(() -> {
+                    inicio.await();
+                    int aceptadas = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (limitador.intentar(42L) == 0) {
+                            aceptadas++;
+                        }
+                    }
+                    return aceptadas;
+                }));
+            }
+            inicio.countDown();
+
+            int total = 0;
+            for (Future<Integer> resultado : resultados) {
+                total += resultado.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("La tabla debe redondearse a una potencia de dos")
+    void constructor_DebeRedondearRanuras() {
+        assertThat(new LimitadorTasa(1, 1, 1000, reloj::get).getRanuras()).isEqualTo(1024);
+        assertThat(new LimitadorTasa(1, 1, 1, reloj::get).getRanuras()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,44 @@
+package org.gersystem.transporte.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.LimiteTasaExcedidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LimiteIntentosLoginTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Debe limitar por cuenta sin afectar a otras cuentas detrás de la misma IP")
+    void registrarIntento_DebeLimitarPorCuentaEIp() {
+        LimiteIntentosLogin limite = new LimiteIntentosLogin(true, 2, 1, 1024, meterRegistry);
+
+        limite.registrarIntento("chofer1", "10.0.0.1");
+        limite.registrarIntento("CHOFER1 ", "10.0.0.1");
+        assertThatThrownBy(() -> limite.registrarIntento("chofer1", "10.0.0.1"))
+                .isInstanceOf(LimiteTasaExcedidoException.class)
+                .extracting(e -> ((LimiteTasaExcedidoException) e).getSegundosEspera())
+                .isEqualTo(60L);
+        assertThat(meterRegistry.get("transporte.limite_tasa.rechazos").tag("regla", "login-cuenta").counter().count())
+                .isEqualTo(1.0);
+
+        // Otro conductor del mismo depósito y la misma cuenta desde otra IP siguen entrando
+        assertThatCode(() -> limite.registrarIntento("chofer2", "10.0.0.1")).doesNotThrowAnyException();
+        assertThatCode(() -> limite.registrarIntento("chofer1", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Deshabilitado no debe limitar")
+    void registrarIntento_DeshabilitadoNoDebeLimitar() {
+        LimiteIntentosLogin limite = new LimiteIntentosLogin(false, 1, 1, 1024, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            limite.registrarIntento("chofer1", "10.0.0.1");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.application.EstadisticasService;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoArchivadoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.domain.service.EstadisticasDomainService;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.RankingConductorDTO;
+import org.gersystem.transporte.infrastructure.archivo.ArchivadorPedidos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "transporte.pedidos.archivo.dias=90",
+        "transporte.pedidos.archivo.tamano-tramo=2",
+        "transporte.pedidos.archivo.pausa-ms=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ArchivoPedidosIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ArchivadorPedidos archivadorPedidos;
+
+    @Autowired
+    private EstadisticasDomainService estadisticasDomainService;
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private PedidoArchivadoRepository pedidoArchivadoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe archivar los pedidos cerrados antiguos sin alterar totales ni búsquedas por fecha")
+    void archivar_DebeMoverPedidosCerradosAntiguos() throws Exception {
+        // Arrange - Tres entregados y un cancelado antiguos, y un pendiente
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Perez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        vehiculo = vehiculoRepository.save(vehiculo);
+
+        Pedido entregado = null;
+        for (EstadoPedido estado : List.of(EstadoPedido.ENTREGADO, EstadoPedido.ENTREGADO,
+                EstadoPedido.ENTREGADO, EstadoPedido.CANCELADO)) {
+            Pedido pedido = guardarPedido(vehiculo, conductor, estado);
+            entregado = entregado == null ? pedido : entregado;
+        }
+        Pedido pendiente = guardarPedido(vehiculo, conductor, EstadoPedido.PENDIENTE);
+        Timestamp antiguo = Timestamp.valueOf(LocalDateTime.now().minusDays(200));
+        jdbcTemplate.update("UPDATE pedido SET created_date = ?, last_modified_date = ? WHERE estado <> 'PENDIENTE'",
+                antiguo, antiguo);
+
+        // Act
+        archivadorPedidos.archivar();
+
+        // Assert - Solo queda el pendiente y los totales incluyen lo archivado
+        assertThat(pedidoRepository.findAll()).extracting(Pedido::getId).containsExactly(pendiente.getId());
+        assertThat(pedidoArchivadoRepository.count()).isEqualTo(4);
+
+        EstadisticasDomainService.ResumenEstadisticas resumen = estadisticasDomainService.obtenerResumen();
+        assertThat(resumen.getTotalPedidos()).isEqualTo(5);
+        assertThat(resumen.getPedidosEntregados()).isEqualTo(3);
+        assertThat(resumen.getPedidosCancelados()).isEqualTo(1);
+        assertThat(resumen.getPesoTotalTransportado()).isEqualByComparingTo("300.00");
+        assertThat(estadisticasDomainService.obtenerEstadisticasConductor(conductor.getId())
+                .getTotalPedidosEntregados()).isEqualTo(3);
+
+        LocalDateTime desde = LocalDateTime.now().minusDays(300);
+        List<RankingConductorDTO> ranking = estadisticasService.obtenerRankingConductores(10, desde);
+        assertThat(ranking).hasSize(1);
+        assertThat(ranking.get(0).getPedidosEntregados()).isEqualTo(3);
+        assertThat(ranking.get(0).getPesoEntregado()).isEqualByComparingTo("300.00");
+
+        // Un archivado se sigue obteniendo por id
+        JsonNode archivado = obtener("/api/v1/pedidos/" + entregado.getId());
+        assertThat(archivado.get("estado").asText()).isEqualTo("ENTREGADO");
+        assertThat(archivado.get("vehiculo").get("placa").asText()).isEqualTo("ABC123");
+
+        // Con un inicio posterior al horizonte solo se consultan los vigentes; con uno antiguo, también el archivo
+        assertThat(obtener("/api/v1/pedidos?fechaInicio=" + LocalDateTime.now().minusDays(30))
+                .get("totalElements").asLong()).isEqualTo(1);
+        Set<Long> ids = new HashSet<>();
+        for (int pagina = 0; pagina < 3; pagina++) {
+            JsonNode respuesta = obtener("/api/v1/pedidos?size=2&page=" + pagina + "&fechaInicio=" + desde);
+            assertThat(respuesta.get("totalElements").asLong()).isEqualTo(5);
+            respuesta.get("content").forEach(pedido -> ids.add(pedido.get("id").asLong()));
+            if (pagina == 0) {
+                assertThat(respuesta.get("content").get(0).get("id").asLong()).isEqualTo(pendiente.getId());
+            }
+        }
+        assertThat(ids).hasSize(5);
+        assertThat(obtener("/api/v1/pedidos?fields=id,estado&estado=ENTREGADO&fechaInicio=" + desde)
+                .get("totalElements").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Una búsqueda sin fechas debe incluir los archivados solo si se piden")
+    void buscar_SinFechas_DebeIncluirArchivadosSoloSiSePiden() throws Exception {
+        // Arrange - Dos entregados archivados y uno pendiente vigente
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Perez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        vehiculo = vehiculoRepository.save(vehiculo);
+
+        guardarPedido(vehiculo, conductor, EstadoPedido.ENTREGADO);
+        guardarPedido(vehiculo, conductor, EstadoPedido.ENTREGADO);
+        guardarPedido(vehiculo, conductor, EstadoPedido.PENDIENTE);
+        Timestamp antiguo = Timestamp.valueOf(LocalDateTime.now().minusDays(200));
+        jdbcTemplate.update("UPDATE pedido SET created_date = ?, last_modified_date = ? WHERE estado <> 'PENDIENTE'",
+                antiguo, antiguo);
+        archivadorPedidos.archivar();
+        assertThat(pedidoArchivadoRepository.count()).isEqualTo(2);
+
+        // Act & Assert - Por defecto solo los vigentes
+        assertThat(obtener("/api/v1/pedidos").get("totalElements").asLong()).isEqualTo(1);
+
+        // Con incluirArchivados el total sale de los totales acumulados, también con la página completa
+        assertThat(obtener("/api/v1/pedidos?incluirArchivados=true").get("totalElements").asLong()).isEqualTo(3);
+        JsonNode primera = obtener("/api/v1/pedidos?incluirArchivados=true&size=1");
+        assertThat(primera.get("totalElements").asLong()).isEqualTo(3);
+        assertThat(primera.get("content")).hasSize(1);
+        JsonNode entregados = obtener("/api/v1/pedidos?incluirArchivados=true&estado=ENTREGADO&conductorId="
+                + conductor.getId());
+        assertThat(entregados.get("totalElements").asLong()).isEqualTo(2);
+        entregados.get("content").forEach(pedido ->
+                assertThat(pedido.get("estado").asText()).isEqualTo("ENTREGADO"));
+        assertThat(obtener("/api/v1/pedidos?fields=id,estado&incluirArchivados=true&estado=ENTREGADO&conductorId="
+                + conductor.getId()).get("totalElements").asLong()).isEqualTo(2);
+        // Un estado abierto nunca está archivado
+        assertThat(obtener("/api/v1/pedidos?incluirArchivados=true&estado=PENDIENTE")
+                .get("totalElements").asLong()).isEqualTo(1);
+    }
+
+    private Pedido guardarPedido(Vehiculo vehiculo, Conductor conductor, EstadoPedido estado) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido " + estado);
+        pedido.setPeso(new BigDecimal("100.00"));
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedido.setEstado(estado);
+        return pedidoRepository.save(pedido);
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String cuerpo = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(cuerpo);
+    }
+}
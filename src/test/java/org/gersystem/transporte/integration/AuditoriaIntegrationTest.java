@@ -0,0 +1,133 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.application.PedidoApplicationService;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.RegistroAuditoriaRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "transporte.auditoria.intervalo-ms=50")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "operador", roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AuditoriaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PedidoApplicationService pedidoApplicationService;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    @Test
+    @DisplayName("Debe registrar con el usuario autenticado los cambios de estado y de conductor")
+    void cambios_DebenQuedarEnElHistorial() throws Exception {
+        // Arrange
+        LocalDateTime inicio = LocalDateTime.now().minusMinutes(1);
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Perez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo = vehiculoRepository.save(vehiculo);
+
+        // Act - Asignación de conductor, alta del pedido y cambio de estado
+        vehiculo.setConductor(conductor);
+        vehiculo = vehiculoRepository.save(vehiculo);
+        // Guardar sin cambios no debe registrar otra reasignación
+        vehiculoRepository.save(vehiculo);
+
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido de prueba");
+        pedido.setPeso(new BigDecimal("100.00"));
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedido = pedidoRepository.save(pedido);
+        pedidoApplicationService.actualizarEstadoPedido(pedido.getId(), EstadoPedido.EN_PROCESO);
+
+        // Assert
+        long limite = System.currentTimeMillis() + 5000;
+        while (registroAuditoriaRepository.count() < 3 && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        JsonNode pagina = obtener("/api/v1/auditoria?desde=" + inicio + "&hasta=" + LocalDateTime.now().plusMinutes(1));
+        JsonNode registros = pagina.get("content");
+
+        assertThat(pagina.get("totalElements").asLong()).isEqualTo(3);
+        assertThat(registros.get(0).get("campo").asText()).isEqualTo("estado");
+        assertThat(registros.get(0).get("valorAnterior").asText()).isEqualTo("PENDIENTE");
+        assertThat(registros.get(0).get("valorNuevo").asText()).isEqualTo("EN_PROCESO");
+        assertThat(registros.get(0).get("usuario").asText()).isEqualTo("operador");
+        assertThat(registros.get(2).get("entidad").asText()).isEqualTo("VEHICULO");
+        assertThat(registros.get(2).get("valorAnterior").isNull()).isTrue();
+        assertThat(registros.get(2).get("valorNuevo").asLong()).isEqualTo(conductor.getId());
+
+        JsonNode delVehiculo = obtener("/api/v1/auditoria?entidad=VEHICULO&entidadId=" + vehiculo.getId()
+                + "&desde=" + inicio + "&hasta=" + LocalDateTime.now().plusMinutes(1));
+        assertThat(delVehiculo.get("totalElements").asLong()).isEqualTo(1);
+        assertThat(pedidoRepository.findById(pedido.getId()).orElseThrow().getLastModifiedBy()).isEqualTo("operador");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar rangos invertidos o demasiado amplios")
+    void consultar_DebeValidarRango() throws Exception {
+        mockMvc.perform(get("/api/v1/auditoria")
+                        .param("desde", "2026-02-01T00:00:00")
+                        .param("hasta", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/auditoria")
+                        .param("desde", "2025-01-01T00:00:00")
+                        .param("hasta", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String cuerpo = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(cuerpo);
+    }
+}
@@ -0,0 +1,120 @@
+package org.gersystem.transporte.integration;
+
+import org.gersystem.transporte.domain.model.Rol;
+import org.gersystem.transporte.domain.model.Usuario;
+import org.gersystem.transporte.domain.repository.UsuarioRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.JwtAuthenticationResponseDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.LoginRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "transporte.seguridad.bcrypt.fuerza=5",
+                "transporte.limite-tasa.login.cuenta.capacidad=2",
+                "transporte.limite-tasa.login.cuenta.por-minuto=1",
+                "jwt.secret=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970"
+        })
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AutenticacionIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        // Contraseña cifrada con una fuerza menor a la configurada
+        usuario = new Usuario();
+        usuario.setUsername("chofer");
+        usuario.setEmail("chofer@example.com");
+        usuario.setNombre("Chofer");
+        usuario.setPassword(new BCryptPasswordEncoder(4).encode("clave123"));
+        usuario.setRoles(List.of(Rol.CLIENTE));
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    @DisplayName("El inicio de sesión debe emitir tokens y recalcular el hash con la fuerza configurada")
+    void login_DebeRecalcularHashConFuerzaConfigurada() {
+        // Act
+        ResponseEntity<JwtAuthenticationResponseDTO> response = restTemplate.postForEntity(
+                "/api/v1/auth/login", login("chofer", "clave123"), JwtAuthenticationResponseDTO.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getAccessToken()).isNotBlank();
+        assertThat(response.getBody().getRefreshToken()).isNotBlank();
+        String hash = usuarioRepository.findById(usuario.getId()).orElseThrow().getPassword();
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("clave123", hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Credenciales inválidas deben rechazarse sin modificar el hash")
+    void login_DebeRechazarCredencialesInvalidas() {
+        String hashOriginal = usuario.getPassword();
+
+        assertThatThrownBy(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("chofer", "incorrecta")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPassword()).isEqualTo(hashOriginal);
+    }
+
+    @Test
+    @DisplayName("Los intentos deben limitarse por cuenta sin bloquear a otros usuarios de la misma IP")
+    void login_DebeLimitarIntentosPorCuenta() {
+        Usuario otro = new Usuario();
+        otro.setUsername("chofer2");
+        otro.setEmail("chofer2@example.com");
+        otro.setNombre("Chofer 2");
+        otro.setPassword(new BCryptPasswordEncoder(4).encode("clave456"));
+        otro.setRoles(List.of(Rol.CLIENTE));
+        usuarioRepository.save(otro);
+
+        // Cada intento consume de la cubeta de la cuenta, acierte o no la contraseña
+        for (int i = 0; i < 2; i++) {
+            assertThat(restTemplate.postForEntity("/api/v1/auth/login", login("chofer", "clave123"), String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+        ResponseEntity<String> rechazada = restTemplate.postForEntity(
+                "/api/v1/auth/login", login("chofer", "clave123"), String.class);
+        assertThat(rechazada.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rechazada.getHeaders().getFirst("Retry-After")).isEqualTo("60");
+
+        assertThat(restTemplate.postForEntity("/api/v1/auth/login", login("chofer2", "clave456"),
+                JwtAuthenticationResponseDTO.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private LoginRequestDTO login(String usuario, String password) {
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setUsernameOrEmail(usuario);
+        request.setPassword(password);
+        return request;
+    }
+}
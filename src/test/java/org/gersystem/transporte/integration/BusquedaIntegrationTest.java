@@ -0,0 +1,83 @@
+package org.gersystem.transporte.integration;
+
+import org.gersystem.transporte.application.BusquedaService;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.ResultadoBusquedaDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BusquedaIntegrationTest {
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Test
+    @DisplayName("El índice de conductores debe seguir las altas, cambios y desactivaciones")
+    void indiceConductores_DebeSincronizarseConEscrituras() {
+        // Arrange
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        // Assert alta
+        assertThat(busquedaService.buscarConductores("jua", 10))
+                .extracting(ResultadoBusquedaDTO::getId)
+                .containsExactly(conductor.getId());
+
+        // Act cambio de nombre
+        conductor.setNombre("Pedro Gómez");
+        conductor = conductorRepository.save(conductor);
+
+        assertThat(busquedaService.buscarConductores("jua", 10)).isEmpty();
+        assertThat(busquedaService.buscarConductores("gomez", 10))
+                .extracting(ResultadoBusquedaDTO::getDetalle)
+                .containsExactly("A12345");
+
+        // Act desactivación
+        conductor.setActivo(false);
+        conductorRepository.save(conductor);
+
+        assertThat(busquedaService.buscarConductores("gomez", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("El índice de vehículos debe encontrar placas por fragmento")
+    void indiceVehiculos_DebeEncontrarPlacasPorFragmento() {
+        // Arrange
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo = vehiculoRepository.save(vehiculo);
+
+        // Act & Assert
+        assertThat(busquedaService.buscarVehiculos("c12", 10))
+                .extracting(ResultadoBusquedaDTO::getTexto)
+                .containsExactly("ABC123");
+        assertThat(busquedaService.buscarVehiculos("ab", 10))
+                .extracting(ResultadoBusquedaDTO::getId)
+                .containsExactly(vehiculo.getId());
+    }
+}
@@ -0,0 +1,112 @@
+package org.gersystem.transporte.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CacheSegundoNivelIntegrationTest {
+
+    private static final String REGION_VEHICULO = Vehiculo.class.getName();
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+    }
+
+    @Test
+    @DisplayName("findById repetido en transacciones distintas debe resolverse desde la caché de segundo nivel")
+    void findById_DebeUsarCacheDeSegundoNivel() {
+        Long id = crearVehiculo("ABC123", "1000.00");
+        estadisticas.clear();
+
+        // Con IDENTITY el alta no puebla la caché: la primera lectura va a la base y la guarda
+        transactionTemplate.execute(estado -> vehiculoRepository.findById(id).orElseThrow());
+        transactionTemplate.execute(estado -> vehiculoRepository.findById(id).orElseThrow());
+        transactionTemplate.execute(estado -> vehiculoRepository.findById(id).orElseThrow());
+
+        assertThat(estadisticas.getEntityStatistics(REGION_VEHICULO).getLoadCount()).isEqualTo(1);
+        assertThat(estadisticas.getDomainDataRegionStatistics(REGION_VEHICULO).getHitCount()).isEqualTo(2);
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", REGION_VEHICULO).tag("result", "hit").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Una actualización debe reflejarse en la siguiente lectura cacheada")
+    void actualizar_DebeInvalidarEntradaCacheada() {
+        Long id = crearVehiculo("ABC123", "1000.00");
+        transactionTemplate.execute(estado -> vehiculoRepository.findById(id).orElseThrow());
+
+        transactionTemplate.execute(estado -> {
+            Vehiculo vehiculo = vehiculoRepository.findById(id).orElseThrow();
+            vehiculo.setCapacidad(new BigDecimal("2500.00"));
+            return vehiculoRepository.save(vehiculo);
+        });
+
+        Vehiculo leido = transactionTemplate.execute(estado -> vehiculoRepository.findById(id).orElseThrow());
+        assertThat(leido.getCapacidad()).isEqualByComparingTo("2500.00");
+    }
+
+    @Test
+    @DisplayName("findByPlaca debe usar la caché de consultas y reflejar cambios de placa")
+    void findByPlaca_DebeUsarCacheDeConsultas() {
+        Long id = crearVehiculo("ABC123", "1000.00");
+        estadisticas.clear();
+
+        transactionTemplate.execute(estado -> vehiculoRepository.findByPlaca("ABC123").orElseThrow());
+        transactionTemplate.execute(estado -> vehiculoRepository.findByPlaca("ABC123").orElseThrow());
+        assertThat(estadisticas.getQueryCacheHitCount()).isEqualTo(1);
+
+        transactionTemplate.execute(estado -> {
+            Vehiculo vehiculo = vehiculoRepository.findById(id).orElseThrow();
+            vehiculo.setPlaca("XYZ789");
+            return vehiculoRepository.save(vehiculo);
+        });
+
+        Optional<Vehiculo> placaAnterior = transactionTemplate.execute(estado -> vehiculoRepository.findByPlaca("ABC123"));
+        Optional<Vehiculo> placaNueva = transactionTemplate.execute(estado -> vehiculoRepository.findByPlaca("XYZ789"));
+        assertThat(placaAnterior).isEmpty();
+        assertThat(placaNueva).isPresent();
+    }
+
+    private Long crearVehiculo(String placa, String capacidad) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal(capacidad));
+        vehiculo.setActivo(true);
+        return vehiculoRepository.save(vehiculo).getId();
+    }
+}
@@ -0,0 +1,197 @@
+package org.gersystem.transporte.integration;
+
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.RutaRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConsultaCondicionalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private RutaRepository rutaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("El vehículo debe responder 304 hasta que cambie él o su conductor")
+    void obtenerVehiculo_DebeResponderNoModificado() throws Exception {
+        // Arrange
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+        Vehiculo vehiculo = crearVehiculo("ABC123");
+        vehiculo.setConductor(conductor);
+        vehiculo = vehiculoRepository.save(vehiculo);
+        String url = "/api/v1/vehiculos/" + vehiculo.getId();
+
+        MvcResult primera = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String etag = primera.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"v" + vehiculo.getId());
+
+        // Act & Assert - Misma versión
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Act & Assert - Cambia el conductor asignado
+        conductor.setNombre("Juan Pablo Gomez");
+        conductorRepository.save(conductor);
+        MvcResult segunda = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(segunda.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(segunda.getResponse().getContentAsString()).contains("Juan Pablo Gomez");
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since debe considerar la fecha de modificación del conductor asignado")
+    void obtenerVehiculo_DebeConsiderarModificacionDelConductor() throws Exception {
+        // Arrange
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        vehiculo = vehiculoRepository.save(vehiculo);
+        // Last-Modified tiene precisión de segundos: se retrocede la fecha (las altas
+        // no pasan por la caché de segundo nivel) para que el cambio la supere
+        LocalDateTime haceUnaHora = LocalDateTime.now().minusHours(1);
+        jdbcTemplate.update("UPDATE conductor SET last_modified_date = ?", haceUnaHora);
+        jdbcTemplate.update("UPDATE vehiculo SET last_modified_date = ?", haceUnaHora);
+        String url = "/api/v1/vehiculos/" + vehiculo.getId();
+
+        String ultimaModificacion = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, ultimaModificacion))
+                .andExpect(status().isNotModified());
+
+        // Act - Cambia solo el conductor
+        conductor.setLicencia("B67890");
+        conductorRepository.save(conductor);
+
+        // Assert
+        mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, ultimaModificacion))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("B67890")));
+    }
+
+    @Test
+    @DisplayName("La lista de vehículos libres debe cambiar de ETag al asignar uno")
+    void obtenerVehiculosLibres_DebeResponderNoModificado() throws Exception {
+        // Arrange
+        crearVehiculo("ABC123");
+        Vehiculo vehiculo = crearVehiculo("DEF456");
+        String etag = mockMvc.perform(get("/api/v1/vehiculos/libres"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/vehiculos/libres").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act - El vehículo deja de estar libre
+        vehiculo.setActivo(false);
+        vehiculoRepository.save(vehiculo);
+
+        // Assert
+        mockMvc.perform(get("/api/v1/vehiculos/libres").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("DEF456"))));
+    }
+
+    @Test
+    @DisplayName("La lista de rutas debe usar la versión de la colección como ETag")
+    void listarRutas_DebeResponderNoModificado() throws Exception {
+        // Arrange
+        Ruta ruta = rutaRepository.save(crearRuta("Norte-Sur"));
+        String url = "/api/v1/rutas?sort=id";
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"rutas-");
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        ruta.setActiva(false);
+        rutaRepository.save(ruta);
+
+        // Assert
+        MvcResult resultado = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(resultado.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    private Vehiculo crearVehiculo(String placa) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private Ruta crearRuta(String nombre) {
+        Ruta ruta = new Ruta();
+        ruta.setNombre(nombre);
+        ruta.setPuntoOrigen("Terminal Norte");
+        ruta.setPuntoDestino("Terminal Sur");
+        ruta.setDistanciaKm(25.5);
+        ruta.setTiempoEstimadoMinutos(45);
+        ruta.setActiva(true);
+        return ruta;
+    }
+}
@@ -0,0 +1,149 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.application.EntregasConductorService;
+import org.gersystem.transporte.application.PedidoApplicationService;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "CONDUCTOR")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EntregasConductorIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntregasConductorService entregasConductorService;
+
+    @Autowired
+    private PedidoApplicationService pedidoApplicationService;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Test
+    @DisplayName("Debe devolver las entregas activas del conductor y luego solo los cambios")
+    void obtenerEntregasActivas_DebeDevolverCambiosDesdeVersion() throws Exception {
+        // Arrange
+        Conductor conductor = crearConductor();
+        Vehiculo vehiculo = crearVehiculo(conductor);
+        Pedido primero = crearPedido("100.00", vehiculo, conductor);
+        crearPedido("50.00", vehiculo, null);
+
+        // Act - Lista inicial
+        JsonNode inicial = obtener("/api/v1/conductores/" + conductor.getId() + "/entregas");
+
+        assertThat(inicial.get("completo").asBoolean()).isTrue();
+        assertThat(inicial.get("pedidos")).hasSize(1);
+        assertThat(inicial.get("pedidos").get(0).get("id").asLong()).isEqualTo(primero.getId());
+
+        // Act - Un pedido avanza, llega otro y luego el primero se entrega
+        pedidoApplicationService.actualizarEstadoPedido(primero.getId(), EstadoPedido.EN_PROCESO);
+        Pedido segundo = crearPedido("70.00", vehiculo, conductor);
+        JsonNode delta = obtener("/api/v1/conductores/" + conductor.getId() + "/entregas?since="
+                + inicial.get("version").asLong());
+
+        assertThat(delta.get("completo").asBoolean()).isFalse();
+        assertThat(delta.get("pedidos")).hasSize(2);
+        assertThat(delta.get("pedidos").get(0).get("estado").asText()).isEqualTo("EN_PROCESO");
+        assertThat(delta.get("pedidos").get(1).get("id").asLong()).isEqualTo(segundo.getId());
+
+        pedidoApplicationService.actualizarEstadoPedido(primero.getId(), EstadoPedido.ENTREGADO);
+        JsonNode entrega = obtener("/api/v1/conductores/" + conductor.getId() + "/entregas?since="
+                + delta.get("version").asLong());
+
+        // Assert
+        assertThat(entrega.get("pedidos")).isEmpty();
+        assertThat(entrega.get("retirados")).hasSize(1);
+        assertThat(entrega.get("retirados").get(0).asLong()).isEqualTo(primero.getId());
+    }
+
+    @Test
+    @DisplayName("La carga inicial debe indexar solo los pedidos activos con conductor")
+    void cargarIndice_DebeIndexarPedidosActivos() {
+        // Arrange
+        Conductor conductor = crearConductor();
+        Vehiculo vehiculo = crearVehiculo(conductor);
+        Pedido activo = crearPedido("100.00", vehiculo, conductor);
+        Pedido entregado = crearPedido("80.00", vehiculo, conductor);
+        entregado.setEstado(EstadoPedido.ENTREGADO);
+        pedidoRepository.save(entregado);
+
+        // Act
+        entregasConductorService.cargarIndice();
+
+        // Assert
+        assertThat(entregasConductorService.obtenerEntregasActivas(conductor.getId(), null).getPedidos())
+                .extracting("id")
+                .containsExactly(activo.getId());
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String cuerpo = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(cuerpo);
+    }
+
+    private Conductor crearConductor() {
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        return conductorRepository.save(conductor);
+    }
+
+    private Vehiculo crearVehiculo(Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private Pedido crearPedido(String peso, Vehiculo vehiculo, Conductor conductor) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido de prueba");
+        pedido.setPeso(new BigDecimal(peso));
+        pedido.setEstado(EstadoPedido.PENDIENTE);
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        return pedidoRepository.save(pedido);
+    }
+}
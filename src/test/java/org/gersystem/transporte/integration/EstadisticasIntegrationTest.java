@@ -0,0 +1,168 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.application.EstadisticasService;
+import org.gersystem.transporte.domain.model.*;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.EstadisticasConductorDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EstadisticasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    private Conductor conductorActivo;
+
+    @BeforeEach
+    void setUp() {
+        conductorActivo = crearConductor("Juan Pérez", "A12345", true);
+        crearConductor("María García", "B67890", false);
+
+        Vehiculo vehiculo = crearVehiculo("ABC123", true, conductorActivo);
+        crearVehiculo("DEF456", true, null);
+        crearVehiculo("GHI789", false, null);
+
+        crearPedido("100.00", EstadoPedido.ENTREGADO, vehiculo, conductorActivo);
+        crearPedido("250.00", EstadoPedido.ENTREGADO, vehiculo, conductorActivo);
+        crearPedido("80.00", EstadoPedido.EN_PROCESO, vehiculo, conductorActivo);
+        crearPedido("40.00", EstadoPedido.CANCELADO, vehiculo, conductorActivo);
+    }
+
+    @Test
+    @DisplayName("Los endpoints de estadísticas generales y resumen deben coincidir")
+    void estadisticasGeneralesYResumen_DebenCoincidir() throws Exception {
+        // Act
+        JsonNode generales = obtener("/api/v1/estadisticas/generales");
+        JsonNode resumen = obtener("/api/v1/estadisticas/resumen");
+
+        // Assert
+        assertThat(generales.get("totalConductores").asLong())
+                .isEqualTo(resumen.get("totalConductores").asLong()).isEqualTo(2L);
+        assertThat(generales.get("conductoresActivos").asLong())
+                .isEqualTo(resumen.get("conductoresActivos").asLong()).isEqualTo(1L);
+        assertThat(generales.get("totalVehiculos").asLong())
+                .isEqualTo(resumen.get("totalVehiculos").asLong()).isEqualTo(3L);
+        assertThat(generales.get("vehiculosActivos").asLong())
+                .isEqualTo(resumen.get("vehiculosActivos").asLong()).isEqualTo(2L);
+        assertThat(generales.get("pedidosCompletados").asLong())
+                .isEqualTo(resumen.get("pedidosEntregados").asLong()).isEqualTo(2L);
+        assertThat(generales.get("pedidosCancelados").asLong()).isEqualTo(1L);
+        assertThat(generales.get("pedidosMesActual").asLong())
+                .isEqualTo(resumen.get("totalPedidos").asLong()).isEqualTo(4L);
+        assertThat(resumen.get("pedidosEnProceso").asLong()).isEqualTo(1L);
+        assertThat(resumen.get("pesoTotalTransportado").decimalValue()).isEqualByComparingTo("350.00");
+        assertThat(resumen.get("totalConductoresSinVehiculos").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Las estadísticas por conductor deben coincidir entre endpoint y servicio")
+    void estadisticasConductor_DebenCoincidir() throws Exception {
+        // Act
+        JsonNode endpoint = obtener("/api/v1/estadisticas/conductores/" + conductorActivo.getId());
+        EstadisticasConductorDTO servicio = estadisticasService.obtenerEstadisticasConductor(conductorActivo.getId());
+
+        // Assert
+        assertThat(endpoint.get("totalPedidosEntregados").asLong())
+                .isEqualTo(servicio.getTotalPedidosEntregados()).isEqualTo(2L);
+        assertThat(endpoint.get("pedidosEntregadosMes").asLong())
+                .isEqualTo(servicio.getPedidosEntregadosMes()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Las estadísticas cacheadas deben renovarse al confirmarse cambios de pedidos, vehículos y conductores")
+    void estadisticas_DebenRenovarseConCambios() throws Exception {
+        // Arrange - Cargar las cachés
+        assertThat(obtener("/api/v1/estadisticas/resumen").get("totalPedidos").asLong()).isEqualTo(4L);
+        assertThat(estadisticasService.obtenerEstadisticasConductor(conductorActivo.getId())
+                .getTotalPedidosEntregados()).isEqualTo(2L);
+        Vehiculo vehiculo = vehiculoRepository.findByPlaca("ABC123").orElseThrow();
+
+        // Act
+        crearPedido("60.00", EstadoPedido.ENTREGADO, vehiculo, conductorActivo);
+        crearVehiculo("JKL012", true, null);
+        crearConductor("Ana Ruiz", "C13579", true);
+
+        // Assert
+        JsonNode resumen = obtener("/api/v1/estadisticas/resumen");
+        assertThat(resumen.get("totalPedidos").asLong()).isEqualTo(5L);
+        assertThat(resumen.get("totalVehiculos").asLong()).isEqualTo(4L);
+        assertThat(resumen.get("totalConductores").asLong()).isEqualTo(3L);
+        assertThat(estadisticasService.obtenerEstadisticasConductor(conductorActivo.getId())
+                .getTotalPedidosEntregados()).isEqualTo(3L);
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String contenido = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(contenido);
+    }
+
+    private Conductor crearConductor(String nombre, String licencia, boolean activo) {
+        Conductor conductor = new Conductor();
+        conductor.setNombre(nombre);
+        conductor.setLicencia(licencia);
+        conductor.setActivo(activo);
+        return conductorRepository.save(conductor);
+    }
+
+    private Vehiculo crearVehiculo(String placa, boolean activo, Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(activo);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private void crearPedido(String peso, EstadoPedido estado, Vehiculo vehiculo, Conductor conductor) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido de prueba");
+        pedido.setPeso(new BigDecimal(peso));
+        pedido.setEstado(estado);
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedidoRepository.save(pedido);
+    }
+}
@@ -0,0 +1,67 @@
+package org.gersystem.transporte.integration;
+
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EventosIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Test
+    @DisplayName("Debe enviar por SSE los cambios confirmados de la flota")
+    void suscribir_DebeRecibirCambiosDeVehiculos() throws Exception {
+        // Arrange
+        MvcResult resultado = mockMvc.perform(get("/api/v1/eventos").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca("SSE123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculoRepository.save(vehiculo);
+
+        // Assert
+        MockHttpServletResponse respuesta = resultado.getResponse();
+        long limite = System.currentTimeMillis() + 5000;
+        while (!respuesta.getContentAsString(StandardCharsets.UTF_8).contains("SSE123")
+                && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        String cuerpo = respuesta.getContentAsString(StandardCharsets.UTF_8);
+        assertThat(respuesta.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(cuerpo).contains("event:vehiculo");
+        assertThat(cuerpo).contains("\"placa\":\"SSE123\"");
+    }
+}
@@ -1,26 +1,38 @@
 package org.gersystem.transporte.integration;
 
+import org.gersystem.transporte.application.MantenimientoPredictivoService;
+import org.gersystem.transporte.application.exception.BusinessException;
 import org.gersystem.transporte.domain.model.*;
 import org.gersystem.transporte.domain.repository.MantenimientoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
 import org.gersystem.transporte.domain.repository.VehiculoRepository;
 import org.gersystem.transporte.domain.service.MantenimientoDomainService;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.DesgasteVehiculoDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 @ActiveProfiles("test")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class MantenimientoIntegrationTest {
@@ -34,6 +46,15 @@ class MantenimientoIntegrationTest {
     @Autowired
     private VehiculoRepository vehiculoRepository;
 
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private MantenimientoPredictivoService mantenimientoPredictivoService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
     private Vehiculo vehiculo;
     private Mantenimiento mantenimiento;
     private String fechaProgramada;
@@ -165,4 +186,125 @@ class MantenimientoIntegrationTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No se puede modificar un mantenimiento cancelado");
     }
-} 
+
+    @Test
+    @DisplayName("Debe rechazar mantenimientos solapados y sugerir la próxima ventana libre")
+    @Transactional
+    void flujoMantenimiento_DebeRechazarSolapamientosYSugerirVentana() {
+        // Arrange - Programar mantenimiento a primera hora de mañana
+        LocalDateTime manana = LocalDateTime.now().plusDays(1).toLocalDate().atStartOfDay();
+        mantenimientoDomainService.programarMantenimiento(mantenimiento, vehiculo.getId(), fechaProgramada);
+
+        Mantenimiento solapado = new Mantenimiento();
+        solapado.setTipo(TipoMantenimiento.CORRECTIVO);
+        solapado.setVehiculo(vehiculo);
+
+        // Act & Assert - Un segundo mantenimiento 12 horas después se solapa
+        assertThatThrownBy(() -> mantenimientoDomainService.programarMantenimiento(
+                solapado, vehiculo.getId(), manana.plusHours(12).toString()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("24 horas");
+
+        // La próxima ventana libre empieza cuando termina la ocupada
+        assertThat(mantenimientoDomainService.buscarProximaVentana(vehiculo.getId(), manana.plusHours(1)))
+                .isEqualTo(manana.plusDays(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "CONDUCTOR")
+    @DisplayName("Un conductor debe poder consultar la próxima ventana libre de su vehículo")
+    void buscarProximaVentana_ConductorDebeTenerAcceso() throws Exception {
+        LocalDateTime desde = LocalDateTime.now().plusDays(3).withNano(0);
+
+        mockMvc.perform(get("/api/v1/mantenimientos/vehiculos/{vehiculoId}/proxima-ventana", vehiculo.getId())
+                        .param("desde", desde.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehiculoId").value(vehiculo.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe planificar la flota respetando la capacidad diaria y los mantenimientos existentes")
+    void planificarMantenimientos_DebeGuardarPlanSinSolapamientos() {
+        // Arrange - El vehículo del setUp ya tiene mantenimiento mañana
+        LocalDate manana = LocalDate.now().plusDays(1);
+        mantenimientoDomainService.programarMantenimiento(mantenimiento, vehiculo.getId(), fechaProgramada);
+        Vehiculo segundo = crearVehiculo("DEF456");
+        Vehiculo tercero = crearVehiculo("GHI789");
+
+        // Act
+        MantenimientoDomainService.Planificacion planificacion = mantenimientoDomainService.planificarMantenimientos(
+                TipoMantenimiento.PREVENTIVO, manana, 2, 2, "Revisión trimestral");
+
+        // Assert - El primer vehículo pasa al segundo día; los otros dos ocupan el cupo del primero
+        assertThat(planificacion.getVehiculosSinCupo()).isEmpty();
+        assertThat(planificacion.getProgramados()).allSatisfy(programado -> assertThat(programado.getId()).isNotNull());
+        assertThat(mantenimientoRepository.findByVehiculoIdAndEstadoAndFechaProgramadaBetween(
+                vehiculo.getId(), EstadoMantenimiento.PENDIENTE, manana.plusDays(1).atStartOfDay(),
+                manana.plusDays(1).atStartOfDay())).hasSize(1);
+        assertThat(mantenimientoRepository.findByFechaProgramadaBetween(manana.atStartOfDay(), manana.atStartOfDay()))
+                .extracting(programado -> programado.getVehiculo().getId())
+                .containsExactlyInAnyOrder(vehiculo.getId(), segundo.getId(), tercero.getId());
+        assertThat(mantenimientoRepository.findById(planificacion.getProgramados().get(0).getId()))
+                .get().extracting(Mantenimiento::getCreatedBy).isEqualTo("SYSTEM");
+
+        // El calendario conserva las ventanas planificadas tras el commit
+        assertThat(mantenimientoDomainService.buscarProximaVentana(segundo.getId(), manana.atStartOfDay()))
+                .isEqualTo(manana.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("El desgaste debe acumular entregas y reiniciarse al completar un mantenimiento")
+    void desgaste_DebeAcumularEntregasYReiniciarseConMantenimiento() {
+        // Arrange - Tres entregas antes del mantenimiento
+        for (int i = 0; i < 3; i++) {
+            entregarPedido(new BigDecimal("1000.00"));
+        }
+
+        // Assert - Los eventos y la carga desde la base coinciden
+        assertThat(desgasteDe(vehiculo.getId()).getViajes()).isEqualTo(3L);
+        assertThat(desgasteDe(vehiculo.getId()).getPesoEntregado()).isEqualByComparingTo("3000");
+        mantenimientoPredictivoService.cargarDesgaste();
+        assertThat(desgasteDe(vehiculo.getId()).getViajes()).isEqualTo(3L);
+        assertThat(desgasteDe(vehiculo.getId()).getPlaca()).isEqualTo("ABC123");
+
+        // Act - Completar un mantenimiento y entregar un pedido más
+        Mantenimiento creado = mantenimientoDomainService.programarMantenimiento(mantenimiento, vehiculo.getId(), fechaProgramada);
+        mantenimientoDomainService.actualizarEstadoMantenimiento(creado.getId(), EstadoMantenimiento.EN_PROCESO);
+        mantenimientoDomainService.actualizarEstadoMantenimiento(creado.getId(), EstadoMantenimiento.COMPLETADO);
+        assertThat(desgasteDe(vehiculo.getId()).getViajes()).isZero();
+        entregarPedido(new BigDecimal("500.00"));
+
+        // Assert - Solo cuenta la entrega posterior al mantenimiento
+        assertThat(desgasteDe(vehiculo.getId()).getPesoEntregado()).isEqualByComparingTo("500");
+        mantenimientoPredictivoService.cargarDesgaste();
+        assertThat(desgasteDe(vehiculo.getId()).getViajes()).isEqualTo(1L);
+        assertThat(desgasteDe(vehiculo.getId()).getPesoEntregado()).isEqualByComparingTo("500");
+    }
+
+    private void entregarPedido(BigDecimal peso) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Entrega de prueba");
+        pedido.setPeso(peso);
+        pedido.setEstado(EstadoPedido.EN_PROCESO);
+        pedido.setVehiculo(vehiculo);
+        pedido = pedidoRepository.save(pedido);
+
+        pedido.setEstado(EstadoPedido.ENTREGADO);
+        pedidoRepository.save(pedido);
+    }
+
+    private DesgasteVehiculoDTO desgasteDe(Long vehiculoId) {
+        return mantenimientoPredictivoService.obtenerRanking(500).stream()
+                .filter(desgaste -> desgaste.getVehiculoId().equals(vehiculoId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Vehiculo crearVehiculo(String placa) {
+        Vehiculo nuevo = new Vehiculo();
+        nuevo.setPlaca(placa);
+        nuevo.setCapacidad(new BigDecimal("1000.00"));
+        nuevo.setActivo(true);
+        return vehiculoRepository.save(nuevo);
+    }
+}
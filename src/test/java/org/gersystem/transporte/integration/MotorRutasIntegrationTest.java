@@ -0,0 +1,143 @@
+package org.gersystem.transporte.integration;
+
+import org.gersystem.transporte.application.MotorRutasService;
+import org.gersystem.transporte.domain.model.Ruta;
+import org.gersystem.transporte.domain.service.RutaDomainService;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.CaminoRutaDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.dto.MatrizRutasDTO;
+import org.gersystem.transporte.infrastructure.adapters.rest.exception.ResourceNotFoundException;
+import org.gersystem.transporte.infrastructure.routing.GrafoRutas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class MotorRutasIntegrationTest {
+
+    @Autowired
+    private MotorRutasService motorRutasService;
+
+    @Autowired
+    private RutaDomainService rutaDomainService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("El grafo debe seguir las activaciones y desactivaciones de rutas")
+    void calcularCamino_DebeSeguirActivacionesDeRutas() {
+        // Arrange
+        Ruta norteCentro = rutaDomainService.crearRuta(ruta("Norte-Centro", "Terminal Norte", "Centro", 10.0, 30));
+        rutaDomainService.crearRuta(ruta("Centro-Sur", "Centro", "Terminal Sur", 10.0, 30));
+        Ruta directa = rutaDomainService.crearRuta(ruta("Directa", "Terminal Norte", "Terminal Sur", 25.0, 40));
+
+        // Act & Assert: por distancia conviene pasar por el centro
+        CaminoRutaDTO camino = motorRutasService.calcularCamino("terminal norte", "Terminal Sur",
+                GrafoRutas.Criterio.DISTANCIA);
+        assertThat(camino.getDistanciaKm()).isEqualTo(20.0);
+        assertThat(camino.getTramos()).extracting(CaminoRutaDTO.TramoRutaDTO::getNombre)
+                .containsExactly("Norte-Centro", "Centro-Sur");
+
+        // Al desactivar un tramo se usa la ruta directa
+        rutaDomainService.desactivarRuta(norteCentro.getId());
+        camino = motorRutasService.calcularCamino("Terminal Norte", "Terminal Sur", GrafoRutas.Criterio.DISTANCIA);
+        assertThat(camino.getTramos()).extracting(CaminoRutaDTO.TramoRutaDTO::getRutaId)
+                .containsExactly(directa.getId());
+
+        // Sin ninguna ruta activa entre ambos puntos no hay camino
+        rutaDomainService.desactivarRuta(directa.getId());
+        assertThatThrownBy(() -> motorRutasService.calcularCamino("Terminal Norte", "Terminal Sur",
+                GrafoRutas.Criterio.DISTANCIA))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        rutaDomainService.activarRuta(norteCentro.getId());
+        camino = motorRutasService.calcularCamino("Terminal Norte", "Terminal Sur", GrafoRutas.Criterio.TIEMPO);
+        assertThat(camino.getTiempoEstimadoMinutos()).isEqualTo(60);
+    }
+
+    @Test
+    @WithMockUser(roles = "CONDUCTOR")
+    @DisplayName("Un conductor debe poder consultar el camino más corto")
+    void calcularCamino_ConductorDebeTenerAcceso() throws Exception {
+        rutaDomainService.crearRuta(ruta("Norte-Centro", "Terminal Norte", "Centro", 10.0, 30));
+
+        mockMvc.perform(get("/api/v1/rutas/camino")
+                        .param("origen", "Terminal Norte")
+                        .param("destino", "Centro"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distanciaKm").value(10.0));
+    }
+
+    @Test
+    @DisplayName("Un punto que no aparece en ninguna ruta debe informarse como no encontrado")
+    void calcularCamino_DebeRechazarPuntoDesconocido() {
+        rutaDomainService.crearRuta(ruta("Norte-Centro", "Terminal Norte", "Centro", 10.0, 30));
+
+        assertThatThrownBy(() -> motorRutasService.calcularCamino("Terminal Norte", "Luna",
+                GrafoRutas.Criterio.DISTANCIA))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Luna");
+    }
+
+    @Test
+    @DisplayName("La matriz debe reflejar la desactivación de una ruta usada por sus filas")
+    void calcularMatriz_DebeActualizarFilasAfectadas() {
+        Ruta norteCentro = rutaDomainService.crearRuta(ruta("Norte-Centro", "Terminal Norte", "Centro", 10.0, 30));
+        rutaDomainService.crearRuta(ruta("Centro-Sur", "Centro", "Terminal Sur", 10.0, 30));
+        List<String> puntos = List.of("Terminal Norte", "Centro", "Terminal Sur");
+
+        MatrizRutasDTO matriz = motorRutasService.calcularMatriz(puntos, puntos);
+        assertThat(matriz.getDistanciasKm().get(0)).containsExactly(0.0, 10.0, 20.0);
+        assertThat(matriz.getTiemposMinutos().get(0)).containsExactly(0, 30, 60);
+        assertThat(matriz.getDistanciasKm().get(2)).containsExactly(null, null, 0.0);
+
+        rutaDomainService.desactivarRuta(norteCentro.getId());
+        matriz = motorRutasService.calcularMatriz(puntos, puntos);
+        assertThat(matriz.getDistanciasKm().get(0)).isEqualTo(Arrays.asList(0.0, null, null));
+        assertThat(matriz.getDistanciasKm().get(1)).containsExactly(null, 0.0, 10.0);
+    }
+
+    @Test
+    @WithMockUser(roles = "CONDUCTOR")
+    @DisplayName("Un conductor debe poder pedir la matriz de distancias")
+    void calcularMatriz_ConductorDebeTenerAcceso() throws Exception {
+        rutaDomainService.crearRuta(ruta("Norte-Centro", "Terminal Norte", "Centro", 10.0, 30));
+
+        mockMvc.perform(post("/api/v1/rutas/matriz")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"origenes\":[\"Terminal Norte\"],\"destinos\":[\"Centro\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distanciasKm[0][0]").value(10.0));
+    }
+
+    private Ruta ruta(String nombre, String origen, String destino, double distancia, int tiempo) {
+        Ruta ruta = new Ruta();
+        ruta.setNombre(nombre);
+        ruta.setPuntoOrigen(origen);
+        ruta.setPuntoDestino(destino);
+        ruta.setDistanciaKm(distancia);
+        ruta.setTiempoEstimadoMinutos(tiempo);
+        ruta.setActiva(true);
+        return ruta;
+    }
+}
@@ -0,0 +1,151 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ProyeccionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        Vehiculo conConductor = crearVehiculo("ABC123", conductor);
+        Vehiculo sinConductor = crearVehiculo("DEF456", null);
+
+        crearPedido("100.00", conConductor, conductor);
+        crearPedido("250.00", sinConductor, null);
+        crearPedido("80.00", null, null);
+
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Debe devolver solo los campos pedidos, aplanados, sin cargar entidades")
+    void listarPedidos_DebeProyectarCampos() throws Exception {
+        // Act
+        JsonNode pagina = obtener("/api/v1/pedidos?fields=id,peso,vehiculoPlaca,conductorNombre&sort=peso,desc");
+
+        // Assert
+        JsonNode filas = pagina.get("content");
+        assertThat(pagina.get("totalElements").asLong()).isEqualTo(3);
+        assertThat(nombresDeCampos(filas.get(0))).containsExactly("id", "peso", "vehiculoPlaca", "conductorNombre");
+        assertThat(filas.get(0).get("vehiculoPlaca").asText()).isEqualTo("DEF456");
+        assertThat(filas.get(0).get("conductorNombre").isNull()).isTrue();
+        assertThat(filas.get(1).get("conductorNombre").asText()).isEqualTo("Juan Pérez");
+        assertThat(filas.get(2).get("vehiculoPlaca").isNull()).isTrue();
+        assertThat(estadisticas.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe proyectar vehículos y conductores con sus filtros")
+    void listarVehiculosYConductores_DebenProyectarCampos() throws Exception {
+        JsonNode vehiculos = obtener("/api/v1/vehiculos?fields=placa,conductorId&placa=abc");
+        assertThat(vehiculos.get("content")).hasSize(1);
+        assertThat(nombresDeCampos(vehiculos.get("content").get(0))).containsExactly("placa", "conductorId");
+        assertThat(vehiculos.get("content").get(0).get("conductorId").isNumber()).isTrue();
+
+        JsonNode conductores = obtener("/api/v1/conductores?fields=nombre&activo=true");
+        assertThat(conductores.get("content").get(0).get("nombre").asText()).isEqualTo("Juan Pérez");
+        assertThat(estadisticas.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar campos u órdenes que no están permitidos")
+    void listarPedidos_DebeRechazarCampoInvalido() throws Exception {
+        mockMvc.perform(get("/api/v1/pedidos").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/vehiculos").param("fields", "id").param("sort", "createdBy"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String cuerpo = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(cuerpo);
+    }
+
+    private List<String> nombresDeCampos(JsonNode fila) {
+        List<String> nombres = new ArrayList<>();
+        fila.fieldNames().forEachRemaining(nombres::add);
+        return nombres;
+    }
+
+    private Vehiculo crearVehiculo(String placa, Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private void crearPedido(String peso, Vehiculo vehiculo, Conductor conductor) {
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido de prueba");
+        pedido.setPeso(new BigDecimal(peso));
+        pedido.setEstado(EstadoPedido.PENDIENTE);
+        pedido.setVehiculo(vehiculo);
+        pedido.setConductor(conductor);
+        pedidoRepository.save(pedido);
+    }
+}
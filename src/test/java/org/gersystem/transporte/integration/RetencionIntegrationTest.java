@@ -0,0 +1,199 @@
+package org.gersystem.transporte.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.EstadoMantenimiento;
+import org.gersystem.transporte.domain.model.EstadoPedido;
+import org.gersystem.transporte.domain.model.Mantenimiento;
+import org.gersystem.transporte.domain.model.Pedido;
+import org.gersystem.transporte.domain.model.ProgresoRetencion;
+import org.gersystem.transporte.domain.model.ProgresoRetencion.Entidad;
+import org.gersystem.transporte.domain.model.TipoMantenimiento;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.MantenimientoRepository;
+import org.gersystem.transporte.domain.repository.PedidoRepository;
+import org.gersystem.transporte.domain.repository.ProgresoRetencionRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.gersystem.transporte.domain.service.RetencionDomainService;
+import org.gersystem.transporte.infrastructure.retencion.MotorRetencion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "transporte.retencion.tamano-tramo=2",
+        "transporte.retencion.pausa-ms=0"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RetencionIntegrationTest {
+
+    @Autowired
+    private MotorRetencion motorRetencion;
+
+    @SpyBean
+    private RetencionDomainService retencionDomainService;
+
+    @Autowired
+    private ProgresoRetencionRepository progresoRetencionRepository;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private MantenimientoRepository mantenimientoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Vehiculo activo;
+
+    @BeforeEach
+    void setUp() {
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Perez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+
+        activo = guardarVehiculo("ACT001", true, conductor);
+    }
+
+    @Test
+    @DisplayName("Debe purgar por tramos solo los datos vencidos y sin referencias")
+    void purgar_DebeEliminarSoloDatosVencidos() throws Exception {
+        // Arrange - Tres cancelados antiguos, uno reciente y un completado antiguo
+        for (int i = 0; i < 3; i++) {
+            guardarMantenimiento(activo, EstadoMantenimiento.CANCELADO);
+        }
+        Mantenimiento completado = guardarMantenimiento(activo, EstadoMantenimiento.COMPLETADO);
+        antiguedad("mantenimiento", 200);
+        Mantenimiento reciente = guardarMantenimiento(activo, EstadoMantenimiento.CANCELADO);
+
+        // Dos bajas antiguas: una sin historial y otra con un pedido
+        Vehiculo sinHistorial = guardarVehiculo("BAJ001", false, null);
+        Vehiculo conPedido = guardarVehiculo("BAJ002", false, activo.getConductor());
+        Pedido pedido = new Pedido();
+        pedido.setDescripcion("Pedido histórico");
+        pedido.setPeso(new BigDecimal("100.00"));
+        pedido.setVehiculo(conPedido);
+        pedido.setConductor(activo.getConductor());
+        pedido.setEstado(EstadoPedido.ENTREGADO);
+        pedidoRepository.save(pedido);
+        antiguedad("vehiculo", 400);
+
+        // Act
+        long mantenimientos = motorRetencion.purgar(Entidad.MANTENIMIENTO_CANCELADO, 90);
+        long vehiculos = motorRetencion.purgar(Entidad.VEHICULO_INACTIVO, 365);
+
+        // Assert
+        assertThat(mantenimientos).isEqualTo(3);
+        assertThat(mantenimientoRepository.findAll()).extracting(Mantenimiento::getId)
+                .containsExactlyInAnyOrder(completado.getId(), reciente.getId());
+        assertThat(vehiculos).isEqualTo(1);
+        assertThat(vehiculoRepository.findById(sinHistorial.getId())).isEmpty();
+        assertThat(vehiculoRepository.findById(conPedido.getId())).isPresent();
+        assertThat(vehiculoRepository.findById(activo.getId())).isPresent();
+
+        assertThat(progresoRetencionRepository.findById(Entidad.MANTENIMIENTO_CANCELADO))
+                .get().extracting(ProgresoRetencion::enCurso).isEqualTo(false);
+        assertThat(meterRegistry.get("transporte.retencion.eliminados")
+                .tag("entidad", "mantenimiento_cancelado").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Una pasada interrumpida debe continuar con su corte desde el último id eliminado")
+    void purgarTramo_DebeContinuarDesdeElAvanceGuardado() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            guardarMantenimiento(activo, EstadoMantenimiento.CANCELADO);
+        }
+        antiguedad("mantenimiento", 200);
+
+        // Act - Un solo tramo, como si la aplicación se detuviera a mitad de la pasada
+        RetencionDomainService.Tramo tramo = retencionDomainService.purgarTramo(
+                Entidad.MANTENIMIENTO_CANCELADO, 90, 2);
+
+        // Assert
+        assertThat(tramo.getEliminados()).isEqualTo(2);
+        assertThat(tramo.isTerminado()).isFalse();
+        ProgresoRetencion progreso = progresoRetencionRepository.findById(Entidad.MANTENIMIENTO_CANCELADO).orElseThrow();
+        assertThat(progreso.enCurso()).isTrue();
+        assertThat(progreso.getUltimoId()).isPositive();
+
+        // La siguiente ejecución retoma la pasada y la termina
+        assertThat(motorRetencion.purgar(Entidad.MANTENIMIENTO_CANCELADO, 90)).isEqualTo(1);
+        assertThat(mantenimientoRepository.count()).isZero();
+        assertThat(progresoRetencionRepository.findById(Entidad.MANTENIMIENTO_CANCELADO).orElseThrow().enCurso())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Una falla en un tipo no debe impedir purgar los siguientes")
+    void purgar_ConFallaEnUnTipo_DebeContinuarConLosSiguientes() throws Exception {
+        // Arrange
+        guardarMantenimiento(activo, EstadoMantenimiento.CANCELADO);
+        antiguedad("mantenimiento", 200);
+        Vehiculo sinHistorial = guardarVehiculo("BAJ001", false, null);
+        antiguedad("vehiculo", 400);
+        doThrow(new IllegalStateException("Falla simulada"))
+                .when(retencionDomainService).purgarTramo(eq(Entidad.MANTENIMIENTO_CANCELADO), anyInt(), anyInt());
+
+        // Act
+        motorRetencion.purgar();
+
+        // Assert - Los mantenimientos quedan para la próxima ejecución y los vehículos se purgan
+        assertThat(mantenimientoRepository.count()).isEqualTo(1);
+        assertThat(vehiculoRepository.findById(sinHistorial.getId())).isEmpty();
+    }
+
+    private Vehiculo guardarVehiculo(String placa, boolean estaActivo, Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(estaActivo);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+
+    private Mantenimiento guardarMantenimiento(Vehiculo vehiculo, EstadoMantenimiento estado) {
+        Mantenimiento mantenimiento = new Mantenimiento();
+        mantenimiento.setVehiculo(vehiculo);
+        mantenimiento.setFechaProgramada(LocalDateTime.now().plusDays(10));
+        mantenimiento.setTipo(TipoMantenimiento.PREVENTIVO);
+        mantenimiento.setDescripcion("Revisión");
+        mantenimiento.setEstado(estado);
+        return mantenimientoRepository.save(mantenimiento);
+    }
+
+    private void antiguedad(String tabla, int dias) {
+        Timestamp fecha = Timestamp.valueOf(LocalDateTime.now().minusDays(dias));
+        String filtro = tabla.equals("vehiculo") ? " WHERE activo = false" : "";
+        jdbcTemplate.update("UPDATE " + tabla + " SET last_modified_date = ?" + filtro, fecha);
+    }
+}
@@ -0,0 +1,89 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SerializacionIntegrationTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    private Vehiculo vehiculo;
+
+    @BeforeEach
+    void setUp() {
+        vehiculo = new Vehiculo();
+        vehiculo.setPlaca("ABC123");
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo = vehiculoRepository.save(vehiculo);
+    }
+
+    @Test
+    @DisplayName("Debe responder en JSON, Smile o CBOR según el encabezado Accept")
+    void obtenerVehiculo_DebeNegociarFormato() throws Exception {
+        JsonNode json = new ObjectMapper().readTree(obtener(MediaType.APPLICATION_JSON));
+        JsonNode smile = new ObjectMapper(new SmileFactory()).readTree(obtener(SMILE));
+        JsonNode cbor = new ObjectMapper(new CBORFactory()).readTree(obtener(CBOR));
+
+        for (JsonNode respuesta : new JsonNode[]{json, smile, cbor}) {
+            assertThat(respuesta.get("id").asLong()).isEqualTo(vehiculo.getId());
+            assertThat(respuesta.get("placa").asText()).isEqualTo("ABC123");
+            assertThat(respuesta.get("capacidad").decimalValue()).isEqualByComparingTo("1000");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe registrar tamaño y tiempo de serialización por formato")
+    void obtenerVehiculo_DebeRegistrarMetricas() throws Exception {
+        byte[] cuerpo = obtener(SMILE);
+
+        assertThat(meterRegistry.get("transporte.respuesta.bytes").tag("formato", "smile").summary().totalAmount())
+                .isEqualTo(cuerpo.length);
+        assertThat(meterRegistry.get("transporte.respuesta.serializacion").tag("formato", "smile").timer().count())
+                .isEqualTo(1);
+    }
+
+    private byte[] obtener(MediaType formato) throws Exception {
+        return mockMvc.perform(get("/api/v1/vehiculos/" + vehiculo.getId()).accept(formato))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package org.gersystem.transporte.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gersystem.transporte.domain.model.Conductor;
+import org.gersystem.transporte.domain.model.Vehiculo;
+import org.gersystem.transporte.domain.repository.ConductorRepository;
+import org.gersystem.transporte.domain.repository.VehiculoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "transporte.sincronizacion.margen-segundos=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SincronizacionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private ConductorRepository conductorRepository;
+
+    @Test
+    @DisplayName("Debe recorrer los cambios por páginas y luego informar solo las bajas nuevas")
+    void sincronizarVehiculos_DebeDevolverCambiosDesdeCursor() throws Exception {
+        // Arrange
+        Conductor conductor = new Conductor();
+        conductor.setNombre("Juan Pérez");
+        conductor.setLicencia("A12345");
+        conductor.setActivo(true);
+        conductor = conductorRepository.save(conductor);
+        Vehiculo primero = crearVehiculo("ABC123", conductor);
+        crearVehiculo("DEF456", null);
+        crearVehiculo("GHI789", null);
+
+        // Act - Sincronización inicial en dos páginas
+        JsonNode pagina1 = obtener("/api/v1/vehiculos/sincronizacion?limite=2");
+        JsonNode pagina2 = obtener("/api/v1/vehiculos/sincronizacion?limite=2&cursor=" + pagina1.get("cursor").asText());
+
+        assertThat(pagina1.get("cambios")).hasSize(2);
+        assertThat(pagina1.get("hayMas").asBoolean()).isTrue();
+        assertThat(pagina1.get("cambios").get(0).get("conductorId").asLong()).isEqualTo(conductor.getId());
+        assertThat(pagina2.get("cambios")).hasSize(1);
+        assertThat(pagina2.get("cambios").get(0).get("placa").asText()).isEqualTo("GHI789");
+        assertThat(pagina2.get("hayMas").asBoolean()).isFalse();
+
+        // Act - Baja lógica de un vehículo ya sincronizado
+        primero.setActivo(false);
+        vehiculoRepository.save(primero);
+        JsonNode delta = obtener("/api/v1/vehiculos/sincronizacion?cursor=" + pagina2.get("cursor").asText());
+
+        // Assert
+        assertThat(delta.get("cambios")).isEmpty();
+        assertThat(delta.get("eliminados")).hasSize(1);
+        assertThat(delta.get("eliminados").get(0).asLong()).isEqualTo(primero.getId());
+
+        JsonNode sinCambios = obtener("/api/v1/vehiculos/sincronizacion?cursor=" + delta.get("cursor").asText());
+        assertThat(sinCambios.get("cambios")).isEmpty();
+        assertThat(sinCambios.get("eliminados")).isEmpty();
+        assertThat(sinCambios.get("cursor").asText()).isEqualTo(delta.get("cursor").asText());
+
+        JsonNode conductores = obtener("/api/v1/conductores/sincronizacion");
+        assertThat(conductores.get("cambios").get(0).get("licencia").asText()).isEqualTo("A12345");
+        assertThat(obtener("/api/v1/rutas/sincronizacion").get("cambios")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor mal formado o un límite fuera de rango")
+    void sincronizar_DebeValidarParametros() throws Exception {
+        mockMvc.perform(get("/api/v1/vehiculos/sincronizacion").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/rutas/sincronizacion").param("limite", "5000"))
+                .andExpect(status().isBadRequest());
+
+        // Las bajas de vehículos se purgan al vencer su retención: un cursor más antiguo debe reiniciar
+        mockMvc.perform(get("/api/v1/vehiculos/sincronizacion").param("cursor", "1000000-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/conductores/sincronizacion").param("cursor", "1000000-1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "CONDUCTOR")
+    @DisplayName("Las tabletas de los conductores deben poder sincronizar vehículos, conductores y rutas")
+    void sincronizar_ConductorDebeTenerAcceso() throws Exception {
+        for (String recurso : new String[]{"vehiculos", "conductores", "rutas"}) {
+            mockMvc.perform(get("/api/v1/" + recurso + "/sincronizacion"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENTE")
+    @DisplayName("Un cliente no debe poder sincronizar la flota")
+    void sincronizar_ClienteDebeSerRechazado() throws Exception {
+        for (String recurso : new String[]{"vehiculos", "conductores", "rutas"}) {
+            mockMvc.perform(get("/api/v1/" + recurso + "/sincronizacion"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    private JsonNode obtener(String url) throws Exception {
+        String cuerpo = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(cuerpo);
+    }
+
+    private Vehiculo crearVehiculo(String placa, Conductor conductor) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setPlaca(placa);
+        vehiculo.setCapacidad(new BigDecimal("1000.00"));
+        vehiculo.setActivo(true);
+        vehiculo.setConductor(conductor);
+        return vehiculoRepository.save(vehiculo);
+    }
+}